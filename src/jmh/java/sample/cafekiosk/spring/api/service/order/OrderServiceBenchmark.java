@@ -0,0 +1,99 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import sample.cafekiosk.spring.CafekioskApplication;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.repository.ProductRepository;
+import sample.cafekiosk.spring.repository.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 전체 흐름 벤치마크 (상품 조회 -> 재고 차감 -> 주문 저장 -> 응답 변환)
+ * - Embedded H2(In-Memory) 위에서 애플리케이션 컨텍스트를 띄워 OrderService.createOrder()를 호출한다.
+ * - test 프로필로 스키마를 만들고, SQL 로그와 웹 서버는 측정에 영향을 주지 않도록 끈다.
+ * - 상품 캐시는 운영과 같은 설정으로 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    private final LocalDateTime registeredDateTime = LocalDateTime.of(2023, 1, 1, 12, 0);
+    private final OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+            .productNos(List.of("001", "002", "002", "003"))
+            .build();
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CafekioskApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.main.banner-mode=off"
+                        , "spring.jpa.show-sql=false"
+                        , "spring.jpa.properties.hibernate.format_sql=false"
+                        , "logging.level.root=warn"
+                )
+                .run();
+
+        context.getBean(ProductRepository.class).saveAll(List.of(
+                createProduct("001", ProductType.HANDMADE, 4000)
+                , createProduct("002", ProductType.BOTTLE, 3000)
+                , createProduct("003", ProductType.BAKERY, 5000)
+        ));
+        // 측정 중 재고가 부족해지지 않도록 충분한 재고를 준비한다.
+        context.getBean(StockRepository.class).saveAll(List.of(
+                Stock.create("002", Integer.MAX_VALUE)
+                , Stock.create("003", Integer.MAX_VALUE)
+        ));
+
+        orderService = context.getBean(OrderService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.createOrder(request, registeredDateTime);
+    }
+
+    private static Product createProduct(String productNo, ProductType productType, int price) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(productType)
+                .productStatus(ProductStatus.SELLING)
+                .productName("상품" + productNo)
+                .productPrice(price)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 -> 응답 변환 벤치마크
+ * - of() : 주문 라인 + 주문 라인별 상품 리스트
+ * - compact() : 주문 라인만 포함하는 응답
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseBenchmark {
+
+    @Param({"3", "30", "300"})
+    private int productCount;
+
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        List<Product> distinctProducts = List.of(
+                createProduct("001", ProductType.HANDMADE, 4000)
+                , createProduct("002", ProductType.BOTTLE, 3000)
+                , createProduct("003", ProductType.BAKERY, 5000)
+        );
+
+        List<Product> products = new ArrayList<>();
+        for (int index = 0; index < productCount; index++) {
+            products.add(distinctProducts.get(index % distinctProducts.size()));
+        }
+        order = Order.create(products, LocalDateTime.of(2023, 1, 1, 12, 0));
+    }
+
+    @Benchmark
+    public OrderResponse of() {
+        return OrderResponse.of(order);
+    }
+
+    @Benchmark
+    public OrderResponse compact() {
+        return OrderResponse.of(order).compact();
+    }
+
+    private static Product createProduct(String productNo, ProductType productType, int price) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(productType)
+                .productStatus(ProductStatus.SELLING)
+                .productName("상품" + productNo)
+                .productPrice(price)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package sample.cafekiosk.spring.domain.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성(주문 라인 묶기 + 총 금액 계산) 벤치마크
+ * - productCount : 주문에 담긴 상품 수 (distinctProductCount 종류의 상품을 반복해서 담는다)
+ * - 총 금액(calculateTotalPrice)은 Order 생성자에서 계산되기 때문에 create()에 포함되어 측정된다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Param({"3", "30", "300"})
+    private int productCount;
+
+    @Param({"3"})
+    private int distinctProductCount;
+
+    private final LocalDateTime registeredDateTime = LocalDateTime.of(2023, 1, 1, 12, 0);
+
+    private List<Product> products;
+
+    @Setup
+    public void setUp() {
+        List<Product> distinctProducts = new ArrayList<>();
+        for (int index = 0; index < distinctProductCount; index++) {
+            distinctProducts.add(createProduct(String.format("%03d", index + 1), 1000 * (index + 1)));
+        }
+
+        products = new ArrayList<>();
+        for (int index = 0; index < productCount; index++) {
+            products.add(distinctProducts.get(index % distinctProductCount));
+        }
+    }
+
+    @Benchmark
+    public Order create() {
+        return Order.create(products, registeredDateTime);
+    }
+
+    private static Product createProduct(String productNo, int price) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(ProductType.BOTTLE)
+                .productStatus(ProductStatus.SELLING)
+                .productName("상품" + productNo)
+                .productPrice(price)
+                .build();
+    }
+}
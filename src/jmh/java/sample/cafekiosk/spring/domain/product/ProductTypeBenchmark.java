@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.domain.product;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 차감 대상 상품 타입 판별 벤치마크 (주문 상품마다 호출된다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductTypeBenchmark {
+
+    @Param({"HANDMADE", "BOTTLE", "BAKERY"})
+    private ProductType productType;
+
+    @Benchmark
+    public boolean containsStockType() {
+        return ProductType.containsStockType(productType);
+    }
+}
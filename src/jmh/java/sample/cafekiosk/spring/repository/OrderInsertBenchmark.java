@@ -0,0 +1,98 @@
+package sample.cafekiosk.spring.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import sample.cafekiosk.spring.CafekioskApplication;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 저장 처리량 벤치마크 (주문 1건 = 트랜잭션 1개, OrderService.createOrder와 동일)
+ * - itemCount : 주문에 담긴 상품 종류 수 (상품마다 주문 상품 1건이 저장된다)
+ * - 이전 커밋(IDENTITY 전략)에서 같은 벤치마크를 실행하면 변경 전/후 처리량을 비교할 수 있다.
+ * - 저장 시 실행되는 구문 수는 OrderRepositoryInsertCountTest에서 검증한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderInsertBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private final LocalDateTime registeredDateTime = LocalDateTime.of(2023, 1, 1, 12, 0);
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private Map<Product, Integer> productQuantities;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CafekioskApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.main.banner-mode=off"
+                        , "spring.jpa.show-sql=false"
+                        , "spring.jpa.properties.hibernate.format_sql=false"
+                        , "logging.level.root=warn"
+                )
+                .run();
+
+        List<Product> products = new ArrayList<>();
+        for (int index = 0; index < itemCount; index++) {
+            products.add(createProduct(String.format("%03d", index + 1)));
+        }
+
+        productQuantities = new LinkedHashMap<>();
+        context.getBean(ProductRepository.class).saveAll(products)
+                .forEach(product -> productQuantities.put(product, 1));
+
+        orderRepository = context.getBean(OrderRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order save() {
+        return orderRepository.save(Order.create(productQuantities, registeredDateTime));
+    }
+
+    private static Product createProduct(String productNo) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(ProductType.HANDMADE)
+                .productStatus(ProductStatus.SELLING)
+                .productName("상품" + productNo)
+                .productPrice(4000)
+                .build();
+    }
+}
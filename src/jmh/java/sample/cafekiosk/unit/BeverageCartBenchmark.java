@@ -0,0 +1,66 @@
+package sample.cafekiosk.unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sample.cafekiosk.unit.drink.Beverage;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BeverageCart 담기 / 빼기 / 총 금액 조회 벤치마크
+ * - 담기 / 빼기 / 총 금액 조회는 객체를 생성하지 않으므로 -prof gc 로 실행하면 gc.alloc.rate.norm 이 0에 가까워야 한다.
+ * - putAndSnapshot : 주문 생성(스냅샷) 직후 주문 목록을 변경하는 경우. 스냅샷 생성은 O(1)이며, 변경 시 수량 배열을 한 번 새로 만든다.
+ * - toBeverages()는 주문 내용 조회 시에만 호출되는 Beverage 목록 생성 비용을 비교하기 위해 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeverageCartBenchmark {
+
+    private BeverageCart cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cart = new BeverageCart();
+        cart.put(BeverageProduct.AMERICANO, 2);
+        cart.put(BeverageProduct.LATTE, 3);
+    }
+
+    @Benchmark
+    public int putAndRemove() {
+        cart.remove(BeverageProduct.LATTE);
+        cart.put(BeverageProduct.LATTE, 3);
+        return cart.getTotalPrice();
+    }
+
+    @Benchmark
+    public int getTotalPrice() {
+        return cart.getTotalPrice();
+    }
+
+    @Benchmark
+    public CartSnapshot putAndSnapshot() {
+        cart.remove(BeverageProduct.LATTE);
+        cart.put(BeverageProduct.LATTE, 3);
+        return cart.snapshot();
+    }
+
+    @Benchmark
+    public Map<String, Beverage> toBeverages() {
+        return cart.toBeverages();
+    }
+}
@@ -0,0 +1,54 @@
+package sample.cafekiosk.unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sample.cafekiosk.unit.drink.Americano;
+import sample.cafekiosk.unit.drink.Latte;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CafeKiosk 음료 담기 / 총 금액 계산 벤치마크
+ * - put()은 같은 음료를 덮어쓰기 때문에 반복해도 주문 목록의 크기가 변하지 않는다.
+ *   -> 호출마다 키오스크를 새로 만들지 않고(Level.Invocation은 나노초 단위 측정을 왜곡한다) Trial 단위로 준비한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CafeKioskBenchmark {
+
+    private final Americano americano = new Americano(2);
+    private final Latte latte = new Latte(3);
+
+    private CafeKiosk cafeKiosk;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cafeKiosk = new CafeKiosk();
+        cafeKiosk.put(americano);
+        cafeKiosk.put(latte);
+    }
+
+    @Benchmark
+    public CafeKiosk put() {
+        cafeKiosk.put(americano);
+        return cafeKiosk;
+    }
+
+    @Benchmark
+    public int calculateTotalPrice() {
+        return cafeKiosk.calculateTotalPrice();
+    }
+}
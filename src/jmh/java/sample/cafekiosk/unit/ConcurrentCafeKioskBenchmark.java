@@ -0,0 +1,79 @@
+package sample.cafekiosk.unit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import sample.cafekiosk.unit.drink.Americano;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.drink.Latte;
+import sample.cafekiosk.unit.order.Order;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단말기 수(스레드 수) 1 / 4 / 16 에서의 ConcurrentCafeKiosk 처리량
+ * - 단말기 1대의 주문 1건 = 음료 담기 2번 + 빼기 1번 + 총 금액 계산 + 주문 생성
+ * - 키오스크는 모든 스레드가 공유하고(Scope.Benchmark), 세션은 스레드(단말기)마다 연다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentCafeKioskBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class KioskState {
+        private final ConcurrentCafeKiosk cafeKiosk = new ConcurrentCafeKiosk();
+    }
+
+    @State(Scope.Thread)
+    public static class TerminalState {
+        private final Americano americano = new Americano(2);
+        private final Latte latte = new Latte(1);
+        private final LocalDateTime orderDateTime = LocalDateTime.of(2023, 1, 17, 12, 0);
+        private ConcurrentCafeKiosk.KioskSession session;
+
+        @Setup
+        public void setUp(KioskState kioskState, ThreadParams threadParams) {
+            session = kioskState.cafeKiosk.openSession("terminal-" + threadParams.getThreadIndex());
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Order terminals01(TerminalState terminal) {
+        return order(terminal);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Order terminals04(TerminalState terminal) {
+        return order(terminal);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Order terminals16(TerminalState terminal) {
+        return order(terminal);
+    }
+
+    private static Order order(TerminalState terminal) {
+        ConcurrentCafeKiosk.KioskSession session = terminal.session;
+        session.put(terminal.americano);
+        session.put(terminal.latte);
+        session.remove(BeverageProduct.LATTE);
+        session.calculateTotalPrice();
+        return session.createOrder(terminal.orderDateTime);
+    }
+}
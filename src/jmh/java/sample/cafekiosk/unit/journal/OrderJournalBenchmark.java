@@ -0,0 +1,77 @@
+package sample.cafekiosk.unit.journal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import sample.cafekiosk.unit.CartSnapshot;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.order.Order;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 주문 저널 기록 처리량 (초당 주문 수)
+ * - durabilityIntervalMillis = 0 : 주문마다 디스크에 반영(force)하는 경우
+ * - durabilityIntervalMillis > 0 : 주기적으로 디스크에 반영하는 경우
+ * 측정 반복(iteration)마다 임시 디렉토리에 새 저널을 열고, 반복이 끝나면 삭제한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderJournalBenchmark {
+
+    @Param({"0", "200"})
+    private long durabilityIntervalMillis;
+
+    private final Order order = new Order(
+            UUID.randomUUID(),
+            LocalDateTime.of(2023, 11, 18, 14, 0),
+            CartSnapshot.of(Map.of(BeverageProduct.AMERICANO, 2, BeverageProduct.LATTE, 1))
+    );
+
+    private Path directory;
+    private OrderJournal orderJournal;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("order-journal-benchmark");
+        orderJournal = OrderJournal.open(directory, OrderJournalOptions.builder()
+                .durabilityInterval(Duration.ofMillis(durabilityIntervalMillis))
+                .build());
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        orderJournal.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void append() {
+        orderJournal.append(order);
+    }
+}
@@ -0,0 +1,95 @@
+package sample.cafekiosk.unit.pricing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sample.cafekiosk.unit.BeverageCart;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활성 규칙 수(10 ~ 200)에 따른 가격 정책 적용 비용
+ * - reprice : 단말기에서 음료를 한 번 누를 때마다(담기) 총 금액을 다시 계산하는 경우. -prof gc 로 할당이 없는지 확인한다.
+ * - compile : 규칙 변경 시 한 번만 발생하는 컴파일 비용
+ * 규칙은 고정된 seed로 해피아워 / 묶음 할인 / 음료별 상한을 번갈아 만든다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingEngineBenchmark {
+
+    @Param({"10", "50", "100", "200"})
+    private int ruleCount;
+
+    private List<PricingRule> rules;
+    private PricingEngine pricingEngine;
+    private BeverageCart cart;
+    private int minuteOfDay;
+    private int americanoCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rules = createRules(ruleCount, new Random(42));
+        pricingEngine = PricingEngine.compile(rules);
+
+        cart = new BeverageCart();
+        cart.put(BeverageProduct.AMERICANO, 3);
+        cart.put(BeverageProduct.LATTE, 2);
+    }
+
+    @Benchmark
+    public int reprice() {
+        americanoCount = americanoCount % 5 + 1;
+        minuteOfDay = (minuteOfDay + 7) % (24 * 60);
+
+        cart.put(BeverageProduct.AMERICANO, americanoCount);
+        return cart.calculateTotalPrice(pricingEngine, minuteOfDay);
+    }
+
+    @Benchmark
+    public PricingEngine compile() {
+        return PricingEngine.compile(rules);
+    }
+
+    private static List<PricingRule> createRules(int ruleCount, Random random) {
+        BeverageProduct[] products = BeverageProduct.values();
+
+        List<PricingRule> rules = new ArrayList<>();
+        for (int index = 0; index < ruleCount; index++) {
+            BeverageProduct product = products[random.nextInt(products.length)];
+            switch (index % 3) {
+                case 0:
+                    LocalTime startTime = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+                    rules.add(PricingRule.happyHour(product, startTime, startTime.plusMinutes(60 + random.nextInt(120)), 5 + random.nextInt(46)));
+                    break;
+                case 1:
+                    rules.add(PricingRule.bundle(
+                            Map.of(BeverageProduct.AMERICANO, 1 + random.nextInt(3), BeverageProduct.LATTE, 1 + random.nextInt(3)),
+                            200 + random.nextInt(1800)
+                    ));
+                    break;
+                default:
+                    rules.add(PricingRule.lineCap(product, 8000 + random.nextInt(32000)));
+            }
+        }
+        return rules;
+    }
+}
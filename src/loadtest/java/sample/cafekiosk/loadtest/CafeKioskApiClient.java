@@ -0,0 +1,110 @@
+package sample.cafekiosk.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 부하 테스트 대상 API 호출
+ * - 주문에 사용할 상품(제조 음료, 재고 차감 없음)은 시작 전에 등록한다.
+ * - 부하 중 등록하는 상품은 보류(HOLD) 상태로 등록하여, 판매 상품 조회 결과의 크기가 측정 중에 늘어나지 않도록 한다.
+ */
+public class CafeKioskApiClient {
+
+    private static final int CATALOG_SIZE = 3;
+    private static final int MAX_ORDER_PRODUCT_COUNT = 3;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+    private final Duration requestTimeout;
+    private final List<String> catalogProductNos = new ArrayList<>();
+
+    public CafeKioskApiClient(HttpClient httpClient, URI baseUri, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.baseUri = baseUri;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public void prepareCatalog() throws IOException, InterruptedException {
+        for (int index = 1; index <= CATALOG_SIZE; index++) {
+            HttpResponse<String> response = httpClient.send(
+                    createProductRequest("부하테스트 음료 " + index, "SELLING"), HttpResponse.BodyHandlers.ofString()
+            );
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("주문할 상품을 등록하지 못했습니다. status=" + response.statusCode() + ", body=" + response.body());
+            }
+
+            JsonNode productNo = objectMapper.readTree(response.body()).path("data").path("productNo");
+            catalogProductNos.add(productNo.asText());
+        }
+    }
+
+    public HttpResponse<Void> send(Operation operation, Random random) throws IOException, InterruptedException {
+        return httpClient.send(createRequest(operation, random), HttpResponse.BodyHandlers.discarding());
+    }
+
+    public CompletableFuture<HttpResponse<Void>> sendAsync(Operation operation, Random random) {
+        return httpClient.sendAsync(createRequest(operation, random), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest createRequest(Operation operation, Random random) {
+        switch (operation) {
+            case ORDER_CREATE:
+                return createOrderRequest(random);
+            case PRODUCT_CREATE:
+                return createProductRequest("부하테스트 신규 음료", "HOLD");
+            case PRODUCTS_SELLING:
+                return HttpRequest.newBuilder(baseUri.resolve("/api/v1/products/selling"))
+                        .timeout(requestTimeout)
+                        .GET()
+                        .build();
+            default:
+                throw new IllegalArgumentException("지원하지 않는 요청입니다. operation=" + operation);
+        }
+    }
+
+    private HttpRequest createOrderRequest(Random random) {
+        int productCount = 1 + random.nextInt(MAX_ORDER_PRODUCT_COUNT);
+        List<String> productNos = new ArrayList<>();
+        for (int index = 0; index < productCount; index++) {
+            productNos.add(catalogProductNos.get(random.nextInt(catalogProductNos.size())));
+        }
+
+        return postJson("/api/v1/orders/new", Map.of("productNos", productNos));
+    }
+
+    private HttpRequest createProductRequest(String productName, String productStatus) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("productType", "HANDMADE");
+        body.put("productStatus", productStatus);
+        body.put("productName", productName);
+        body.put("productPrice", 4000);
+
+        return postJson("/api/v1/products/new", body);
+    }
+
+    private HttpRequest postJson(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(baseUri.resolve(path))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
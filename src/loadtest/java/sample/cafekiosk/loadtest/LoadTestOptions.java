@@ -0,0 +1,119 @@
+package sample.cafekiosk.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (key=value 형태의 실행 인자)
+ * - baseUrl : 부하를 줄 애플리케이션 주소
+ * - mode : closed(동시 사용자 수 고정, 응답을 받아야 다음 요청) / fixed-rate(초당 요청 수 고정)
+ * - concurrency : closed 모드의 동시 사용자 수
+ * - rate : fixed-rate 모드의 초당 요청 수
+ * - maxInFlight : fixed-rate 모드에서 응답을 기다리는 요청이 이 수를 넘으면 요청을 보내지 않고 dropped로 기록한다.
+ * - warmupSeconds / durationSeconds : 워밍업 시간(결과에서 제외) / 측정 시간
+ * - mix : 요청 비율 (ex. order:6,product:1,selling:3)
+ * - report : JSON 결과 파일 경로
+ */
+public class LoadTestOptions {
+
+    private final URI baseUri;
+    private final LoadMode mode;
+    private final int concurrency;
+    private final int rate;
+    private final int maxInFlight;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Duration requestTimeout;
+    private final OperationMix mix;
+    private final String reportPath;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.baseUri = URI.create(values.getOrDefault("baseUrl", "http://localhost:8080"));
+        this.mode = LoadMode.of(values.getOrDefault("mode", "closed"));
+        this.concurrency = positive(values, "concurrency", 50);
+        this.rate = positive(values, "rate", 200);
+        this.maxInFlight = positive(values, "maxInFlight", 1000);
+        this.warmup = Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmupSeconds", "5")));
+        this.duration = Duration.ofSeconds(positive(values, "durationSeconds", 30));
+        this.requestTimeout = Duration.ofMillis(positive(values, "timeoutMillis", 5000));
+        this.mix = OperationMix.parse(values.getOrDefault("mix", "order:6,product:1,selling:3"));
+        this.reportPath = values.getOrDefault("report", "build/reports/loadtest/result.json");
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (index < 1) {
+                throw new IllegalArgumentException("실행 인자는 key=value 형식이어야 합니다. arg=" + arg);
+            }
+            values.put(arg.substring(0, index), arg.substring(index + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    private static int positive(Map<String, String> values, String key, int defaultValue) {
+        int value = Integer.parseInt(values.getOrDefault(key, String.valueOf(defaultValue)));
+        if (value < 1) {
+            throw new IllegalArgumentException(key + "는 1 이상이어야 합니다.");
+        }
+        return value;
+    }
+
+    public URI getBaseUri() {
+        return baseUri;
+    }
+
+    public LoadMode getMode() {
+        return mode;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Duration getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    public OperationMix getMix() {
+        return mix;
+    }
+
+    public String getReportPath() {
+        return reportPath;
+    }
+
+    public enum LoadMode {
+        CLOSED, FIXED_RATE;
+
+        static LoadMode of(String value) {
+            switch (value) {
+                case "closed":
+                    return CLOSED;
+                case "fixed-rate":
+                    return FIXED_RATE;
+                default:
+                    throw new IllegalArgumentException("mode는 closed 또는 fixed-rate 입니다. mode=" + value);
+            }
+        }
+    }
+}
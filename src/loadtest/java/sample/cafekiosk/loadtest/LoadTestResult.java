@@ -0,0 +1,164 @@
+package sample.cafekiosk.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpTimeoutException;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 응답 시간(HdrHistogram, 마이크로초)과 오류 집계
+ * - 2xx 응답만 응답 시간 분포에 기록하고, 그 외 응답 / 예외는 오류 종류별로 센다.
+ * - fixed-rate 모드는 요청을 보냈어야 하는 시각부터 응답 시간을 잰다. (Coordinated Omission 보정)
+ */
+public class LoadTestResult {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errorCounts = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> errorBreakdown = new ConcurrentHashMap<>();
+
+    public LoadTestResult() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errorCounts.put(operation, new LongAdder());
+        }
+    }
+
+    public void recordResponse(Operation operation, int statusCode, long latencyNanos) {
+        if (statusCode >= 200 && statusCode < 300) {
+            long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+            histograms.get(operation).recordValue(micros);
+            return;
+        }
+        recordError(operation, "HTTP " + statusCode);
+    }
+
+    public void recordFailure(Operation operation, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        recordError(operation, cause instanceof HttpTimeoutException ? "TIMEOUT" : cause.getClass().getSimpleName());
+    }
+
+    public void recordDropped(Operation operation) {
+        recordError(operation, "DROPPED");
+    }
+
+    private void recordError(Operation operation, String type) {
+        errorCounts.get(operation).increment();
+        errorBreakdown.computeIfAbsent(operation.getKey() + " " + type, key -> new LongAdder()).increment();
+    }
+
+    public Map<String, Object> summarize(LoadTestOptions options, double measuredSeconds) {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        long totalSuccess = 0;
+        long totalError = 0;
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long success = histogram.getTotalCount();
+            long error = errorCounts.get(operation).sum();
+            if (success + error == 0) {
+                continue;
+            }
+
+            totalSuccess += success;
+            totalError += error;
+            total.add(histogram);
+            operations.put(operation.getKey(), summarize(operation.getDescription(), histogram, success, error, measuredSeconds));
+        }
+
+        Map<String, Object> errors = new TreeMap<>();
+        errorBreakdown.forEach((key, count) -> errors.put(key, count.sum()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("mode", options.getMode().name());
+        summary.put("baseUrl", options.getBaseUri().toString());
+        summary.put("concurrency", options.getMode() == LoadTestOptions.LoadMode.CLOSED ? options.getConcurrency() : null);
+        summary.put("targetRate", options.getMode() == LoadTestOptions.LoadMode.FIXED_RATE ? options.getRate() : null);
+        summary.put("mix", options.getMix().toString());
+        summary.put("measuredSeconds", measuredSeconds);
+        summary.put("total", summarize("ALL", total, totalSuccess, totalError, measuredSeconds));
+        summary.put("operations", operations);
+        summary.put("errors", errors);
+        return summary;
+    }
+
+    private static Map<String, Object> summarize(String description, Histogram histogram, long success, long error, double measuredSeconds) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+        latency.put("p90", millis(histogram.getValueAtPercentile(90)));
+        latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+        latency.put("p99.9", millis(histogram.getValueAtPercentile(99.9)));
+        latency.put("max", millis(histogram.getMaxValue()));
+        latency.put("mean", millis((long) histogram.getMean()));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("api", description);
+        summary.put("requests", success + error);
+        summary.put("success", success);
+        summary.put("errors", error);
+        summary.put("throughput", (success + error) / measuredSeconds);
+        summary.put("successThroughput", success / measuredSeconds);
+        summary.put("latencyMillis", latency);
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void print(Map<String, Object> summary, PrintStream out) {
+        out.printf("%n[부하 테스트 결과] mode=%s, mix=%s, 측정 시간=%.1fs%n",
+                summary.get("mode"), summary.get("mix"), (double) summary.get("measuredSeconds"));
+        out.printf("%-32s %9s %9s %10s %9s %9s %9s %9s %9s%n",
+                "API", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        Map<String, Object> operations = (Map<String, Object>) summary.get("operations");
+        for (Object operation : operations.values()) {
+            printRow((Map<String, Object>) operation, out);
+        }
+        printRow((Map<String, Object>) summary.get("total"), out);
+
+        Map<String, Object> errors = (Map<String, Object>) summary.get("errors");
+        if (!errors.isEmpty()) {
+            out.println("\n[오류 종류별 건수]");
+            errors.forEach((type, count) -> out.printf("  %-30s %d%n", type, (long) count));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void printRow(Map<String, Object> row, PrintStream out) {
+        Map<String, Object> latency = (Map<String, Object>) row.get("latencyMillis");
+        out.printf("%-32s %9d %9d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                row.get("api"), (long) row.get("requests"), (long) row.get("errors"), (double) row.get("throughput"),
+                (double) latency.get("p50"), (double) latency.get("p90"), (double) latency.get("p99"),
+                (double) latency.get("p99.9"), (double) latency.get("max"));
+    }
+
+    public static void write(Map<String, Object> summary, String path) throws IOException {
+        File file = new File(path);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file, summary);
+    }
+}
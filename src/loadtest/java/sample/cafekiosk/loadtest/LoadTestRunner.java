@@ -0,0 +1,170 @@
+package sample.cafekiosk.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 카페 키오스크 API 부하 테스트 (./gradlew loadTest -PloadTest.mode=closed ...)
+ * - 로컬에서 실행한 애플리케이션(bootRun)을 대상으로 한다.
+ * - closed : concurrency명의 사용자가 응답을 받으면 바로 다음 요청을 보낸다. (최대 처리량 측정)
+ * - fixed-rate : 응답 속도와 관계 없이 초당 rate건의 요청을 보낸다. (목표 처리량에서의 응답 시간 측정)
+ * - 워밍업 동안의 요청은 결과에서 제외하며, 결과는 표준 출력과 JSON 파일(report)로 남긴다.
+ */
+public class LoadTestRunner {
+
+    private final LoadTestOptions options;
+    private final CafeKioskApiClient apiClient;
+    private final LoadTestResult result = new LoadTestResult();
+
+    private long measureStartNanos;
+    private long endNanos;
+
+    public LoadTestRunner(LoadTestOptions options, CafeKioskApiClient apiClient) {
+        this.options = options;
+        this.apiClient = apiClient;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ExecutorService httpExecutor = Executors.newCachedThreadPool();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(httpExecutor)
+                .build();
+
+        try {
+            CafeKioskApiClient apiClient = new CafeKioskApiClient(httpClient, options.getBaseUri(), options.getRequestTimeout());
+            if (options.getMix().contains(Operation.ORDER_CREATE)) {
+                apiClient.prepareCatalog();
+            }
+
+            Map<String, Object> summary = new LoadTestRunner(options, apiClient).run();
+            LoadTestResult.print(summary, System.out);
+            LoadTestResult.write(summary, options.getReportPath());
+            System.out.println("\n결과 파일 : " + options.getReportPath());
+        } finally {
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    public Map<String, Object> run() throws InterruptedException {
+        long startNanos = System.nanoTime();
+        measureStartNanos = startNanos + options.getWarmup().toNanos();
+        endNanos = measureStartNanos + options.getDuration().toNanos();
+
+        System.out.printf("부하 테스트 시작 : mode=%s, baseUrl=%s, warmup=%ss, duration=%ss%n",
+                options.getMode(), options.getBaseUri(), options.getWarmup().toSeconds(), options.getDuration().toSeconds());
+
+        if (options.getMode() == LoadTestOptions.LoadMode.CLOSED) {
+            runClosedLoop();
+        } else {
+            runFixedRate(startNanos);
+        }
+
+        double measuredSeconds = options.getDuration().toNanos() / 1_000_000_000.0;
+        return result.summarize(options, measuredSeconds);
+    }
+
+    private void runClosedLoop() throws InterruptedException {
+        ExecutorService users = Executors.newFixedThreadPool(options.getConcurrency());
+        List<Future<?>> futures = new ArrayList<>();
+        for (int index = 0; index < options.getConcurrency(); index++) {
+            futures.add(users.submit(this::runUser));
+        }
+
+        users.shutdown();
+        if (!users.awaitTermination(options.getWarmup().plus(options.getDuration()).plus(options.getRequestTimeout()).toSeconds() + 10, TimeUnit.SECONDS)) {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private void runUser() {
+        Random random = ThreadLocalRandom.current();
+        while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+            Operation operation = options.getMix().next(random);
+            long requestNanos = System.nanoTime();
+            try {
+                HttpResponse<Void> response = apiClient.send(operation, random);
+                if (requestNanos >= measureStartNanos) {
+                    result.recordResponse(operation, response.statusCode(), System.nanoTime() - requestNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                if (requestNanos >= measureStartNanos) {
+                    result.recordFailure(operation, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청마다 보내야 하는 시각(intendedNanos)을 미리 정하고, 그 시각부터 응답까지를 응답 시간으로 기록한다.
+     * -> 서버가 느려져 요청이 밀리면 밀린 시간까지 응답 시간에 포함된다.
+     */
+    private void runFixedRate(long startNanos) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.getRate();
+        AtomicInteger inFlight = new AtomicInteger();
+        Random random = new Random();
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedNanos = startNanos + sequence * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            waitUntil(intendedNanos);
+
+            Operation operation = options.getMix().next(random);
+            boolean measured = intendedNanos >= measureStartNanos;
+            if (inFlight.get() >= options.getMaxInFlight()) {
+                if (measured) {
+                    result.recordDropped(operation);
+                }
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            apiClient.sendAsync(operation, random)
+                    .whenComplete((response, throwable) -> {
+                        inFlight.decrementAndGet();
+                        if (!measured) {
+                            return;
+                        }
+                        if (throwable != null) {
+                            result.recordFailure(operation, throwable);
+                        } else {
+                            result.recordResponse(operation, response.statusCode(), System.nanoTime() - intendedNanos);
+                        }
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + options.getRequestTimeout().toNanos() + TimeUnit.SECONDS.toNanos(1);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private static void waitUntil(long targetNanos) throws InterruptedException {
+        long remaining;
+        while ((remaining = targetNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+}
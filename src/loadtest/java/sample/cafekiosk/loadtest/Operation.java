@@ -0,0 +1,36 @@
+package sample.cafekiosk.loadtest;
+
+/**
+ * 부하 테스트에서 호출하는 API
+ */
+public enum Operation {
+
+    ORDER_CREATE("order", "POST /api/v1/orders/new")
+    , PRODUCT_CREATE("product", "POST /api/v1/products/new")
+    , PRODUCTS_SELLING("selling", "GET /api/v1/products/selling");
+
+    private final String key;
+    private final String description;
+
+    Operation(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    public static Operation ofKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 요청 종류입니다. (order / product / selling) key=" + key);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,82 @@
+package sample.cafekiosk.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 요청 종류별 가중치 (ex. order:6,product:1,selling:3 -> 주문 60%, 상품 등록 10%, 판매 상품 조회 30%)
+ */
+public class OperationMix {
+
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.operations = new Operation[weights.size()];
+        this.cumulativeWeights = new int[weights.size()];
+
+        int index = 0;
+        int cumulative = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            cumulative += entry.getValue();
+            operations[index] = entry.getKey();
+            cumulativeWeights[index] = cumulative;
+            index++;
+        }
+        this.totalWeight = cumulative;
+    }
+
+    public static OperationMix parse(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String token : value.split(",")) {
+            String[] pair = token.trim().split(":");
+            int weight = pair.length == 2 ? Integer.parseInt(pair[1].trim()) : 1;
+            if (weight < 0) {
+                throw new IllegalArgumentException("요청 비율은 0 이상이어야 합니다. mix=" + value);
+            }
+            if (weight > 0) {
+                weights.merge(Operation.ofKey(pair[0].trim()), weight, Integer::sum);
+            }
+        }
+
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("요청 비율이 비어있습니다. mix=" + value);
+        }
+        return new OperationMix(weights);
+    }
+
+    public Operation next(Random random) {
+        int point = random.nextInt(totalWeight);
+        for (int index = 0; index < cumulativeWeights.length; index++) {
+            if (point < cumulativeWeights[index]) {
+                return operations[index];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    public boolean contains(Operation operation) {
+        for (Operation candidate : operations) {
+            if (candidate == operation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int previous = 0;
+        for (int index = 0; index < operations.length; index++) {
+            if (index > 0) {
+                builder.append(",");
+            }
+            builder.append(operations[index].getKey()).append(":").append(cumulativeWeights[index] - previous);
+            previous = cumulativeWeights[index];
+        }
+        return builder.toString();
+    }
+}
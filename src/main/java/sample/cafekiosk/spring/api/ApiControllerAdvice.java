@@ -5,6 +5,8 @@ import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import sample.cafekiosk.spring.api.service.order.OrderIntakeRejectedException;
+import sample.cafekiosk.spring.api.service.stock.StockConflictException;
 
 @RestControllerAdvice
 public class ApiControllerAdvice {
@@ -18,4 +20,34 @@ public class ApiControllerAdvice {
                 , null
         );
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ApiResponse<Object> illegalArgumentException(IllegalArgumentException e) {
+        return ApiResponse.of(
+                HttpStatus.BAD_REQUEST
+                , e.getMessage()
+                , null
+        );
+    }
+
+    @ExceptionHandler(StockConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiResponse<Object> stockConflictException(StockConflictException e) {
+        return ApiResponse.of(
+                HttpStatus.CONFLICT
+                , "주문이 몰려 재고를 차감하지 못했습니다. 잠시 후 다시 시도해주세요."
+                , null
+        );
+    }
+
+    @ExceptionHandler(OrderIntakeRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ApiResponse<Object> orderIntakeRejectedException(OrderIntakeRejectedException e) {
+        return ApiResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE
+                , "주문이 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요."
+                , null
+        );
+    }
 }
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.controller.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.mail.MailService;
+import sample.cafekiosk.spring.api.service.mail.response.MailOutboxResponse;
+
+@RestController
+@RequiredArgsConstructor
+public class MailController {
+
+    private final MailService mailService;
+
+    @GetMapping("/api/v1/mails/{mailId}")
+    public ApiResponse<MailOutboxResponse> getMailStatus(@PathVariable Long mailId) {
+        return ApiResponse.ok(mailService.getMailStatus(mailId));
+    }
+}
@@ -1,16 +1,23 @@
 package sample.cafekiosk.spring.api.controller.order;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
 import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.api.service.order.response.OrderBulkResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,8 +25,44 @@ public class OrderController {
 
     private final OrderService orderService;
 
+    /**
+     * compact=true 인 경우 주문 라인(lines)만 응답하고, 주문 라인별 상품 리스트(products)는 제외한다.
+     */
     @PostMapping("/api/v1/orders/new")
-    public ApiResponse<OrderResponse> createOrder(@Valid @RequestBody OrderCreateRequest request) {
-        return ApiResponse.ok(orderService.createOrder(request.toServiceRequest(), LocalDateTime.now()));
+    public ApiResponse<OrderResponse> createOrder(
+            @Valid @RequestBody OrderCreateRequest request
+            , @RequestParam(defaultValue = "false") boolean compact
+    ) {
+        OrderResponse orderResponse = orderService.createOrder(request.toServiceRequest(), LocalDateTime.now());
+        return ApiResponse.ok(compact ? orderResponse.compact() : orderResponse);
+    }
+
+    @PostMapping("/api/v1/orders/new/bulk")
+    public ApiResponse<OrderBulkResponse> createOrders(@Valid @RequestBody OrderBulkCreateRequest request) {
+        return ApiResponse.ok(orderService.createOrders(request.toServiceRequests(), LocalDateTime.now()));
+    }
+
+    @GetMapping("/api/v1/orders/{orderId}")
+    public ApiResponse<OrderResponse> getOrder(
+            @PathVariable Long orderId
+            , @RequestParam(defaultValue = "false") boolean compact
+    ) {
+        OrderResponse orderResponse = orderService.getOrder(orderId);
+        return ApiResponse.ok(compact ? orderResponse.compact() : orderResponse);
+    }
+
+    @GetMapping("/api/v1/orders")
+    public ApiResponse<List<OrderResponse>> getOrders(
+            @RequestParam(defaultValue = "0") int page
+            , @RequestParam(defaultValue = "20") int size
+            , @RequestParam(defaultValue = "false") boolean compact
+    ) {
+        List<OrderResponse> orderResponses = orderService.getOrders(page, size);
+        if (compact) {
+            orderResponses = orderResponses.stream()
+                    .map(OrderResponse::compact)
+                    .collect(Collectors.toList());
+        }
+        return ApiResponse.ok(orderResponses);
     }
 }
@@ -0,0 +1,69 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.OrderIntakeService;
+import sample.cafekiosk.spring.api.service.order.response.OrderIntakeStatsResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderTicketResponse;
+
+import javax.validation.Valid;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 주문 접수
+ * - 요청 검증 후 주문을 대기열에 넣고 202 Accepted와 접수번호를 바로 반환한다.
+ * - 키오스크는 접수번호로 결과를 조회하거나(tickets/{ticketId}), 완료될 때까지 기다린다(tickets/{ticketId}/subscribe).
+ */
+@RestController
+@RequiredArgsConstructor
+public class OrderIntakeController {
+
+    private static final long MAX_SUBSCRIBE_TIMEOUT_SECONDS = 25;
+
+    private final OrderIntakeService orderIntakeService;
+
+    @PostMapping("/api/v1/orders/new/async")
+    public ResponseEntity<ApiResponse<OrderTicketResponse>> acceptOrder(@Valid @RequestBody OrderCreateRequest request) {
+        OrderTicketResponse ticket = orderIntakeService.accept(request.toServiceRequest(), LocalDateTime.now());
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/orders/tickets/" + ticket.getTicketId()))
+                .body(ApiResponse.of(HttpStatus.ACCEPTED, ticket));
+    }
+
+    @GetMapping("/api/v1/orders/tickets/{ticketId}")
+    public ApiResponse<OrderTicketResponse> getTicket(@PathVariable String ticketId) {
+        return ApiResponse.ok(orderIntakeService.getTicket(ticketId));
+    }
+
+    /**
+     * 주문 처리가 끝날 때까지 최대 timeoutSeconds(최대 25초) 동안 응답을 보류한다. (Long Polling)
+     */
+    @GetMapping("/api/v1/orders/tickets/{ticketId}/subscribe")
+    public CompletableFuture<ApiResponse<OrderTicketResponse>> subscribeTicket(
+            @PathVariable String ticketId
+            , @RequestParam(defaultValue = "10") long timeoutSeconds
+    ) {
+        Duration timeout = Duration.ofSeconds(Math.max(0, Math.min(timeoutSeconds, MAX_SUBSCRIBE_TIMEOUT_SECONDS)));
+
+        return orderIntakeService.subscribe(ticketId, timeout)
+                .thenApply(ApiResponse::ok);
+    }
+
+    @GetMapping("/api/v1/orders/intake/stats")
+    public ApiResponse<OrderIntakeStatsResponse> getIntakeStats() {
+        return ApiResponse.ok(orderIntakeService.getStats());
+    }
+}
@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+public class OrderBulkCreateRequest {
+
+    @Valid
+    @NotEmpty(message = "주문 리스트는 필수입니다.")
+    private List<OrderCreateRequest> orders;
+
+    @Builder
+    private OrderBulkCreateRequest(List<OrderCreateRequest> orders) {
+        this.orders = orders;
+    }
+
+    public List<OrderCreateServiceRequest> toServiceRequests() {
+        return orders.stream()
+                .map(OrderCreateRequest::toServiceRequest)
+                .collect(Collectors.toList());
+    }
+}
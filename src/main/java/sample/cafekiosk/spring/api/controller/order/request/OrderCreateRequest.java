@@ -1,28 +1,58 @@
 package sample.cafekiosk.spring.api.controller.order.request;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
 
-import javax.validation.constraints.NotEmpty;
+import javax.validation.Valid;
+import javax.validation.constraints.AssertTrue;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * 주문할 상품은 상품번호 리스트(productNos, 1개당 수량 1) 또는 상품번호 / 수량 리스트(lines)로 전달한다.
+ * - 둘 다 전달한 경우 같은 상품의 수량은 합산된다.
+ */
 @Getter
 @NoArgsConstructor
 public class OrderCreateRequest {
 
-    @NotEmpty(message = "상품 번호 리스트는 필수입니다.")
     private List<String> productNos;
 
+    @Valid
+    private List<OrderLineRequest> lines;
+
     @Builder
-    private OrderCreateRequest(List<String> productNos) {
+    private OrderCreateRequest(List<String> productNos, List<OrderLineRequest> lines) {
         this.productNos = productNos;
+        this.lines = lines;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "상품 번호 리스트는 필수입니다.")
+    public boolean isProductsPresent() {
+        return (productNos != null && !productNos.isEmpty()) || (lines != null && !lines.isEmpty());
     }
 
     public OrderCreateServiceRequest toServiceRequest() {
         return OrderCreateServiceRequest.builder()
                 .productNos(productNos)
+                .productQuantities(toProductQuantities())
                 .build();
     }
+
+    private Map<String, Integer> toProductQuantities() {
+        if (lines == null) {
+            return null;
+        }
+
+        return lines.stream()
+                .collect(Collectors.toMap(
+                        OrderLineRequest::getProductNo, OrderLineRequest::getQuantity, OrderCreateServiceRequest::sumQuantities, LinkedHashMap::new
+                ));
+    }
 }
@@ -0,0 +1,27 @@
+package sample.cafekiosk.spring.api.controller.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+
+@Getter
+@NoArgsConstructor
+public class OrderLineRequest {
+
+    @NotBlank(message = "상품 번호는 필수입니다.")
+    private String productNo;
+    @Positive(message = "주문 수량은 양수여야합니다.")
+    @Max(value = OrderProduct.MAX_QUANTITY, message = "주문 수량은 1000개 이하여야 합니다.")
+    private int quantity;
+
+    @Builder
+    private OrderLineRequest(String productNo, int quantity) {
+        this.productNo = productNo;
+        this.quantity = quantity;
+    }
+}
@@ -1,14 +1,22 @@
 package sample.cafekiosk.spring.api.controller.product;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.product.request.ProductBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.product.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.controller.product.request.ProductStatusChangeRequest;
 import sample.cafekiosk.spring.api.service.product.ProductService;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -47,8 +55,33 @@ public class ProductController {
         return ApiResponse.ok(productService.createProduct(request.toServiceRequest()));
     }
 
+    @PostMapping("/api/v1/products/new/bulk")
+    public ApiResponse<List<ProductResponse>> createProducts(@Valid @RequestBody ProductBulkCreateRequest request) {
+        return ApiResponse.ok(productService.createProducts(request.toServiceRequests()));
+    }
+
+    @PatchMapping("/api/v1/products/{productNo}/status")
+    public ApiResponse<ProductResponse> changeProductStatus(
+            @PathVariable String productNo
+            , @Valid @RequestBody ProductStatusChangeRequest request
+    ) {
+        return ApiResponse.ok(productService.changeProductStatus(productNo, request.getProductStatus()));
+    }
+
+    /**
+     * 미리 직렬화된 응답을 그대로 반환한다.
+     * - If-None-Match 헤더가 ETag와 같으면 본문 없이 304 Not Modified를 반환한다.
+     */
     @GetMapping("/api/v1/products/selling")
-    public ApiResponse<List<ProductResponse>> getSellingProducts() {
-        return ApiResponse.ok(productService.getSellingProducts());
+    public ResponseEntity<byte[]> getSellingProducts(WebRequest webRequest) {
+        SellingProductsSnapshot snapshot = productService.getSellingProductsSnapshot();
+        if (webRequest.checkNotModified(snapshot.getETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
     }
 }
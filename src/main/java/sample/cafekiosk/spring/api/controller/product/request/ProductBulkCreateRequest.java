@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.api.controller.product.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@NoArgsConstructor
+public class ProductBulkCreateRequest {
+
+    @Valid
+    @NotEmpty(message = "상품 리스트는 필수입니다.")
+    private List<ProductCreateRequest> products;
+
+    @Builder
+    private ProductBulkCreateRequest(List<ProductCreateRequest> products) {
+        this.products = products;
+    }
+
+    public List<ProductCreateServiceRequest> toServiceRequests() {
+        return products.stream()
+                .map(ProductCreateRequest::toServiceRequest)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.controller.product.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+@NoArgsConstructor
+public class ProductStatusChangeRequest {
+
+    @NotNull(message = "상품 판매상태는 필수입니다.")
+    private ProductStatus productStatus;
+
+    @Builder
+    private ProductStatusChangeRequest(ProductStatus productStatus) {
+        this.productStatus = productStatus;
+    }
+}
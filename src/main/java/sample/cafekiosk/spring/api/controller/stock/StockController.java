@@ -0,0 +1,22 @@
+package sample.cafekiosk.spring.api.controller.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.stock.StockContentionMetrics;
+import sample.cafekiosk.spring.api.service.stock.response.StockContentionResponse;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockContentionMetrics stockContentionMetrics;
+
+    @GetMapping("/api/v1/stocks/contentions")
+    public ApiResponse<List<StockContentionResponse>> getStockContentions() {
+        return ApiResponse.ok(stockContentionMetrics.getContentions());
+    }
+}
@@ -0,0 +1,162 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.client.MailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailOutbox;
+import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.repository.MailOutboxRepository;
+import sample.cafekiosk.spring.repository.MailSendHistoryRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox에 적재된 메일을 백그라운드에서 전송한다.
+ * - 주기마다 전송 시각이 도래한 메일을 batch-size만큼 선점하고, mailOutboxExecutor의 워커들이 나누어 전송한다.
+ * - 전송 결과는 한 트랜잭션에서 반영하며, 전송 이력(MailSendHistory)은 saveAll()로 한 번에 저장하여 JDBC batch insert 대상이 되도록 한다.
+ * - 전송에 실패한 메일은 지수 백오프(backoff-millis * 2^(시도횟수-1), 최대 max-backoff-millis) 이후 다시 전송하며,
+ *   max-attempts 만큼 실패하면 FAILED로 종료한다.
+ * - 전송 결과는 선점 시점의 시도 횟수를 선점 토큰으로 삼아 조건부로 반영한다.
+ *   -> 전송이 lease-millis보다 오래 걸려 다른 워커가 다시 선점했다면, 늦게 끝난 워커의 결과와 전송 이력은 버린다.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final MailSendClient mailSendClient;
+    private final Executor mailOutboxExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+    private final long leaseMillis;
+
+    public MailOutboxDispatcher(
+            MailOutboxRepository mailOutboxRepository
+            , MailSendHistoryRepository mailSendHistoryRepository
+            , MailSendClient mailSendClient
+            , @Qualifier("mailOutboxExecutor") Executor mailOutboxExecutor
+            , PlatformTransactionManager transactionManager
+            , @Value("${cafekiosk.mail.outbox.batch-size:100}") int batchSize
+            , @Value("${cafekiosk.mail.outbox.max-attempts:5}") int maxAttempts
+            , @Value("${cafekiosk.mail.outbox.backoff-millis:1000}") long backoffMillis
+            , @Value("${cafekiosk.mail.outbox.max-backoff-millis:60000}") long maxBackoffMillis
+            , @Value("${cafekiosk.mail.outbox.lease-millis:60000}") long leaseMillis
+    ) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSendHistoryRepository = mailSendHistoryRepository;
+        this.mailSendClient = mailSendClient;
+        this.mailOutboxExecutor = mailOutboxExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    /**
+     * 선점한 메일이 batch-size만큼 가득 찬 경우 남은 메일이 있을 수 있으므로 다음 주기를 기다리지 않고 이어서 전송한다.
+     */
+    @Scheduled(
+            fixedDelayString = "${cafekiosk.mail.outbox.poll-interval-millis:500}"
+            , initialDelayString = "${cafekiosk.mail.outbox.poll-interval-millis:500}"
+    )
+    public void poll() {
+        try {
+            while (dispatch() == batchSize) {
+                // 남은 메일이 없을 때까지 반복
+            }
+        } catch (RuntimeException e) {
+            log.error("메일 Outbox 전송 중 오류가 발생했습니다. 다음 주기에 다시 전송합니다.", e);
+        }
+    }
+
+    /**
+     * 한 batch를 선점하여 전송하고, 선점한 메일 건수를 반환한다.
+     */
+    public int dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> mailOutboxes = transactionTemplate.execute(status -> mailOutboxRepository.findAllById(
+                mailOutboxRepository.claimPending(now, now.plus(leaseMillis, ChronoUnit.MILLIS), batchSize)
+        ));
+        if (mailOutboxes.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<Optional<String>>> futures = mailOutboxes.stream()
+                .map(mailOutbox -> CompletableFuture.supplyAsync(() -> send(mailOutbox), mailOutboxExecutor))
+                .collect(Collectors.toList());
+
+        List<Optional<String>> errorMessages = futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+
+        transactionTemplate.executeWithoutResult(status -> complete(mailOutboxes, errorMessages, LocalDateTime.now()));
+        return mailOutboxes.size();
+    }
+
+    /**
+     * 메일을 전송하고, 실패한 경우 실패 사유를 반환한다.
+     */
+    private Optional<String> send(MailOutbox mailOutbox) {
+        try {
+            boolean result = mailSendClient.sendEmail(
+                    mailOutbox.getFromEmail(), mailOutbox.getToEmail(), mailOutbox.getSubject(), mailOutbox.getContent()
+            );
+            return result ? Optional.empty() : Optional.of("메일 전송 결과가 실패입니다.");
+        } catch (RuntimeException e) {
+            log.warn("메일 전송에 실패했습니다. mailId={}", mailOutbox.getId(), e);
+            return Optional.of(String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * 선점 트랜잭션에서 조회한(준영속) 메일에 전송 결과를 반영한 뒤, 선점이 유지된 메일만 조건부 update로 저장한다.
+     * - Dirty Checking으로 저장하면 선점 여부와 관계없이 덮어쓰게 되므로 영속 상태의 엔티티를 사용하지 않는다.
+     */
+    private void complete(List<MailOutbox> mailOutboxes, List<Optional<String>> errorMessages, LocalDateTime completedDateTime) {
+        List<MailSendHistory> histories = new ArrayList<>();
+        for (int i = 0; i < mailOutboxes.size(); i++) {
+            MailOutbox mailOutbox = mailOutboxes.get(i);
+            Optional<String> errorMessage = errorMessages.get(i);
+            if (errorMessage.isEmpty()) {
+                mailOutbox.markSent(completedDateTime);
+            } else {
+                LocalDateTime nextAttemptDateTime = completedDateTime.plus(calculateBackoffMillis(mailOutbox.getAttemptCount()), ChronoUnit.MILLIS);
+                mailOutbox.markFailed(errorMessage.get(), maxAttempts, nextAttemptDateTime);
+            }
+
+            if (!mailOutboxRepository.completeClaimed(mailOutbox)) {
+                log.warn("메일 선점이 만료되어 전송 결과를 반영하지 않습니다. mailId={}", mailOutbox.getId());
+                continue;
+            }
+            if (errorMessage.isEmpty()) {
+                histories.add(mailOutbox.toSendHistory());
+            }
+        }
+
+        mailSendHistoryRepository.saveAll(histories);
+    }
+
+    private long calculateBackoffMillis(int attemptCount) {
+        int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+        return Math.min(maxBackoffMillis, backoffMillis << exponent);
+    }
+}
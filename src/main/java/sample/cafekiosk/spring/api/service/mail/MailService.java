@@ -1,33 +1,98 @@
 package sample.cafekiosk.spring.api.service.mail;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.mail.response.MailOutboxResponse;
 import sample.cafekiosk.spring.client.MailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailOutbox;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
+import sample.cafekiosk.spring.repository.MailOutboxRepository;
 import sample.cafekiosk.spring.repository.MailSendHistoryRepository;
 
+import java.time.LocalDateTime;
+
 @Service
-@RequiredArgsConstructor
 public class MailService {
 
+    private static final String MAIL_SEND_PHASE_TIMER = "cafekiosk.mail.send.phase";
+
     private final MailSendClient mailSendClient;
     private final MailSendHistoryRepository mailSendHistoryRepository;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MeterRegistry meterRegistry;
 
+    private final Timer saveHistoryTimer;
+
+    public MailService(
+            MailSendClient mailSendClient
+            , MailSendHistoryRepository mailSendHistoryRepository
+            , MailOutboxRepository mailOutboxRepository
+            , MeterRegistry meterRegistry
+    ) {
+        this.mailSendClient = mailSendClient;
+        this.mailSendHistoryRepository = mailSendHistoryRepository;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.meterRegistry = meterRegistry;
+        this.saveHistoryTimer = Timer.builder(MAIL_SEND_PHASE_TIMER)
+                .description("메일 전송 단계별 소요 시간")
+                .tag("phase", "save_history")
+                .tag("result", "success")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출한 스레드에서 바로 메일을 전송한다.
+     * - 메일 서버가 느리면 호출한 쪽도 같이 느려지기 때문에, 응답을 기다릴 필요가 없다면 enqueueMail()을 사용한다.
+     * - 메일 전송(send_mail, 전송 결과별)과 전송 이력 저장(save_history) 소요 시간을 기록한다.
+     */
     public boolean sendMail(String fromEmail, String toEmail, String subject, String content) {
 
-        boolean result = mailSendClient.sendEmail(fromEmail, toEmail, subject, content);
+        boolean result = false;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            result = mailSendClient.sendEmail(fromEmail, toEmail, subject, content);
+        } finally {
+            sample.stop(Timer.builder(MAIL_SEND_PHASE_TIMER)
+                    .description("메일 전송 단계별 소요 시간")
+                    .tag("phase", "send_mail")
+                    .tag("result", result ? "success" : "failure")
+                    .register(meterRegistry)
+            );
+        }
 
         if (result) {
-            mailSendHistoryRepository.save(MailSendHistory.builder()
+            saveHistoryTimer.record(() -> mailSendHistoryRepository.save(MailSendHistory.builder()
                     .fromEmail(fromEmail)
                     .toEmail(toEmail)
                     .subject(subject)
                     .content(content)
                     .build()
-            );
+            ));
 
             return true;
         }
         return false;
     }
+
+    /**
+     * 메일을 Outbox에 적재하고 메일 ID를 바로 반환한다.
+     * - 실제 전송(재시도 포함)과 전송 이력 저장은 MailOutboxDispatcher가 백그라운드에서 수행한다.
+     * - 전송 결과는 getMailStatus()로 조회한다.
+     */
+    @Transactional
+    public Long enqueueMail(String fromEmail, String toEmail, String subject, String content) {
+        MailOutbox mailOutbox = MailOutbox.create(fromEmail, toEmail, subject, content, LocalDateTime.now());
+
+        return mailOutboxRepository.save(mailOutbox).getId();
+    }
+
+    @Transactional(readOnly = true)
+    public MailOutboxResponse getMailStatus(Long mailId) {
+        MailOutbox mailOutbox = mailOutboxRepository.findById(mailId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 메일입니다."));
+
+        return MailOutboxResponse.of(mailOutbox);
+    }
 }
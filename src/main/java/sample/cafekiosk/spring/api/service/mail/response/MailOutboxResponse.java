@@ -0,0 +1,55 @@
+package sample.cafekiosk.spring.api.service.mail.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.history.mail.MailOutbox;
+import sample.cafekiosk.spring.domain.history.mail.MailOutboxStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class MailOutboxResponse {
+
+    private Long id;
+    private String toEmail;
+    private String subject;
+    private MailOutboxStatus status;
+    private int attemptCount;
+    private LocalDateTime nextAttemptDateTime;
+    private LocalDateTime sentDateTime;
+    private String lastErrorMessage;
+
+    @Builder
+    private MailOutboxResponse(
+            Long id
+            , String toEmail
+            , String subject
+            , MailOutboxStatus status
+            , int attemptCount
+            , LocalDateTime nextAttemptDateTime
+            , LocalDateTime sentDateTime
+            , String lastErrorMessage
+    ) {
+        this.id = id;
+        this.toEmail = toEmail;
+        this.subject = subject;
+        this.status = status;
+        this.attemptCount = attemptCount;
+        this.nextAttemptDateTime = nextAttemptDateTime;
+        this.sentDateTime = sentDateTime;
+        this.lastErrorMessage = lastErrorMessage;
+    }
+
+    public static MailOutboxResponse of(MailOutbox mailOutbox) {
+        return MailOutboxResponse.builder()
+                .id(mailOutbox.getId())
+                .toEmail(mailOutbox.getToEmail())
+                .subject(mailOutbox.getSubject())
+                .status(mailOutbox.getStatus())
+                .attemptCount(mailOutbox.getAttemptCount())
+                .nextAttemptDateTime(mailOutbox.getNextAttemptDateTime())
+                .sentDateTime(mailOutbox.getSentDateTime())
+                .lastErrorMessage(mailOutbox.getLastErrorMessage())
+                .build();
+    }
+}
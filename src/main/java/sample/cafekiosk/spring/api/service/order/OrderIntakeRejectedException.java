@@ -0,0 +1,11 @@
+package sample.cafekiosk.spring.api.service.order;
+
+/**
+ * 비동기 주문 접수 대기열이 가득 차 주문을 접수하지 못한 경우 발생한다.
+ */
+public class OrderIntakeRejectedException extends RuntimeException {
+
+    public OrderIntakeRejectedException(int queueCapacity) {
+        super("주문 접수 대기열이 가득 찼습니다. capacity=" + queueCapacity);
+    }
+}
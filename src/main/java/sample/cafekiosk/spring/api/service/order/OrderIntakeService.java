@@ -0,0 +1,222 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderIntakeStatsResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderTicketResponse;
+import sample.cafekiosk.spring.api.service.stock.StockConflictException;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 주문 접수 (Accept-then-process)
+ * - 주문 요청을 크기가 제한된 대기열(queue-capacity)에 넣고 접수번호(ticketId)를 바로 반환한다.
+ * - worker-count개의 워커 스레드가 대기열에서 주문을 꺼내 OrderService.createOrder()로 처리한다.
+ * - 대기열이 가득 차면 OrderIntakeRejectedException으로 바로 거절하여, 대기 시간이 끝없이 늘어나지 않도록 한다.
+ * - 처리 결과(주문 / 거절 사유)는 접수번호로 조회(getTicket)하거나 완료될 때까지 기다려(subscribe) 받는다.
+ *
+ * 주의
+ * - 대기열과 접수번호는 메모리에만 존재하므로, 인스턴스가 비정상 종료되면 처리되지 않은 주문은 유실된다.
+ * - 처리 중인(QUEUED / PROCESSING) 접수번호는 제거되지 않으며, 처리가 끝난 접수번호만 ticket-retention-seconds 동안 조회되지 않으면 제거된다.
+ *   -> 처리 중인 접수번호는 대기열 크기 + 워커 수를 넘지 않으므로 메모리가 끝없이 늘어나지 않는다.
+ * - 대기열 길이와 접수 / 거절 / 완료 / 실패 건수는 getStats()와 함께 Micrometer 지표(cafekiosk.order.intake.*)로도 기록한다.
+ * - 접수 이후 워커가 처리를 시작하기까지의 대기 시간은 Timer(cafekiosk.order.intake.wait)로 기록한다.
+ *   -> percentile histogram을 함께 노출하므로 p99 등은 Prometheus에서 계산한다. (getStats()는 평균만 반환한다.)
+ */
+@Slf4j
+@Service
+public class OrderIntakeService {
+
+    private static final String QUEUE_DEPTH_GAUGE = "cafekiosk.order.intake.queue.depth";
+    private static final String TICKET_COUNTER = "cafekiosk.order.intake.tickets";
+    private static final String WAIT_TIMER = "cafekiosk.order.intake.wait";
+
+    private final OrderService orderService;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, OrderTicket> pendingTickets = new ConcurrentHashMap<>();
+    private final Cache<String, OrderTicket> finishedTickets;
+    private final int workerCount;
+    private final int queueCapacity;
+
+    private final LongAdder acceptedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final Timer waitTimer;
+
+    public OrderIntakeService(
+            OrderService orderService
+            , MeterRegistry meterRegistry
+            , @Value("${cafekiosk.order.intake.worker-count:8}") int workerCount
+            , @Value("${cafekiosk.order.intake.queue-capacity:1000}") int queueCapacity
+            , @Value("${cafekiosk.order.intake.ticket-retention-seconds:600}") long ticketRetentionSeconds
+    ) {
+        this.orderService = orderService;
+        this.workerCount = workerCount;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(
+                workerCount
+                , workerCount
+                , 0L
+                , TimeUnit.MILLISECONDS
+                , new ArrayBlockingQueue<>(queueCapacity)
+                , new ThreadFactoryBuilder().setNameFormat("order-intake-%d").build()
+                , new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.finishedTickets = CacheBuilder.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(ticketRetentionSeconds))
+                .build();
+
+        Gauge.builder(QUEUE_DEPTH_GAUGE, executor, pool -> pool.getQueue().size())
+                .description("처리를 기다리는 접수 주문 수")
+                .register(meterRegistry);
+        registerTicketCounter("accepted", acceptedCount, meterRegistry);
+        registerTicketCounter("rejected", rejectedCount, meterRegistry);
+        registerTicketCounter("completed", completedCount, meterRegistry);
+        registerTicketCounter("failed", failedCount, meterRegistry);
+        this.waitTimer = Timer.builder(WAIT_TIMER)
+                .description("주문 접수 이후 처리를 시작하기까지 대기한 시간")
+                .register(meterRegistry);
+    }
+
+    public OrderTicketResponse accept(OrderCreateServiceRequest request, LocalDateTime registeredDateTime) {
+        OrderTicket ticket = new OrderTicket(UUID.randomUUID().toString(), request, registeredDateTime, System.nanoTime());
+        pendingTickets.put(ticket.getTicketId(), ticket);
+
+        try {
+            executor.execute(() -> process(ticket));
+        } catch (RejectedExecutionException e) {
+            pendingTickets.remove(ticket.getTicketId());
+            rejectedCount.increment();
+            throw new OrderIntakeRejectedException(queueCapacity);
+        }
+
+        acceptedCount.increment();
+        return toResponse(ticket);
+    }
+
+    public OrderTicketResponse getTicket(String ticketId) {
+        return toResponse(findTicket(ticketId));
+    }
+
+    /**
+     * 주문 처리가 끝나면(완료 / 거절) 결과를 반환하고, timeout 안에 끝나지 않으면 그 시점의 상태를 반환한다.
+     */
+    public CompletableFuture<OrderTicketResponse> subscribe(String ticketId, Duration timeout) {
+        OrderTicket ticket = findTicket(ticketId);
+
+        return ticket.getCompletion().copy()
+                .completeOnTimeout(ticket, timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(this::toResponse);
+    }
+
+    public OrderIntakeStatsResponse getStats() {
+        long accepted = acceptedCount.sum();
+        long rejected = rejectedCount.sum();
+
+        return OrderIntakeStatsResponse.builder()
+                .queueDepth(executor.getQueue().size())
+                .queueCapacity(queueCapacity)
+                .workerCount(workerCount)
+                .acceptedCount(accepted)
+                .rejectedCount(rejected)
+                .rejectionRate(accepted + rejected == 0 ? 0 : (double) rejected / (accepted + rejected))
+                .completedCount(completedCount.sum())
+                .failedCount(failedCount.sum())
+                .averageWaitMillis(waitTimer.mean(TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    /**
+     * 종료 시 새로운 주문은 받지 않고, 이미 접수된 주문은 처리한 뒤 종료한다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("처리되지 않은 접수 주문이 남아있습니다. 남은 주문 수={}", executor.getQueue().size());
+        }
+    }
+
+    private void process(OrderTicket ticket) {
+        waitTimer.record(System.nanoTime() - ticket.getAcceptedNanos(), TimeUnit.NANOSECONDS);
+
+        ticket.startProcessing();
+        try {
+            OrderResponse order = orderService.createOrder(ticket.getRequest(), ticket.getRegisteredDateTime());
+            ticket.complete(order);
+            completedCount.increment();
+        } catch (IllegalArgumentException e) {
+            reject(ticket, e.getMessage());
+        } catch (StockConflictException e) {
+            reject(ticket, "주문이 몰려 재고를 차감하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        } catch (RuntimeException e) {
+            log.error("접수된 주문 처리 중 오류가 발생했습니다. ticketId={}", ticket.getTicketId(), e);
+            reject(ticket, "주문 처리 중 오류가 발생했습니다.");
+        } finally {
+            finish(ticket);
+        }
+    }
+
+    /**
+     * 처리가 끝난 접수번호를 보존 기간이 있는 캐시로 옮긴다.
+     * - 캐시에 먼저 넣은 뒤 처리 중 목록에서 제거하여, 옮기는 도중에도 조회할 수 있도록 한다.
+     */
+    private void finish(OrderTicket ticket) {
+        finishedTickets.put(ticket.getTicketId(), ticket);
+        pendingTickets.remove(ticket.getTicketId());
+    }
+
+    private void reject(OrderTicket ticket, String message) {
+        ticket.reject(message);
+        failedCount.increment();
+    }
+
+    private OrderTicket findTicket(String ticketId) {
+        OrderTicket ticket = pendingTickets.get(ticketId);
+        if (ticket == null) {
+            ticket = finishedTickets.getIfPresent(ticketId);
+        }
+        if (ticket == null) {
+            throw new IllegalArgumentException("존재하지 않는 주문 접수번호입니다.");
+        }
+        return ticket;
+    }
+
+    private OrderTicketResponse toResponse(OrderTicket ticket) {
+        return OrderTicketResponse.builder()
+                .ticketId(ticket.getTicketId())
+                .status(ticket.getStatus())
+                .order(ticket.getOrder())
+                .message(ticket.getMessage())
+                .build();
+    }
+
+    private static void registerTicketCounter(String result, LongAdder count, MeterRegistry meterRegistry) {
+        FunctionCounter.builder(TICKET_COUNTER, count, LongAdder::sum)
+                .description("결과별 주문 접수 건수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,103 +1,252 @@
 package sample.cafekiosk.spring.api.service.order;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderBulkResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderBulkResultResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.api.service.stock.RetryOnStockConflict;
+import sample.cafekiosk.spring.api.service.stock.StockDeductor;
 import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderPaymentCompletedEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductType;
-import sample.cafekiosk.spring.domain.stock.Stock;
 import sample.cafekiosk.spring.repository.OrderRepository;
-import sample.cafekiosk.spring.repository.ProductRepository;
-import sample.cafekiosk.spring.repository.StockRepository;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class OrderService {
 
-    private final ProductRepository productRepository;
+    private static final int MAX_ORDER_PAGE_SIZE = 100;
+    private static final String ORDER_CREATE_PHASE_TIMER = "cafekiosk.order.create.phase";
+    private static final String STOCK_SHORTAGE_COUNTER = "cafekiosk.order.stock.shortage";
+
+    private final ProductCatalogCache productCatalogCache;
     private final OrderRepository orderRepository;
-    private final StockRepository stockRepository;
+    private final StockDeductor stockDeductor;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Timer findProductsTimer;
+    private final Timer deductStockTimer;
+    private final Timer saveOrderTimer;
+
+    /**
+     * 주문 생성 단계(상품 조회 / 재고 차감 / 주문 저장)별 소요 시간을 phase 태그로 구분하여 기록한다.
+     * - 주문 응답이 느려졌을 때 어느 단계에서 시간이 소요되었는지 확인하기 위함이다.
+     */
+    public OrderService(
+            ProductCatalogCache productCatalogCache
+            , OrderRepository orderRepository
+            , StockDeductor stockDeductor
+            , MeterRegistry meterRegistry
+            , ApplicationEventPublisher eventPublisher
+    ) {
+        this.productCatalogCache = productCatalogCache;
+        this.orderRepository = orderRepository;
+        this.stockDeductor = stockDeductor;
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.findProductsTimer = createPhaseTimer("find_products", meterRegistry);
+        this.deductStockTimer = createPhaseTimer("deduct_stock", meterRegistry);
+        this.saveOrderTimer = createPhaseTimer("save_order", meterRegistry);
+    }
 
     /**
      * 재고 감소는 동시성 고민이 필요한 서비스이다.
      * -> 동시에 요청이 들어온 경우 우선순위 충돌 발생 가능성이 존재한다.
      * -> Optimistic lock / pessimistic lock / ... 락에 대한 고민이 필요하다.
+     * -> 낙관적 락 모드(cafekiosk.stock.mode=optimistic)에서 재고 충돌 시 주문 생성 전체를 재시도한다.
+     * - 주문 수량이 최대 주문 수량을 넘으면 상품 조회 / 재고 차감 전에 거절한다.
      */
+    @RetryOnStockConflict
     public OrderResponse createOrder(OrderCreateServiceRequest request , LocalDateTime registeredDateTime) {
-        List<String> productNos = request.getProductNos();
+        validateQuantities(request);
 
         // Product
-        List<Product> products = findProductsBy(productNos);
+        Map<Product, Integer> productQuantities = findProductsTimer.record(() -> findProductsBy(request.getProductQuantities()));
 
-        deductStockQuantities(products);
+        deductStockTimer.record(() -> deductStockQuantities(productQuantities));
 
-        Order order = Order.create(products, registeredDateTime);
-        Order saveOrder = orderRepository.save(order);
+        Order order = Order.create(productQuantities, registeredDateTime);
+        Order saveOrder = saveOrderTimer.record(() -> orderRepository.save(order));
 
         return OrderResponse.of(saveOrder);
     }
 
-    private void deductStockQuantities(List<Product> products) {
-        List<String> stockProductNos = extractStockProductNos(products);
-        Map<String, Stock> stockMap = createStockMapBy(stockProductNos);
-        Map<String, Long> productCountingMap = createCountingMapBy(stockProductNos);
+    /**
+     * 다건 주문 생성
+     * - 전체 주문의 상품은 한 번의 조회로 가져온 뒤, 주문 단위로 재고 차감을 시도한다.
+     * - 최대 주문 수량 초과 / 재고 부족 등으로 실패한 주문은 결과에 실패로 기록하고, 나머지 주문은 계속 처리한다.
+     * - 성공한 주문은 saveAll()로 한 번에 저장하여 JDBC batch insert 대상이 되도록 한다.
+     */
+    @RetryOnStockConflict
+    public OrderBulkResponse createOrders(List<OrderCreateServiceRequest> requests, LocalDateTime registeredDateTime) {
+        List<String> allProductNos = requests.stream()
+                .flatMap(request -> request.getProductNos().stream())
+                .distinct()
+                .collect(Collectors.toList());
 
-        // 재고 차감 시도
-        for (String stockProductNo : new HashSet<>(stockProductNos)) {
-            Stock stock = stockMap.get(stockProductNo);
-            int quantity = productCountingMap.get(stockProductNo).intValue();
+        Map<String, Product> productMap = productCatalogCache.findAllByProductNoIn(allProductNos);
 
-            if (stock.isQuantityLessThan(quantity)) {
-                throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+        Map<Integer, Order> orderMap = new LinkedHashMap<>();
+        Map<Integer, String> failureMap = new LinkedHashMap<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                validateQuantities(requests.get(index));
+                Map<Product, Integer> productQuantities = mapProductsBy(requests.get(index).getProductQuantities(), productMap);
+                deductStockQuantities(productQuantities);
+
+                orderMap.put(index, Order.create(productQuantities, registeredDateTime));
+            } catch (IllegalArgumentException e) {
+                failureMap.put(index, e.getMessage());
             }
-            stock.deductQuantity(quantity);
         }
+
+        orderRepository.saveAll(orderMap.values());
+
+        List<OrderBulkResultResponse> results = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            results.add(orderMap.containsKey(index)
+                    ? OrderBulkResultResponse.success(index, OrderResponse.of(orderMap.get(index)))
+                    : OrderBulkResultResponse.failure(index, failureMap.get(index))
+            );
+        }
+        return OrderBulkResponse.of(results);
     }
 
     /**
-     * 동일한 상품이 중복으로 주문되었을 경우 처리를 위한 구문이다.
+     * 주문을 결제완료 상태로 변경하고, 매출 집계를 위한 OrderPaymentCompletedEvent를 발행한다.
+     * - 이미 결제완료된 주문은 이벤트를 다시 발행하지 않는다. (매출 중복 집계 방지)
      */
-    private List<Product> findProductsBy(List<String> productNos) {
-        List<Product> products = productRepository.findAllByProductNoIn(productNos);
+    public OrderResponse completePayment(Long orderId) {
+        Order order = orderRepository.findWithProductsById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
+
+        if (order.getOrderStatus() != OrderStatus.PAYMENT_COMPLETED) {
+            order.completePayment();
+            eventPublisher.publishEvent(OrderPaymentCompletedEvent.of(order));
+        }
+        return OrderResponse.of(order);
+    }
 
-        Map<String, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getProductNo, p -> p));
+    @Transactional(readOnly = true)
+    public OrderResponse getOrder(Long orderId) {
+        Order order = orderRepository.findWithProductsById(orderId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
 
-        return productNos.stream()
-                .map(productMap::get)
-                .collect(Collectors.toList());
+        return OrderResponse.of(order);
     }
 
-    private static List<String> extractStockProductNos(List<Product> products) {
-        // 재고 차감 체크가 필요한 상품들 filter
-        List<String> stockProductNos = products.stream()
-                .filter(product -> ProductType.containsStockType(product.getProductType()))
-                .map(Product::getProductNo)
+    /**
+     * 최근 주문 순으로 주문 목록을 조회한다.
+     * - 주문 ID 페이징 조회 1번 + 주문 / 주문 상품 / 상품 fetch join 조회 1번으로, 주문 건수 / 주문 상품 수와 관계 없이 쿼리 수가 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public List<OrderResponse> getOrders(int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_ORDER_PAGE_SIZE) {
+            throw new IllegalArgumentException(String.format("페이지는 0 이상, 페이지 크기는 1 이상 %s 이하여야 합니다.", MAX_ORDER_PAGE_SIZE));
+        }
+
+        List<Long> orderIds = orderRepository.findIdsBy(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id")));
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Order> orderMap = orderRepository.findAllWithProductsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, order -> order));
+
+        return orderIds.stream()
+                .map(orderMap::get)
+                .map(OrderResponse::of)
                 .collect(Collectors.toList());
-        return stockProductNos;
     }
 
-    private Map<String, Stock> createStockMapBy(List<String> stockProductNos) {
-        // 재고 엔티티 조회
-        List<Stock> stocks = stockRepository.findAllByProductNoIn(stockProductNos);
-        return stocks.stream()
-                .collect(Collectors.toMap(Stock::getProductNo, s -> s));
+    /**
+     * 재고 차감은 StockDeductor(설정에 따라 DB 조건부 update 또는 In-Memory 예약)로 한 번에 수행한다.
+     * - 부족한 재고가 하나라도 있으면 아무것도 차감되지 않으며 예외를 발생시킨다.
+     *   -> 다건 주문에서 실패한 주문의 재고가 일부만 차감되는 것을 방지한다.
+     * - 재고 부족으로 거절된 횟수는 상품번호별로 기록한다.
+     */
+    private void deductStockQuantities(Map<Product, Integer> productQuantities) {
+        Map<String, Integer> productCountingMap = createStockCountingMapBy(productQuantities);
+
+        List<String> failedProductNos = stockDeductor.deductQuantities(productCountingMap);
+        if (!failedProductNos.isEmpty()) {
+            failedProductNos.forEach(productNo -> Counter.builder(STOCK_SHORTAGE_COUNTER)
+                    .description("재고 부족으로 거절된 주문 수")
+                    .tag("productNo", productNo)
+                    .register(meterRegistry)
+                    .increment()
+            );
+            throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+        }
+    }
+
+    private static void validateQuantities(OrderCreateServiceRequest request) {
+        if (request.exceedsMaxQuantity()) {
+            throw new IllegalArgumentException(String.format("주문 수량은 %s개 이하여야 합니다.", OrderProduct.MAX_QUANTITY));
+        }
+    }
+
+    /**
+     * 동일한 상품이 중복으로 주문되었을 경우 처리를 위한 구문이다.
+     * - 상품은 ProductCatalogCache를 통해 조회한다.
+     */
+    private Map<Product, Integer> findProductsBy(Map<String, Integer> productQuantities) {
+        Map<String, Product> productMap = productCatalogCache.findAllByProductNoIn(productQuantities.keySet());
+
+        return mapProductsBy(productQuantities, productMap);
+    }
+
+    /**
+     * 상품번호별 수량을 상품별 수량으로 바꾼다.
+     * - 수량만큼 상품을 반복하지 않으므로, 주문 수량과 관계 없이 상품 종류 수만큼만 메모리를 사용한다.
+     */
+    private static Map<Product, Integer> mapProductsBy(Map<String, Integer> productQuantities, Map<String, Product> productMap) {
+        if (!productMap.keySet().containsAll(productQuantities.keySet())) {
+            throw new IllegalArgumentException("존재하지 않는 상품이 있습니다.");
+        }
+
+        Map<Product, Integer> quantities = new LinkedHashMap<>();
+        productQuantities.forEach((productNo, quantity) -> quantities.put(productMap.get(productNo), quantity));
+        return quantities;
     }
 
-    private static Map<String, Long> createCountingMapBy(List<String> stockProductNos) {
-        // 상품별 Counting
-        Map<String, Long> productCountingMap = stockProductNos.stream()
-                .collect(Collectors.groupingBy(p -> p, Collectors.counting()));
+    /**
+     * 재고 차감 체크가 필요한 상품만 상품번호별 수량으로 모은다.
+     */
+    private static Map<String, Integer> createStockCountingMapBy(Map<Product, Integer> productQuantities) {
+        Map<String, Integer> productCountingMap = new LinkedHashMap<>();
+        productQuantities.forEach((product, quantity) -> {
+            if (ProductType.containsStockType(product.getProductType())) {
+                productCountingMap.merge(product.getProductNo(), quantity, Integer::sum);
+            }
+        });
         return productCountingMap;
     }
+
+    private static Timer createPhaseTimer(String phase, MeterRegistry meterRegistry) {
+        return Timer.builder(ORDER_CREATE_PHASE_TIMER)
+                .description("주문 생성 단계별 소요 시간")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기로 접수된 주문 1건
+ * - 접수 스레드와 워커 스레드가 함께 접근하기 때문에 상태는 volatile로 관리하고, 처리 결과는 completion으로 알린다.
+ */
+@Getter
+class OrderTicket {
+
+    private final String ticketId;
+    private final OrderCreateServiceRequest request;
+    private final LocalDateTime registeredDateTime;
+    private final long acceptedNanos;
+    private final CompletableFuture<OrderTicket> completion = new CompletableFuture<>();
+
+    private volatile OrderTicketStatus status = OrderTicketStatus.QUEUED;
+    private volatile OrderResponse order;
+    private volatile String message;
+
+    OrderTicket(String ticketId, OrderCreateServiceRequest request, LocalDateTime registeredDateTime, long acceptedNanos) {
+        this.ticketId = ticketId;
+        this.request = request;
+        this.registeredDateTime = registeredDateTime;
+        this.acceptedNanos = acceptedNanos;
+    }
+
+    void startProcessing() {
+        this.status = OrderTicketStatus.PROCESSING;
+    }
+
+    void complete(OrderResponse order) {
+        this.order = order;
+        this.status = OrderTicketStatus.COMPLETED;
+        completion.complete(this);
+    }
+
+    void reject(String message) {
+        this.message = message;
+        this.status = OrderTicketStatus.REJECTED;
+        completion.complete(this);
+    }
+}
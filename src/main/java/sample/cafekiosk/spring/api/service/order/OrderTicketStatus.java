@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OrderTicketStatus {
+
+    QUEUED("접수 대기")
+    , PROCESSING("주문 처리 중")
+    , COMPLETED("주문 완료")
+    , REJECTED("주문 거절");
+
+    private final String text;
+
+    public boolean isDone() {
+        return this == COMPLETED || this == REJECTED;
+    }
+}
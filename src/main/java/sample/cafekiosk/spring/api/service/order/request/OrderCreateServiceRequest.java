@@ -3,17 +3,57 @@ package sample.cafekiosk.spring.api.service.order.request;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
 public class OrderCreateServiceRequest {
 
-    private List<String> productNos;
+    /**
+     * 상품번호별 주문 수량 (상품번호 리스트로 전달된 상품은 1개당 수량 1로 합산한다.)
+     */
+    private Map<String, Integer> productQuantities = Map.of();
 
+    /**
+     * 상품번호별 수량이 OrderProduct.MAX_QUANTITY를 넘는지는 OrderService에서 상품 조회 / 재고 차감 전에 확인한다.
+     * - 요청 변환 중에 예외가 발생하면 다건 주문 전체가 실패하므로, 여기서는 합산만 한다.
+     */
     @Builder
-    private OrderCreateServiceRequest(List<String> productNos) {
-        this.productNos = productNos;
+    private OrderCreateServiceRequest(List<String> productNos, Map<String, Integer> productQuantities) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        if (productNos != null) {
+            productNos.forEach(productNo -> quantities.merge(productNo, 1, OrderCreateServiceRequest::sumQuantities));
+        }
+        if (productQuantities != null) {
+            productQuantities.forEach((productNo, quantity) -> quantities.merge(productNo, quantity, OrderCreateServiceRequest::sumQuantities));
+        }
+        this.productQuantities = Collections.unmodifiableMap(quantities);
+    }
+
+    /**
+     * 같은 상품의 수량을 합산한다. 합계가 int 범위를 넘으면 Integer.MAX_VALUE로 고정한다. (int overflow 방지)
+     */
+    public static int sumQuantities(int quantity, int otherQuantity) {
+        return (int) Math.min((long) quantity + otherQuantity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 상품번호별 수량 중 OrderProduct.MAX_QUANTITY를 넘는 수량이 있는지 확인한다.
+     */
+    public boolean exceedsMaxQuantity() {
+        return productQuantities.values().stream().anyMatch(quantity -> quantity > OrderProduct.MAX_QUANTITY);
+    }
+
+    /**
+     * 주문할 상품번호 리스트 (중복 제거)
+     */
+    public List<String> getProductNos() {
+        return new ArrayList<>(productQuantities.keySet());
     }
 }
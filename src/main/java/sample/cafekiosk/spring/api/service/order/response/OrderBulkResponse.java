@@ -0,0 +1,33 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class OrderBulkResponse {
+
+    private int successCount;
+    private int failureCount;
+    private List<OrderBulkResultResponse> results;
+
+    @Builder
+    private OrderBulkResponse(int successCount, int failureCount, List<OrderBulkResultResponse> results) {
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.results = results;
+    }
+
+    public static OrderBulkResponse of(List<OrderBulkResultResponse> results) {
+        int successCount = (int) results.stream()
+                .filter(OrderBulkResultResponse::isSuccess)
+                .count();
+
+        return OrderBulkResponse.builder()
+                .successCount(successCount)
+                .failureCount(results.size() - successCount)
+                .results(results)
+                .build();
+    }
+}
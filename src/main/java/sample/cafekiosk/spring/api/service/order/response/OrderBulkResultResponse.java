@@ -0,0 +1,37 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class OrderBulkResultResponse {
+
+    private int index;          // 요청 리스트 내 주문 순번
+    private boolean success;
+    private String message;
+    private OrderResponse order;
+
+    @Builder
+    private OrderBulkResultResponse(int index, boolean success, String message, OrderResponse order) {
+        this.index = index;
+        this.success = success;
+        this.message = message;
+        this.order = order;
+    }
+
+    public static OrderBulkResultResponse success(int index, OrderResponse order) {
+        return OrderBulkResultResponse.builder()
+                .index(index)
+                .success(true)
+                .order(order)
+                .build();
+    }
+
+    public static OrderBulkResultResponse failure(int index, String message) {
+        return OrderBulkResultResponse.builder()
+                .index(index)
+                .success(false)
+                .message(message)
+                .build();
+    }
+}
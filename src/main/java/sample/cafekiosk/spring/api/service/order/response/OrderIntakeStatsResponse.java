@@ -0,0 +1,41 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class OrderIntakeStatsResponse {
+
+    private int queueDepth;
+    private int queueCapacity;
+    private int workerCount;
+    private long acceptedCount;
+    private long rejectedCount;
+    private double rejectionRate;
+    private long completedCount;
+    private long failedCount;
+    private double averageWaitMillis;
+
+    @Builder
+    private OrderIntakeStatsResponse(
+            int queueDepth
+            , int queueCapacity
+            , int workerCount
+            , long acceptedCount
+            , long rejectedCount
+            , double rejectionRate
+            , long completedCount
+            , long failedCount
+            , double averageWaitMillis
+    ) {
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.workerCount = workerCount;
+        this.acceptedCount = acceptedCount;
+        this.rejectedCount = rejectedCount;
+        this.rejectionRate = rejectionRate;
+        this.completedCount = completedCount;
+        this.failedCount = failedCount;
+        this.averageWaitMillis = averageWaitMillis;
+    }
+}
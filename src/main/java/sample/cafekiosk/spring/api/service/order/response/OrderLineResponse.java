@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
+
+@Getter
+public class OrderLineResponse {
+
+    private String productNo;
+    private String productName;
+    private int unitPrice;
+    private int quantity;
+    private int linePrice;
+
+    @Builder
+    private OrderLineResponse(String productNo, String productName, int unitPrice, int quantity, int linePrice) {
+        this.productNo = productNo;
+        this.productName = productName;
+        this.unitPrice = unitPrice;
+        this.quantity = quantity;
+        this.linePrice = linePrice;
+    }
+
+    public static OrderLineResponse of(OrderProduct orderProduct) {
+        return OrderLineResponse.builder()
+                .productNo(orderProduct.getProduct().getProductNo())
+                .productName(orderProduct.getProduct().getProductName())
+                .unitPrice(orderProduct.getUnitPrice())
+                .quantity(orderProduct.getQuantity())
+                .linePrice(orderProduct.getLinePrice())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package sample.cafekiosk.spring.api.service.order.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
@@ -9,19 +10,28 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * 주문 응답
+ * - lines : 주문 라인(상품별 단가 / 수량) 형식
+ * - products : 주문한 상품 목록(주문 라인별 1건)이며, compact() 응답에서는 제외된다.
+ *   -> 수량만큼 상품을 반복하지 않는다. 수량은 lines로 확인한다.
+ */
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OrderResponse {
 
     private Long id;
     private int totalPrice;
     private LocalDateTime registeredDateTime;
+    private List<OrderLineResponse> lines;
     private List<ProductResponse> products;
 
     @Builder
-    private OrderResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<ProductResponse> products) {
+    private OrderResponse(Long id, int totalPrice, LocalDateTime registeredDateTime, List<OrderLineResponse> lines, List<ProductResponse> products) {
         this.id = id;
         this.totalPrice = totalPrice;
         this.registeredDateTime = registeredDateTime;
+        this.lines = lines;
         this.products = products;
     }
 
@@ -30,10 +40,26 @@ public class OrderResponse {
                 .id(order.getId())
                 .totalPrice(order.getTotalPrice())
                 .registeredDateTime(order.getRegisteredDateTime())
+                .lines(order.getOrderProducts().stream()
+                        .map(OrderLineResponse::of)
+                        .collect(Collectors.toList())
+                )
                 .products(order.getOrderProducts().stream()
                         .map(orderProduct -> ProductResponse.of(orderProduct.getProduct()))
                         .collect(Collectors.toList())
                 )
                 .build();
     }
+
+    /**
+     * 주문 라인만 포함하는 응답 (대량 주문의 응답 크기를 줄이기 위해 사용)
+     */
+    public OrderResponse compact() {
+        return OrderResponse.builder()
+                .id(id)
+                .totalPrice(totalPrice)
+                .registeredDateTime(registeredDateTime)
+                .lines(lines)
+                .build();
+    }
 }
@@ -0,0 +1,22 @@
+package sample.cafekiosk.spring.api.service.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sample.cafekiosk.spring.api.service.order.OrderTicketStatus;
+
+@Getter
+public class OrderTicketResponse {
+
+    private String ticketId;
+    private OrderTicketStatus status;
+    private OrderResponse order;
+    private String message;
+
+    @Builder
+    private OrderTicketResponse(String ticketId, OrderTicketStatus status, OrderResponse order, String message) {
+        this.ticketId = ticketId;
+        this.status = status;
+        this.order = order;
+        this.message = message;
+    }
+}
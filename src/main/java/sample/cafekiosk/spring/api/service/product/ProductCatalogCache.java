@@ -0,0 +1,151 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.repository.ProductRepository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 상품번호로 상품을 조회하는 In-Process 캐시 (Guava Cache)
+ * - 상품 정보는 하루에 몇 번 변경되지 않기 때문에 주문 시 상품 조회 쿼리를 줄이기 위해 사용한다.
+ * - 최대 개수 / 저장 후 만료 시간으로 제거되며, 상품이 저장 / 변경되면 해당 상품번호를 무효화한다.
+ * - 캐시에는 불변 값(CachedProduct)을 저장하고, 조회할 때마다 새로운 준영속 상품을 만들어 반환한다.
+ *   -> 스레드 / 트랜잭션 간에 같은 엔티티 인스턴스를 공유하지 않는다.
+ * - 무효화할 때마다 generation을 증가시키며, 조회하는 동안 generation이 바뀌었다면 조회한 상품을 다시 무효화한다.
+ *   -> 변경 커밋 이전에 조회한 상품이 무효화 이후에 저장되어 남아있지 않도록 한다.
+ */
+@Component
+public class ProductCatalogCache {
+
+    private final ProductRepository productRepository;
+    private final Cache<String, CachedProduct> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductCatalogCache(
+            ProductRepository productRepository
+            , @Value("${cafekiosk.product.cache.maximum-size:1000}") long maximumSize
+            , @Value("${cafekiosk.product.cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds
+    ) {
+        this.productRepository = productRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 없는 상품번호만 한 번에 조회하여 캐시에 저장한다.
+     * - 존재하지 않는 상품번호는 결과에 포함되지 않는다.
+     */
+    public Map<String, Product> findAllByProductNoIn(Collection<String> productNos) {
+        Map<String, Product> productMap = new HashMap<>();
+        cache.getAllPresent(productNos).forEach((productNo, cachedProduct) -> productMap.put(productNo, cachedProduct.toProduct()));
+
+        List<String> missingProductNos = productNos.stream()
+                .distinct()
+                .filter(productNo -> !productMap.containsKey(productNo))
+                .collect(Collectors.toList());
+        if (!missingProductNos.isEmpty()) {
+            long loadedGeneration = generation.get();
+            List<Product> products = productRepository.findAllByProductNoIn(missingProductNos);
+            for (Product product : products) {
+                cache.put(product.getProductNo(), CachedProduct.of(product));
+                productMap.put(product.getProductNo(), product);
+            }
+
+            // 조회하는 동안 무효화되었다면, 무효화 이전의 상품을 저장했을 수 있으므로 다시 무효화한다.
+            if (generation.get() != loadedGeneration) {
+                products.forEach(product -> cache.invalidate(product.getProductNo()));
+            }
+        }
+        return productMap;
+    }
+
+    /**
+     * 트랜잭션 진행중이라면 커밋 이후에 무효화하여, 커밋 전의 상품 정보가 다시 캐시되지 않도록 한다.
+     */
+    public void invalidate(String productNo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(productNo);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(productNo);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    /**
+     * generation을 먼저 증가시킨 뒤 무효화한다. (조회 중인 쪽에서 generation 변경을 확인하고 다시 무효화할 수 있도록)
+     */
+    private void evict(String productNo) {
+        generation.incrementAndGet();
+        cache.invalidate(productNo);
+    }
+
+    private static final class CachedProduct {
+
+        private final Long id;
+        private final String productNo;
+        private final ProductType productType;
+        private final ProductStatus productStatus;
+        private final String productName;
+        private final int productPrice;
+
+        private CachedProduct(Long id, String productNo, ProductType productType, ProductStatus productStatus, String productName, int productPrice) {
+            this.id = id;
+            this.productNo = productNo;
+            this.productType = productType;
+            this.productStatus = productStatus;
+            this.productName = productName;
+            this.productPrice = productPrice;
+        }
+
+        private static CachedProduct of(Product product) {
+            return new CachedProduct(
+                    product.getId()
+                    , product.getProductNo()
+                    , product.getProductType()
+                    , product.getProductStatus()
+                    , product.getProductName()
+                    , product.getProductPrice()
+            );
+        }
+
+        private Product toProduct() {
+            return Product.restore(id, productNo, productType, productStatus, productName, productPrice);
+        }
+    }
+}
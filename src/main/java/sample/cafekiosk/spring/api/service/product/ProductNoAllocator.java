@@ -0,0 +1,88 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.repository.ProductNoCounterRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품번호 발급기
+ * - PRODUCT_NO_COUNTER에서 block-size개의 번호를 한 번에 예약하고, 예약한 구간 안에서는 DB 조회 없이 메모리에서 발급한다.
+ * - 구간 예약은 별도 트랜잭션으로 바로 커밋하여 카운터 row lock을 짧게 잡는다.
+ * - 호출한 쪽의 트랜잭션 밖에서만 발급한다.
+ *   -> 트랜잭션 안에서 발급하면 커넥션을 잡은 채 예약용 커넥션을 하나 더 기다리게 되어,
+ *      동시 요청이 커넥션 풀 크기만큼 몰리면 서로의 커넥션을 기다리며 멈출 수 있다.
+ *   -> 여러 인스턴스가 각자 다른 구간을 예약하므로 상품번호가 중복되지 않는다.
+ * - 상품 저장이 롤백되거나 인스턴스가 종료되면 예약해둔 번호는 사용되지 않고 건너뛴다. (번호가 연속되지 않을 수 있다.)
+ * - 상품번호는 format(기본 %03d)으로 만들며, 자릿수를 넘는 번호도 잘리지 않는다. (ex. 999 -> 1000)
+ */
+@Component
+public class ProductNoAllocator {
+
+    private final ProductNoCounterRepository productNoCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final String format;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextNo;
+    private long limitNo;
+
+    public ProductNoAllocator(
+            ProductNoCounterRepository productNoCounterRepository
+            , PlatformTransactionManager transactionManager
+            , @Value("${cafekiosk.product.number.block-size:100}") int blockSize
+            , @Value("${cafekiosk.product.number.format:%03d}") String format
+    ) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("상품번호 예약 구간 크기는 1 이상이어야 합니다.");
+        }
+
+        this.productNoCounterRepository = productNoCounterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.blockSize = blockSize;
+        this.format = format;
+    }
+
+    public String allocate() {
+        return allocate(1).get(0);
+    }
+
+    /**
+     * 상품번호를 count개 발급한다.
+     * - 남은 구간이 부족하면 부족한 개수와 block-size 중 큰 만큼 한 번에 예약한다.
+     */
+    public List<String> allocate(int count) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("상품번호는 트랜잭션 밖에서 발급해야 합니다.");
+        }
+
+        List<String> productNos = new ArrayList<>(count);
+
+        lock.lock();
+        try {
+            while (productNos.size() < count) {
+                if (nextNo >= limitNo) {
+                    reserve(Math.max(blockSize, count - productNos.size()));
+                }
+                productNos.add(String.format(format, nextNo++));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return productNos;
+    }
+
+    private void reserve(int size) {
+        Long firstNo = transactionTemplate.execute(status -> productNoCounterRepository.reserve(size));
+
+        nextNo = firstNo;
+        limitNo = firstNo + size;
+    }
+}
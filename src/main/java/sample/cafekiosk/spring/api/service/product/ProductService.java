@@ -2,12 +2,15 @@ package sample.cafekiosk.spring.api.service.product;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductStatus;
 import sample.cafekiosk.spring.repository.ProductRepository;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,40 +19,65 @@ import java.util.stream.Collectors;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final SellingProductsSnapshotProvider sellingProductsSnapshotProvider;
+    private final ProductNoAllocator productNoAllocator;
 
     /**
      * 동시성 이슈도 생각해 볼 필요가 있다.
      * - productNo를 unique 조건을 설정하여, 동시에 요청되어 이슈가 발생한 경우 저장할 때 데이터베이스에서 오류를 반환하도록 진행 할 수 있다.
      * - 동시성에 대한 민감한 경우 Application 단에서 UUID를 설정하여 ProductNo로 구성할 수 있다.
+     * -> 상품번호는 ProductNoAllocator가 카운터 row에서 구간 단위로 예약한 번호로 발급하여, 동시에 등록되어도 중복되지 않는다.
      */
     public ProductResponse createProduct(ProductCreateServiceRequest request) {
 
         // productNo
         // 001 / 002 / 003 / 004
-        // DB에서 마지막 저장된 Product의 상품번호를 읽어서 +1
-        String nextProductNo = createNextProductNo();
+        String nextProductNo = productNoAllocator.allocate();
 
         Product product = request.toEntity(nextProductNo);
         Product savedProduct = productRepository.save(product);
+        productCatalogCache.invalidate(savedProduct.getProductNo());
+        sellingProductsSnapshotProvider.invalidate();
 
         return ProductResponse.of(savedProduct);
     }
 
-    private String createNextProductNo() {
-        String latestProductNo = productRepository.findLatestProductNo();
-        if (latestProductNo == null) {
-            return "001";
-        }
+    @Transactional
+    public ProductResponse changeProductStatus(String productNo, ProductStatus productStatus) {
+        Product product = productRepository.findByProductNo(productNo)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+
+        product.changeProductStatus(productStatus);
+        productCatalogCache.invalidate(productNo);
+        sellingProductsSnapshotProvider.invalidate();
 
-        int nextProductNo = Integer.parseInt(latestProductNo) + 1;
-        return String.format("%03d", nextProductNo);
+        return ProductResponse.of(product);
     }
 
-    public List<ProductResponse> getSellingProducts() {
-        List<Product> products = productRepository.findAllByProductStatusIn(ProductStatus.forDisplay());
+    /**
+     * 다건 상품 등록
+     * - 상품번호를 한 번에 발급받고, saveAll()로 한 번에 저장하여 JDBC batch insert 대상이 되도록 한다.
+     * - 상품번호는 트랜잭션 밖에서 발급해야 하므로 메서드 전체를 트랜잭션으로 묶지 않는다. (저장은 saveAll()의 트랜잭션 1번으로 수행된다.)
+     */
+    public List<ProductResponse> createProducts(List<ProductCreateServiceRequest> requests) {
+        List<String> productNos = productNoAllocator.allocate(requests.size());
 
-        return products.stream()
+        List<Product> products = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            products.add(requests.get(index).toEntity(productNos.get(index)));
+        }
+
+        List<Product> savedProducts = productRepository.saveAll(products);
+        savedProducts.forEach(product -> productCatalogCache.invalidate(product.getProductNo()));
+        sellingProductsSnapshotProvider.invalidate();
+
+        return savedProducts.stream()
                 .map(ProductResponse::of)
                 .collect(Collectors.toList());
     }
+
+    public SellingProductsSnapshot getSellingProductsSnapshot() {
+        return sellingProductsSnapshotProvider.get();
+    }
 }
@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.config.ReplicaRead;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+import sample.cafekiosk.spring.repository.ProductRepository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 판매 상품 스냅샷을 만들기 위한 조회
+ * - 읽기 / 쓰기 분리 시 Replica 커넥션 풀에서 조회한다. (복제 지연만큼 이전 상품 목록이 조회될 수 있다.)
+ * - @ReplicaRead는 프록시를 거쳐야 동작하므로 SellingProductsSnapshotProvider와 별도의 빈으로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SellingProductsReader {
+
+    private final ProductRepository productRepository;
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public List<ProductResponse> read() {
+        return productRepository.findAllByProductStatusIn(ProductStatus.forDisplay()).stream()
+                .map(ProductResponse::of)
+                .collect(Collectors.toList());
+    }
+}
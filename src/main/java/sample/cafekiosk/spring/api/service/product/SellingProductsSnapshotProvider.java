@@ -0,0 +1,95 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 판매 상품 조회 응답을 미리 직렬화해두고, 상품이 변경된 경우에만 다시 만든다.
+ * - 키오스크가 몇 초마다 조회하는 API이므로 매번 조회 / 변환 / 직렬화하지 않도록 한다.
+ * - 상품이 변경되면 generation을 증가시키며, generation이 다른 스냅샷은 다음 조회 시 다시 만든다.
+ *   (변경 이전에 만들기 시작한 스냅샷이 변경 이후에 저장되더라도 재사용되지 않는다.)
+ * - 스냅샷은 SellingProductsReader로 Replica에서 조회하여 만든다. (스냅샷을 재사용하는 경우에는 트랜잭션을 시작하지 않는다.)
+ *   -> 무효화 직후에는 복제 지연으로 변경 이전 상품 목록을 읽을 수 있으므로, 무효화 이후 max-lag-millis가 지나기 전에 만든 스냅샷은 저장하지 않는다.
+ *   -> 복제 지연이 max-lag-millis를 넘으면 ReplicaLagMonitor가 조회를 Primary로 보내므로, 그 이후에 만든 스냅샷은 변경이 반영되어 있다.
+ */
+@Component
+public class SellingProductsSnapshotProvider {
+
+    private final SellingProductsReader sellingProductsReader;
+    private final ObjectMapper objectMapper;
+    private final long maxLagNanos;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long settledAtNanos;
+    private volatile SellingProductsSnapshot snapshot;
+
+    public SellingProductsSnapshotProvider(
+            SellingProductsReader sellingProductsReader
+            , ObjectMapper objectMapper
+            , @Value("${cafekiosk.datasource.replica.max-lag-millis:1000}") long maxLagMillis
+    ) {
+        this.sellingProductsReader = sellingProductsReader;
+        this.objectMapper = objectMapper;
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMillis);
+        this.settledAtNanos = System.nanoTime();
+    }
+
+    public SellingProductsSnapshot get() {
+        SellingProductsSnapshot current = this.snapshot;
+        long currentGeneration = generation.get();
+        if (current != null && current.getGeneration() == currentGeneration) {
+            return current;
+        }
+
+        // generation을 읽은 이후에 확인해야 해당 generation의 무효화 시각을 기준으로 판단한다.
+        boolean settled = System.nanoTime() - settledAtNanos >= 0;
+        SellingProductsSnapshot rebuilt = build(currentGeneration);
+        if (settled) {
+            this.snapshot = rebuilt;
+        }
+        return rebuilt;
+    }
+
+    /**
+     * 트랜잭션 진행중이라면 커밋 이후에 무효화한다.
+     */
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            nextGeneration();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                nextGeneration();
+            }
+        });
+    }
+
+    private void nextGeneration() {
+        settledAtNanos = System.nanoTime() + maxLagNanos;
+        generation.incrementAndGet();
+    }
+
+    private SellingProductsSnapshot build(long generation) {
+        List<ProductResponse> products = sellingProductsReader.read();
+
+        try {
+            return SellingProductsSnapshot.of(generation, objectMapper.writeValueAsBytes(ApiResponse.ok(products)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("판매 상품 응답을 만들지 못했습니다.", e);
+        }
+    }
+}
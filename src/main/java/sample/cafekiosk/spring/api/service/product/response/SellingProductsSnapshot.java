@@ -0,0 +1,26 @@
+package sample.cafekiosk.spring.api.service.product.response;
+
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+
+/**
+ * 판매 상품 조회 API의 직렬화된 응답(JSON)과 ETag
+ * - ETag는 응답 내용의 해시값이므로 재시작 / 다중 인스턴스 환경에서도 내용이 같으면 같은 값이다.
+ */
+@Getter
+public class SellingProductsSnapshot {
+
+    private final long generation;
+    private final byte[] body;
+    private final String eTag;
+
+    private SellingProductsSnapshot(long generation, byte[] body) {
+        this.generation = generation;
+        this.body = body;
+        this.eTag = "\"" + Hashing.murmur3_128().hashBytes(body) + "\"";
+    }
+
+    public static SellingProductsSnapshot of(long generation, byte[] body) {
+        return new SellingProductsSnapshot(generation, body);
+    }
+}
@@ -0,0 +1,50 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 매출 집계 재계산 명령
+ * - 애플리케이션 실행 인자로 기간을 전달하면 기동 시점에 해당 기간의 집계를 다시 계산한다.
+ *   ex) java -jar cafekiosk.jar --rebuild-sales-rollup=2023-03-01,2023-03-05
+ * - 매일 rebuild-cron 시각에 전날 집계를 다시 계산하여, 전날부터는 매출 조회가 집계를 사용하도록 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SalesRollupRebuildRunner implements ApplicationRunner {
+
+    private static final String OPTION_NAME = "rebuild-sales-rollup";
+
+    private final SalesRollupService salesRollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION_NAME)) {
+            return;
+        }
+
+        for (String range : args.getOptionValues(OPTION_NAME)) {
+            String[] dates = range.split(",");
+            LocalDate startDate = LocalDate.parse(dates[0].trim());
+            LocalDate endDate = dates.length > 1 ? LocalDate.parse(dates[1].trim()) : startDate;
+
+            salesRollupService.rebuild(startDate, endDate);
+            log.info("매출 집계 재계산 완료 : {} ~ {}", startDate, endDate);
+        }
+    }
+
+    @Scheduled(cron = "${cafekiosk.sales.rollup.rebuild-cron:0 10 0 * * *}")
+    public void rebuildYesterday() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+
+        salesRollupService.rebuild(yesterday, yesterday);
+        log.info("매출 집계 재계산 완료 : {}", yesterday);
+    }
+}
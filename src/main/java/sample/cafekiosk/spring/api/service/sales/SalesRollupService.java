@@ -0,0 +1,64 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.config.ReplicaRead;
+import sample.cafekiosk.spring.domain.order.OrderPaymentCompletedEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.repository.HourlySalesRepository;
+import sample.cafekiosk.spring.repository.OrderRepository;
+import sample.cafekiosk.spring.repository.SalesRollupDateRepository;
+
+import java.time.LocalDate;
+
+/**
+ * 결제완료 매출 집계(HOURLY_SALES)를 관리한다.
+ * - 주문이 결제완료되면 발행되는 OrderPaymentCompletedEvent를 받아 주문과 같은 트랜잭션에서 집계를 증가시킨다.
+ * - 일자별 매출 조회는 주문 건수와 관계없이 최대 24건의 집계만 읽는다.
+ * - 다시 계산한 기록(SALES_ROLLUP_DATE.REBUILT_DATE_TIME)이 없는 일자는 일부 시간대만 집계되어 있을 수 있으므로(집계 도입 이전 주문 등),
+ *   집계 대신 ORDERS 테이블에서 매출 합계만 계산하여 조회한다. (엔티티를 조회하지 않는 OrderAmountSummary 프로젝션)
+ * - 조회는 집계를 쓰지 않는다. 집계를 채우는 것은 rebuild()(SalesRollupRebuildRunner)에서만 수행한다.
+ * - 일자별 매출 조회(매출 통계 메일)는 지난 일자를 조회하므로 복제 지연을 허용하여 Replica에서 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService {
+
+    private final HourlySalesRepository hourlySalesRepository;
+    private final SalesRollupDateRepository salesRollupDateRepository;
+    private final OrderRepository orderRepository;
+
+    @EventListener
+    @Transactional
+    public void increase(OrderPaymentCompletedEvent event) {
+        hourlySalesRepository.increase(event.getRegisteredDateTime(), event.getTotalPrice());
+    }
+
+    @ReplicaRead
+    @Transactional(readOnly = true)
+    public long getDailyTotalAmount(LocalDate salesDate) {
+        if (salesRollupDateRepository.existsBySalesDateAndRebuiltDateTimeIsNotNull(salesDate)) {
+            return hourlySalesRepository.sumTotalAmountBy(salesDate);
+        }
+
+        return orderRepository.findAmountSummaryBy(
+                salesDate.atStartOfDay()
+                , salesDate.plusDays(1).atStartOfDay()
+                , OrderStatus.PAYMENT_COMPLETED
+        ).getTotalAmount();
+    }
+
+    /**
+     * ORDERS 테이블 기준으로 기간(시작일 ~ 종료일)의 집계를 다시 계산한다.
+     */
+    @Transactional
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("집계 시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        hourlySalesRepository.rebuild(startDate, endDate);
+    }
+}
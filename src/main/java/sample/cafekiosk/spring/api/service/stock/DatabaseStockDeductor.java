@@ -0,0 +1,34 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.repository.StockRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * STOCK 테이블에 조건부 update로 바로 재고를 차감한다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cafekiosk.stock", name = "mode", havingValue = "database", matchIfMissing = true)
+public class DatabaseStockDeductor implements StockDeductor {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public List<String> deductQuantities(Map<String, Integer> quantities) {
+        List<String> failedProductNos = stockRepository.deductQuantities(quantities);
+
+        if (!failedProductNos.isEmpty()) {
+            // 차감에 성공한 상품의 재고는 되돌린다.
+            Map<String, Integer> deductedQuantities = new HashMap<>(quantities);
+            deductedQuantities.keySet().removeAll(failedProductNos);
+            stockRepository.restoreQuantities(deductedQuantities);
+        }
+        return failedProductNos;
+    }
+}
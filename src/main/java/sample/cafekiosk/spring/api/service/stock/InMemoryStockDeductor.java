@@ -0,0 +1,172 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.repository.StockRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리에서 재고를 예약(차감)하고, 차감 내역은 주기적으로 STOCK 테이블에 반영한다. (Write-Behind)
+ * - 상품번호별 잔여 수량을 AtomicInteger로 관리하며, CAS로 차감하기 때문에 락 없이도 재고가 음수가 되지 않는다.
+ * - 트랜잭션이 커밋된 차감 내역만 반영 대상이 되며, 롤백된 경우 예약한 재고를 되돌린다.
+ * - 애플리케이션 시작 시 STOCK 테이블의 수량으로 잔여 수량을 맞춘다. (처음 주문되는 상품은 주문 시점에 조회한다.)
+ *
+ * 주의
+ * - 잔여 수량은 애플리케이션 인스턴스 1개가 재고를 전담한다는 전제로 관리된다.
+ * - 반영되지 않은 차감 내역은 종료 시점에 반영하지만, 비정상 종료 시 마지막 주기의 내역이 유실될 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cafekiosk.stock", name = "mode", havingValue = "memory")
+public class InMemoryStockDeductor implements StockDeductor {
+
+    private final StockRepository stockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentMap<String, AtomicInteger> availableQuantities = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> pendingQuantities = new ConcurrentHashMap<>();
+
+    public InMemoryStockDeductor(StockRepository stockRepository, PlatformTransactionManager transactionManager) {
+        this.stockRepository = stockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        List<Stock> stocks = stockRepository.findAll();
+        stocks.forEach(this::registerAvailableQuantity);
+
+        log.info("재고 잔여 수량 로드 완료 : {}건", stocks.size());
+    }
+
+    @Override
+    public List<String> deductQuantities(Map<String, Integer> quantities) {
+        loadMissingQuantities(quantities.keySet());
+
+        Map<String, Integer> reservedQuantities = new HashMap<>();
+        List<String> failedProductNos = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : new TreeMap<>(quantities).entrySet()) {
+            if (tryReserve(entry.getKey(), entry.getValue())) {
+                reservedQuantities.put(entry.getKey(), entry.getValue());
+            } else {
+                failedProductNos.add(entry.getKey());
+            }
+        }
+
+        if (!failedProductNos.isEmpty()) {
+            release(reservedQuantities);
+            return failedProductNos;
+        }
+
+        registerAfterCompletion(reservedQuantities);
+        return failedProductNos;
+    }
+
+    /**
+     * 커밋된 차감 내역을 STOCK 테이블에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${cafekiosk.stock.memory.flush-interval-millis:200}")
+    public void flush() {
+        Map<String, Integer> deductedQuantities = new HashMap<>();
+        pendingQuantities.forEach((productNo, pending) -> {
+            int quantity = pending.getAndSet(0);
+            if (quantity != 0) {
+                deductedQuantities.put(productNo, quantity);
+            }
+        });
+
+        if (deductedQuantities.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> stockRepository.subtractQuantities(deductedQuantities));
+        } catch (RuntimeException e) {
+            log.error("재고 차감 내역 반영에 실패했습니다. 다음 주기에 다시 반영합니다.", e);
+            deductedQuantities.forEach(this::addPending);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public Optional<Integer> getAvailableQuantity(String productNo) {
+        return Optional.ofNullable(availableQuantities.get(productNo))
+                .map(AtomicInteger::get);
+    }
+
+    private void loadMissingQuantities(Set<String> productNos) {
+        List<String> missingProductNos = productNos.stream()
+                .filter(productNo -> !availableQuantities.containsKey(productNo))
+                .collect(Collectors.toList());
+
+        if (!missingProductNos.isEmpty()) {
+            stockRepository.findAllByProductNoIn(missingProductNos)
+                    .forEach(this::registerAvailableQuantity);
+        }
+    }
+
+    private void registerAvailableQuantity(Stock stock) {
+        availableQuantities.putIfAbsent(stock.getProductNo(), new AtomicInteger(stock.getQuantity()));
+    }
+
+    private boolean tryReserve(String productNo, int quantity) {
+        AtomicInteger available = availableQuantities.get(productNo);
+        if (available == null) {
+            return false;
+        }
+
+        int current;
+        do {
+            current = available.get();
+            if (current < quantity) {
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - quantity));
+        return true;
+    }
+
+    private void release(Map<String, Integer> quantities) {
+        quantities.forEach((productNo, quantity) -> availableQuantities.get(productNo).addAndGet(quantity));
+    }
+
+    private void addPending(String productNo, int quantity) {
+        pendingQuantities.computeIfAbsent(productNo, key -> new AtomicInteger())
+                .addAndGet(quantity);
+    }
+
+    private void registerAfterCompletion(Map<String, Integer> reservedQuantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reservedQuantities.forEach(this::addPending);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    reservedQuantities.forEach(InMemoryStockDeductor.this::addPending);
+                } else {
+                    release(reservedQuantities);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.repository.StockRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Stock의 version 컬럼으로 충돌을 감지하는 낙관적 락 방식으로 재고를 차감한다.
+ * - 재고 엔티티를 조회하여 차감한 뒤 즉시 flush 하여, 충돌 여부를 차감 시점에 확인한다.
+ * - 충돌 시 StockConflictException이 발생하며, @RetryOnStockConflict에 의해 주문 전체가 재시도된다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "cafekiosk.stock", name = "mode", havingValue = "optimistic")
+public class OptimisticStockDeductor implements StockDeductor {
+
+    private final StockRepository stockRepository;
+
+    @Override
+    public List<String> deductQuantities(Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        List<Stock> stocks = stockRepository.findAllByProductNoIn(new ArrayList<>(quantities.keySet()));
+        Map<String, Stock> stockMap = stocks.stream()
+                .collect(Collectors.toMap(Stock::getProductNo, s -> s));
+
+        List<String> failedProductNos = quantities.keySet().stream()
+                .filter(productNo -> !stockMap.containsKey(productNo)
+                        || stockMap.get(productNo).isQuantityLessThan(quantities.get(productNo)))
+                .sorted()
+                .collect(Collectors.toList());
+        if (!failedProductNos.isEmpty()) {
+            return failedProductNos;
+        }
+
+        quantities.forEach((productNo, quantity) -> stockMap.get(productNo).deductQuantity(quantity));
+        try {
+            stockRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new StockConflictException(findConflictProductNos(stocks, e), e);
+        }
+        return failedProductNos;
+    }
+
+    private static List<String> findConflictProductNos(List<Stock> stocks, ObjectOptimisticLockingFailureException e) {
+        List<String> conflictProductNos = stocks.stream()
+                .filter(stock -> Objects.equals(stock.getId(), e.getIdentifier()))
+                .map(Stock::getProductNo)
+                .collect(Collectors.toList());
+
+        if (conflictProductNos.isEmpty()) {
+            return stocks.stream()
+                    .map(Stock::getProductNo)
+                    .collect(Collectors.toList());
+        }
+        return conflictProductNos;
+    }
+}
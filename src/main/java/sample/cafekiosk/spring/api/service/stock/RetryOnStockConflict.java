@@ -0,0 +1,15 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * StockConflictException 발생 시 메서드(트랜잭션) 전체를 재시도한다.
+ * - 재시도 횟수 / 대기 시간은 cafekiosk.stock.optimistic.* 설정값을 따른다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnStockConflict {
+}
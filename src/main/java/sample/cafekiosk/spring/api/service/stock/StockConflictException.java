@@ -0,0 +1,20 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 낙관적 락 모드에서 다른 주문이 먼저 재고를 변경하여 차감에 실패한 경우 발생한다.
+ * - @RetryOnStockConflict가 선언된 메서드는 이 예외가 발생하면 새로운 트랜잭션으로 재시도한다.
+ */
+@Getter
+public class StockConflictException extends RuntimeException {
+
+    private final List<String> productNos;
+
+    public StockConflictException(List<String> productNos, Throwable cause) {
+        super("재고 변경이 충돌했습니다. " + productNos, cause);
+        this.productNos = productNos;
+    }
+}
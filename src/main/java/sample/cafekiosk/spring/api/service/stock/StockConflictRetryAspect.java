@@ -0,0 +1,72 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재고 충돌 시 트랜잭션을 새로 시작하여 재시도한다.
+ * - 트랜잭션 Advice(LOWEST_PRECEDENCE)보다 바깥에서 동작해야 재시도마다 새로운 트랜잭션이 시작된다.
+ * - 이미 트랜잭션이 진행중인 상태에서 호출된 경우 롤백 대상 트랜잭션을 재사용할 수 없기 때문에 재시도하지 않는다.
+ * - 동시에 충돌한 요청이 같은 시점에 재시도하지 않도록 대기 시간에 Jitter를 준다. (0 ~ min(최대 대기, 기본 대기 * 2^시도))
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class StockConflictRetryAspect {
+
+    private final StockContentionMetrics stockContentionMetrics;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long maxBackoffMillis;
+
+    public StockConflictRetryAspect(
+            StockContentionMetrics stockContentionMetrics
+            , @Value("${cafekiosk.stock.optimistic.max-attempts:5}") int maxAttempts
+            , @Value("${cafekiosk.stock.optimistic.backoff-millis:10}") long backoffMillis
+            , @Value("${cafekiosk.stock.optimistic.max-backoff-millis:200}") long maxBackoffMillis
+    ) {
+        this.stockContentionMetrics = stockContentionMetrics;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Around("@annotation(sample.cafekiosk.spring.api.service.stock.RetryOnStockConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (StockConflictException e) {
+                stockContentionMetrics.recordConflict(e.getProductNos());
+
+                if (attempt >= maxAttempts) {
+                    stockContentionMetrics.recordGiveUp(e.getProductNos());
+                    log.warn("재고 충돌 재시도 횟수를 초과했습니다. productNos={}, attempts={}", e.getProductNos(), attempt);
+                    throw e;
+                }
+
+                stockContentionMetrics.recordRetry(e.getProductNos());
+                Thread.sleep(backoff(attempt));
+            }
+        }
+    }
+
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,55 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.springframework.stereotype.Component;
+import sample.cafekiosk.spring.api.service.stock.response.StockContentionResponse;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 상품번호별 재고 충돌 / 재시도 / 재시도 포기 횟수를 집계한다.
+ */
+@Component
+public class StockContentionMetrics {
+
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public void recordConflict(List<String> productNos) {
+        productNos.forEach(productNo -> counterOf(productNo).conflicts.increment());
+    }
+
+    public void recordRetry(List<String> productNos) {
+        productNos.forEach(productNo -> counterOf(productNo).retries.increment());
+    }
+
+    public void recordGiveUp(List<String> productNos) {
+        productNos.forEach(productNo -> counterOf(productNo).giveUps.increment());
+    }
+
+    public List<StockContentionResponse> getContentions() {
+        return counters.entrySet().stream()
+                .map(entry -> StockContentionResponse.builder()
+                        .productNo(entry.getKey())
+                        .conflictCount(entry.getValue().conflicts.sum())
+                        .retryCount(entry.getValue().retries.sum())
+                        .giveUpCount(entry.getValue().giveUps.sum())
+                        .build()
+                )
+                .sorted(Comparator.comparing(StockContentionResponse::getConflictCount).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private Counter counterOf(String productNo) {
+        return counters.computeIfAbsent(productNo, key -> new Counter());
+    }
+
+    private static class Counter {
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder giveUps = new LongAdder();
+    }
+}
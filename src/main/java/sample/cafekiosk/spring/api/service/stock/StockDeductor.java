@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 시 재고 차감 방식
+ * - cafekiosk.stock.mode 설정값으로 구현체를 선택한다.
+ *   - database (기본값) : DatabaseStockDeductor
+ *   - memory : InMemoryStockDeductor
+ *   - optimistic : OptimisticStockDeductor
+ */
+public interface StockDeductor {
+
+    /**
+     * 상품번호별 수량만큼 재고를 차감한다.
+     * - 전부 차감하거나, 하나라도 부족하면 아무것도 차감하지 않는다.
+     * - 재고가 부족하여 차감하지 못한 상품번호 리스트를 반환한다. (성공 시 빈 리스트)
+     */
+    List<String> deductQuantities(Map<String, Integer> quantities);
+}
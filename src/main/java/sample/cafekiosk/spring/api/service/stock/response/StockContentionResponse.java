@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.api.service.stock.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class StockContentionResponse {
+
+    private String productNo;
+    private long conflictCount;
+    private long retryCount;
+    private long giveUpCount;
+
+    @Builder
+    private StockContentionResponse(String productNo, long conflictCount, long retryCount, long giveUpCount) {
+        this.productNo = productNo;
+        this.conflictCount = conflictCount;
+        this.retryCount = retryCount;
+        this.giveUpCount = giveUpCount;
+    }
+}
@@ -0,0 +1,83 @@
+package sample.cafekiosk.spring.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 / 쓰기 DataSource 분리 (cafekiosk.datasource.replica.enabled)
+ * - Primary : spring.datasource.* 설정으로 만드는 쓰기용 커넥션 풀
+ * - Replica : cafekiosk.datasource.replica.* 설정으로 만드는 조회용 커넥션 풀
+ *   -> 판매 상품 조회 등 조회가 몰려도 주문(쓰기) 커넥션을 빼앗지 않도록 풀 크기를 따로 관리한다.
+ *   -> Replica는 @ReplicaRead를 붙인 readOnly 조회에서만 사용한다.
+ * - 애플리케이션(JPA / JdbcTemplate)은 두 풀을 감싼 dataSource 빈 하나만 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cafekiosk.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(
+            DataSourceProperties properties
+            , @Value("${cafekiosk.datasource.primary.maximum-pool-size:10}") int maximumPoolSize
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties
+            , @Value("${cafekiosk.datasource.replica.url:${spring.datasource.url}}") String url
+            , @Value("${cafekiosk.datasource.replica.username:${spring.datasource.username:}}") String username
+            , @Value("${cafekiosk.datasource.replica.password:${spring.datasource.password:}}") String password
+            , @Value("${cafekiosk.datasource.replica.maximum-pool-size:5}") int maximumPoolSize
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource
+            , @Value("${cafekiosk.datasource.replica.lag-query:}") String lagQuery
+            , @Value("${cafekiosk.datasource.replica.max-lag-millis:1000}") long maxLagMillis
+            , @Value("${cafekiosk.datasource.replica.fallback-cooldown-millis:5000}") long fallbackCooldownMillis
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagMillis, fallbackCooldownMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource
+            , @Qualifier("replicaDataSource") DataSource replicaDataSource
+            , ReplicaLagMonitor replicaLagMonitor
+    ) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor)
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 메일 Outbox 전송 워커 풀
+ * - 워커 수(worker-count)만큼 메일 서버와 동시에 통신한다.
+ * - 대기열이 가득 차면 선점한 스레드(스케줄러)가 직접 전송하여 선점한 메일이 버려지지 않도록 한다.
+ * - 가상 스레드 모드(cafekiosk.threads.mode=virtual)에서는 VirtualThreadConfig의 mailOutboxExecutor를 사용한다.
+ */
+@Configuration
+public class MailOutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "cafekiosk.threads", name = "mode", havingValue = "platform", matchIfMissing = true)
+    public ThreadPoolTaskExecutor mailOutboxExecutor(
+            @Value("${cafekiosk.mail.outbox.worker-count:4}") int workerCount
+            , @Value("${cafekiosk.mail.outbox.batch-size:100}") int batchSize
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("mail-outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
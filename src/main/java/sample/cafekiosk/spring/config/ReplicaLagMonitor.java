@@ -0,0 +1,87 @@
+package sample.cafekiosk.spring.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replica 사용 가능 여부
+ * - Replica 커넥션을 얻지 못하거나, 복제 지연이 max-lag-millis를 넘으면 fallback-cooldown-millis 동안 Primary로 조회한다.
+ * - 복제 지연은 lag-query(복제 지연을 ms 단위 숫자 1개로 반환하는 쿼리)로 주기적으로 확인한다.
+ *   ex) PostgreSQL : select coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+ *   -> 결과가 null이면 복제가 멈춘 것으로 보고 Replica를 사용하지 않는다.
+ * - lag-query가 비어있으면(로컬 H2) 복제 지연은 확인하지 않는다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final long fallbackCooldownNanos;
+
+    private volatile boolean unavailable;
+    private volatile long retryAtNanos;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagMillis, long fallbackCooldownMillis) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        this.fallbackCooldownNanos = TimeUnit.MILLISECONDS.toNanos(fallbackCooldownMillis);
+    }
+
+    public boolean isAvailable() {
+        return !unavailable || System.nanoTime() - retryAtNanos >= 0;
+    }
+
+    public void markUnavailable(String reason) {
+        retryAtNanos = System.nanoTime() + fallbackCooldownNanos;
+        if (!unavailable) {
+            unavailable = true;
+            log.warn("Replica를 사용할 수 없어 조회를 Primary로 보냅니다. reason={}", reason);
+        }
+    }
+
+    public void markAvailable() {
+        if (unavailable) {
+            unavailable = false;
+            log.info("Replica 조회를 다시 시작합니다.");
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${cafekiosk.datasource.replica.lag-check-interval-millis:1000}"
+            , fixedDelayString = "${cafekiosk.datasource.replica.lag-check-interval-millis:1000}"
+    )
+    public void checkLag() {
+        if (!StringUtils.hasText(lagQuery)) {
+            return;
+        }
+
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            Object lag = resultSet.next() ? resultSet.getObject(1) : null;
+            if (!(lag instanceof Number)) {
+                markUnavailable("복제 지연을 확인할 수 없습니다. lag=" + lag);
+                return;
+            }
+
+            long lagMillis = ((Number) lag).longValue();
+            if (lagMillis > maxLagMillis) {
+                markUnavailable(String.format("복제 지연 %sms (허용 %sms)", lagMillis, maxLagMillis));
+                return;
+            }
+            markAvailable();
+        } catch (SQLException e) {
+            markUnavailable("복제 지연 확인 실패 : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package sample.cafekiosk.spring.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 복제 지연을 허용하는 조회(판매 상품 스냅샷, 일자별 매출 조회 등)에만 붙여 Replica 커넥션 풀에서 조회한다.
+ * - readOnly 트랜잭션 안에서만 Replica를 사용하며, 붙이지 않은 조회는 readOnly여도 Primary에서 조회한다.
+ *   -> 방금 저장한 데이터를 다시 읽는 조회(주문 조회, 메일 상태 조회 등)는 Primary에서 조회해야 한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReplicaRead {
+}
@@ -0,0 +1,28 @@
+package sample.cafekiosk.spring.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @ReplicaRead 메서드 실행 동안 ReplicaReadContext를 표시한다.
+ * - 트랜잭션 Advice(LOWEST_PRECEDENCE)보다 바깥에서 동작하여, 트랜잭션의 첫 SQL 실행 전에 표시되도록 한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ReplicaReadAspect {
+
+    @Around("@annotation(sample.cafekiosk.spring.config.ReplicaRead)")
+    public Object readFromReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = ReplicaReadContext.begin();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaReadContext.end(previous);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package sample.cafekiosk.spring.config;
+
+/**
+ * 현재 스레드의 조회가 @ReplicaRead 메서드 안에서 실행중인지 기록한다.
+ */
+public final class ReplicaReadContext {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private ReplicaReadContext() {
+    }
+
+    public static boolean isReplicaRead() {
+        return REPLICA_READ.get();
+    }
+
+    /**
+     * 이전 상태를 반환하며, 호출한 쪽은 finally에서 end(이전 상태)로 되돌린다.
+     */
+    static boolean begin() {
+        boolean previous = REPLICA_READ.get();
+        REPLICA_READ.set(Boolean.TRUE);
+        return previous;
+    }
+
+    static void end(boolean previous) {
+        if (previous) {
+            REPLICA_READ.set(Boolean.TRUE);
+            return;
+        }
+        REPLICA_READ.remove();
+    }
+}
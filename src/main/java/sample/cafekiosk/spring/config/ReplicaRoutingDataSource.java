@@ -0,0 +1,75 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * @ReplicaRead 메서드의 readOnly 트랜잭션은 Replica, 그 외(쓰기 트랜잭션 / 일반 readOnly 트랜잭션 / 트랜잭션 밖)는 Primary 커넥션 풀을 사용한다.
+ * - readOnly 트랜잭션 전체를 Replica로 보내면, 방금 커밋한 데이터를 다시 읽는 조회가 복제 지연으로 이전 데이터를 읽을 수 있다.
+ * - 트랜잭션의 readOnly 여부는 트랜잭션 시작 이후에 알 수 있기 때문에 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ *   (첫 SQL 실행 시점에 커넥션을 얻는다.)
+ * - Replica 커넥션을 얻지 못하면 Primary 커넥션을 대신 반환하고, 일정 시간 Replica를 사용하지 않는다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.replicaLagMonitor = replicaLagMonitor;
+
+        setTargetDataSources(Map.<Object, Object>of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && ReplicaReadContext.isReplicaRead()
+                && replicaLagMonitor.isAvailable()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (determineCurrentLookupKey() == Route.PRIMARY) {
+            return primaryDataSource.getConnection();
+        }
+
+        try {
+            return replicaDataSource.getConnection();
+        } catch (SQLException e) {
+            replicaLagMonitor.markUnavailable("Replica 커넥션 획득 실패 : " + e.getMessage());
+            return primaryDataSource.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (determineCurrentLookupKey() == Route.PRIMARY) {
+            return primaryDataSource.getConnection(username, password);
+        }
+
+        try {
+            return replicaDataSource.getConnection(username, password);
+        } catch (SQLException e) {
+            replicaLagMonitor.markUnavailable("Replica 커넥션 획득 실패 : " + e.getMessage());
+            return primaryDataSource.getConnection(username, password);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * JpaAuditingConfig와 같은 이유로 @WebMvcTest에 영향을 주지 않도록 별도의 Config 파일로 설정한다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,106 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Connection / Statement를 감싸 execute* 호출마다 실행 시간을 SqlStatementRecorder에 기록한다.
+ * - JPA(Hibernate)와 JdbcTemplate이 같은 DataSource를 사용하기 때문에 둘 다 집계된다.
+ * - DelegatingDataSource를 상속하여 Spring Boot가 Connection Pool(Hikari) 메트릭 등을 위해 원본을 꺼낼 수 있도록 한다.
+ */
+public class SqlStatementCountingDataSource extends DelegatingDataSource {
+
+    public SqlStatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = type == Connection.class
+                ? new ConnectionHandler(target)
+                : new StatementHandler(target);
+
+        return (T) Proxy.newProxyInstance(SqlStatementCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Object proxy, Method method, Object[] args) throws Throwable {
+        // 프록시끼리 비교할 수 있도록 equals / hashCode는 프록시 기준으로 처리한다.
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * createStatement / prepareStatement / prepareCall 이 반환하는 Statement를 감싼다.
+     */
+    private static class ConnectionHandler implements InvocationHandler {
+
+        private final Object target;
+
+        private ConnectionHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatementCountingDataSource.invoke(target, proxy, method, args);
+
+            Class<?> returnType = method.getReturnType();
+            if (result != null && returnType.isInterface() && Statement.class.isAssignableFrom(returnType)) {
+                return proxy((Class<Object>) returnType, result);
+            }
+            return result;
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+
+        private StatementHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return SqlStatementCountingDataSource.invoke(target, proxy, method, args);
+            }
+
+            long startNanos = System.nanoTime();
+            try {
+                return SqlStatementCountingDataSource.invoke(target, proxy, method, args);
+            } finally {
+                SqlStatementRecorder.record(System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
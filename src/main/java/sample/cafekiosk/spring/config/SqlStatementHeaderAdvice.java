@@ -0,0 +1,47 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * 응답 본문을 쓰기 직전까지 실행된 SQL 구문 수 / 실행 시간을 응답 헤더로 추가한다.
+ * - cafekiosk.sql.statistics.response-headers=true 인 프로필(local / test)에서만 사용한다.
+ * - 응답 본문을 쓰는 도중(직렬화 중 Lazy Loading 등)에 실행된 구문은 헤더에 포함되지 않으며, 경고 로그에는 포함된다.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(prefix = "cafekiosk.sql.statistics", name = "response-headers", havingValue = "true")
+public class SqlStatementHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENT_COUNT_HEADER = "X-Sql-Statement-Count";
+    public static final String STATEMENT_TIME_HEADER = "X-Sql-Time-Millis";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body
+            , MethodParameter returnType
+            , MediaType selectedContentType
+            , Class<? extends HttpMessageConverter<?>> selectedConverterType
+            , ServerHttpRequest request
+            , ServerHttpResponse response
+    ) {
+        SqlStatementStatistics statistics = SqlStatementRecorder.current();
+        if (statistics != null) {
+            response.getHeaders().set(STATEMENT_COUNT_HEADER, String.valueOf(statistics.getStatementCount()));
+            response.getHeaders().set(STATEMENT_TIME_HEADER, String.format(Locale.ROOT, "%.2f", statistics.getTotalMillis()));
+        }
+        return body;
+    }
+}
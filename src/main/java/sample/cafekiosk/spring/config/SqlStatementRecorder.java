@@ -0,0 +1,63 @@
+package sample.cafekiosk.spring.config;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 구문을 SqlStatementStatistics에 기록한다.
+ * - SqlStatementCountingDataSource가 구문을 실행할 때마다 record()를 호출한다.
+ * - 기록 중이 아니면 아무것도 하지 않는다.
+ *
+ * 테스트에서는 아래와 같이 특정 기능이 실행하는 SQL 구문 수를 검증할 수 있다.
+ *   SqlStatementStatistics statistics = SqlStatementRecorder.record(() -> orderService.createOrder(request, now));
+ *   assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(6);
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<SqlStatementStatistics> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static SqlStatementStatistics record(Runnable runnable) {
+        SqlStatementStatistics previous = CURRENT.get();
+        SqlStatementStatistics statistics = new SqlStatementStatistics();
+        CURRENT.set(statistics);
+        try {
+            runnable.run();
+        } finally {
+            restore(previous);
+            if (previous != null) {
+                // 바깥 구간(ex. HTTP 요청)에도 포함시킨다.
+                previous.merge(statistics);
+            }
+        }
+        return statistics;
+    }
+
+    static SqlStatementStatistics start() {
+        SqlStatementStatistics statistics = new SqlStatementStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    static void record(long elapsedNanos) {
+        SqlStatementStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.record(elapsedNanos);
+        }
+    }
+
+    static SqlStatementStatistics current() {
+        return CURRENT.get();
+    }
+
+    private static void restore(SqlStatementStatistics previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package sample.cafekiosk.spring.config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 구간(HTTP 요청 1건 / 테스트 블록)에서 실행된 SQL 구문 수와 실행 시간 합계
+ * - 구간을 시작한 스레드에서만 기록되기 때문에 동기화하지 않는다.
+ * - JDBC batch(executeBatch)는 DB 왕복 1번이므로 1건으로 센다.
+ */
+public class SqlStatementStatistics {
+
+    private int statementCount;
+    private long totalNanos;
+
+    void record(long elapsedNanos) {
+        this.statementCount++;
+        this.totalNanos += elapsedNanos;
+    }
+
+    void merge(SqlStatementStatistics other) {
+        this.statementCount += other.statementCount;
+        this.totalNanos += other.totalNanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public double getTotalMillis() {
+        return totalNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
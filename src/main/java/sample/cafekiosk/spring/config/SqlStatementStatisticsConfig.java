@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 구문 수 / 실행 시간 집계 (cafekiosk.sql.statistics.enabled)
+ * - DataSource를 SqlStatementCountingDataSource로 감싸고, SqlStatementStatisticsFilter가 요청 단위로 집계한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "cafekiosk.sql.statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementStatisticsConfig {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    /**
+     * BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하기 때문에 static으로 선언한다.
+     * - 애플리케이션이 사용하는 dataSource 빈만 감싼다. (읽기 / 쓰기 분리 시 하위 커넥션 풀까지 감싸면 중복 집계된다)
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource && !(bean instanceof SqlStatementCountingDataSource)) {
+                    return new SqlStatementCountingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementStatisticsFilter sqlStatementStatisticsFilter(
+            @Value("${cafekiosk.sql.statistics.query-budget:10}") int queryBudget
+    ) {
+        return new SqlStatementStatisticsFilter(queryBudget);
+    }
+}
@@ -0,0 +1,52 @@
+package sample.cafekiosk.spring.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * HTTP 요청 1건 동안 실행된 SQL 구문 수 / 실행 시간을 집계한다.
+ * - 구문 수가 query-budget을 넘으면 엔드포인트와 함께 경고 로그를 남긴다. (N+1 탐지)
+ * - 응답 헤더는 SqlStatementHeaderAdvice가 추가한다. (운영 외 프로필)
+ */
+@Slf4j
+public class SqlStatementStatisticsFilter extends OncePerRequestFilter {
+
+    private final int queryBudget;
+
+    public SqlStatementStatisticsFilter(int queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStatistics statistics = SqlStatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementRecorder.stop();
+        }
+
+        if (statistics.getStatementCount() > queryBudget) {
+            log.warn("요청 1건의 SQL 실행 수가 예산을 초과했습니다. endpoint={} {}, statements={}, budget={}, sqlTimeMillis={}"
+                    , request.getMethod()
+                    , endpointOf(request)
+                    , statistics.getStatementCount()
+                    , queryBudget
+                    , String.format("%.2f", statistics.getTotalMillis())
+            );
+        }
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
@@ -0,0 +1,49 @@
+package sample.cafekiosk.spring.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 가상 스레드 모드 (cafekiosk.threads.mode=virtual, Java 21 이상)
+ * - Tomcat 요청 처리 스레드 풀을 요청마다 가상 스레드를 만드는 Executor로 교체한다.
+ *   -> 외부에서 넣어준 Executor는 Tomcat이 종료하지 않으므로 Bean으로 등록하여 애플리케이션 종료 시 shutdown 한다.
+ *   -> OrderController / ProductController 요청이 JDBC 등 블로킹 I/O를 기다리는 동안 캐리어 스레드를 반납하여,
+ *      스레드 풀 크기(server.tomcat.threads.max)가 아닌 커넥션 풀 / DB 처리량이 동시 처리량의 상한이 된다.
+ * - 메일 Outbox 전송(mailOutboxExecutor)도 가상 스레드에서 수행한다.
+ *
+ * 고정(Pinning) 방지
+ * - synchronized 블록 안에서 블로킹되면 가상 스레드가 캐리어 스레드에 고정되므로, 애플리케이션 코드에서는 synchronized 대신
+ *   ReentrantLock / CAS를 사용한다.
+ *   -> VirtualThreadsTest는 Reflection으로 synchronized 메서드만 확인하며, synchronized 블록은 확인하지 못하므로 코드 리뷰로 확인한다.
+ * - 실행 시 -Djdk.tracePinnedThreads=short 옵션을 주면 고정이 발생한 위치가 로그로 출력된다. (benchmarkTest Task에 설정)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "cafekiosk.threads", name = "mode", havingValue = "virtual")
+public class VirtualThreadConfig {
+
+    @Bean(name = "tomcatVirtualThreadExecutor", destroyMethod = "shutdown")
+    public ExecutorService tomcatVirtualThreadExecutor() {
+        return VirtualThreads.newThreadPerTaskExecutor("tomcat-virtual-");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+            @Qualifier("tomcatVirtualThreadExecutor") ExecutorService tomcatVirtualThreadExecutor
+    ) {
+        log.info("Tomcat 요청을 가상 스레드에서 처리합니다.");
+
+        return protocolHandler -> protocolHandler.setExecutor(tomcatVirtualThreadExecutor);
+    }
+
+    @Bean(name = "mailOutboxExecutor", destroyMethod = "shutdown")
+    public ExecutorService virtualMailOutboxExecutor() {
+        return VirtualThreads.newThreadPerTaskExecutor("mail-outbox-virtual-");
+    }
+}
@@ -0,0 +1,43 @@
+package sample.cafekiosk.spring.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드(Java 21) 생성 도우미
+ * - 프로젝트는 Java 11 바이트코드로 컴파일하기 때문에 Java 21 API를 직접 호출하지 않고 Reflection으로 호출한다.
+ *   -> Java 11 런타임에서도 애플리케이션은 그대로 동작하며, 가상 스레드 모드만 사용할 수 없다.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 작업마다 새로운 가상 스레드를 만들어 실행하는 ExecutorService를 생성한다.
+     * - Thread.ofVirtual().name(namePrefix, 0).factory() + Executors.newThreadPerTaskExecutor(factory)
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서 사용할 수 있습니다.", e);
+        }
+    }
+}
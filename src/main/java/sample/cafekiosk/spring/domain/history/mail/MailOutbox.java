@@ -0,0 +1,127 @@
+package sample.cafekiosk.spring.domain.history.mail;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sample.cafekiosk.spring.domain.BaseEntity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 전송 요청된 메일(Outbox)
+ * - 메일 전송 요청은 이 테이블에 적재만 하고 즉시 반환하며, 실제 전송은 MailOutboxDispatcher가 백그라운드에서 수행한다.
+ * - NEXT_ATTEMPT_DATE_TIME은 PENDING 상태에서는 다음 전송 시도 시각, PROCESSING 상태에서는 선점 만료 시각을 의미한다.
+ *   -> 전송 도중 인스턴스가 종료되어도 선점이 만료되면 다른 워커가 다시 가져간다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MAIL_OUTBOX", indexes = @Index(name = "IDX_MAIL_OUTBOX_NEXT_ATTEMPT", columnList = "STATUS, NEXT_ATTEMPT_DATE_TIME"))
+public class MailOutbox extends BaseEntity {
+
+    public static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "MAIL_OUTBOX_SEQ_GENERATOR")
+    @SequenceGenerator(name = "MAIL_OUTBOX_SEQ_GENERATOR", sequenceName = "MAIL_OUTBOX_SEQ", allocationSize = 50)
+    @Column(name = "MAIL_OUTBOX_ID")
+    private Long id;
+
+    @Column(name = "FROM_EMAIL")
+    private String fromEmail;
+
+    @Column(name = "TO_EMAIL")
+    private String toEmail;
+
+    @Column(name = "SUBJECT")
+    private String subject;
+
+    @Column(name = "CONTENT")
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS")
+    private MailOutboxStatus status;
+
+    @Column(name = "ATTEMPT_COUNT")
+    private int attemptCount;
+
+    @Column(name = "NEXT_ATTEMPT_DATE_TIME")
+    private LocalDateTime nextAttemptDateTime;
+
+    @Column(name = "SENT_DATE_TIME")
+    private LocalDateTime sentDateTime;
+
+    @Column(name = "LAST_ERROR_MESSAGE", length = MAX_ERROR_MESSAGE_LENGTH)
+    private String lastErrorMessage;
+
+    @Builder
+    public MailOutbox(Long id, String fromEmail, String toEmail, String subject, String content, LocalDateTime requestedDateTime) {
+        this.id = id;
+        this.fromEmail = fromEmail;
+        this.toEmail = toEmail;
+        this.subject = subject;
+        this.content = content;
+        this.status = MailOutboxStatus.PENDING;
+        this.attemptCount = 0;
+        this.nextAttemptDateTime = requestedDateTime;
+    }
+
+    public static MailOutbox create(String fromEmail, String toEmail, String subject, String content, LocalDateTime requestedDateTime) {
+        return MailOutbox.builder()
+                .fromEmail(fromEmail)
+                .toEmail(toEmail)
+                .subject(subject)
+                .content(content)
+                .requestedDateTime(requestedDateTime)
+                .build();
+    }
+
+    public void markSent(LocalDateTime sentDateTime) {
+        this.status = MailOutboxStatus.SENT;
+        this.sentDateTime = sentDateTime;
+        this.nextAttemptDateTime = null;
+        this.lastErrorMessage = null;
+    }
+
+    /**
+     * 전송 실패 처리
+     * - 최대 시도 횟수에 도달하지 않았다면 다음 시도 시각에 다시 전송 대상이 된다.
+     * - 최대 시도 횟수에 도달하면 FAILED로 종료한다.
+     * - 실패 사유(예외 메시지)는 길이 제한이 없으므로 컬럼 길이(MAX_ERROR_MESSAGE_LENGTH)까지만 저장한다.
+     */
+    public void markFailed(String errorMessage, int maxAttempts, LocalDateTime nextAttemptDateTime) {
+        this.lastErrorMessage = truncateErrorMessage(errorMessage);
+
+        if (this.attemptCount >= maxAttempts) {
+            this.status = MailOutboxStatus.FAILED;
+            this.nextAttemptDateTime = null;
+            return;
+        }
+
+        this.status = MailOutboxStatus.PENDING;
+        this.nextAttemptDateTime = nextAttemptDateTime;
+    }
+
+    private static String truncateErrorMessage(String errorMessage) {
+        if (errorMessage == null || errorMessage.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return errorMessage;
+        }
+
+        // 서로게이트 쌍(이모지 등)이 잘리지 않도록 한다.
+        int endIndex = Character.isHighSurrogate(errorMessage.charAt(MAX_ERROR_MESSAGE_LENGTH - 1))
+                ? MAX_ERROR_MESSAGE_LENGTH - 1
+                : MAX_ERROR_MESSAGE_LENGTH;
+        return errorMessage.substring(0, endIndex);
+    }
+
+    public MailSendHistory toSendHistory() {
+        return MailSendHistory.builder()
+                .fromEmail(fromEmail)
+                .toEmail(toEmail)
+                .subject(subject)
+                .content(content)
+                .build();
+    }
+}
@@ -13,7 +13,8 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MailSendHistory extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "MAIL_SEND_HISTORY_SEQ_GENERATOR")
+    @SequenceGenerator(name = "MAIL_SEND_HISTORY_SEQ_GENERATOR", sequenceName = "MAIL_SEND_HISTORY_SEQ", allocationSize = 50)
     @Column(name = "MAIL_SEND_HISTORY_ID")
     private Long id;
 
@@ -4,7 +4,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.aspectj.weaver.ast.Or;
 import sample.cafekiosk.spring.domain.BaseEntity;
 import sample.cafekiosk.spring.domain.orderproduct.OrderProduct;
 import sample.cafekiosk.spring.domain.product.Product;
@@ -12,7 +11,9 @@ import sample.cafekiosk.spring.domain.product.Product;
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -21,7 +22,13 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * IDENTITY 전략은 insert 시점에 ID를 받아와야 하기 때문에 Hibernate JDBC batch insert가 비활성화된다.
+     * SEQUENCE 전략 + allocationSize(pooled optimizer)로 시퀀스 조회 1번에 ID 50개를 미리 할당받아,
+     * 주문과 주문 상품(CascadeType.ALL)이 batch insert 될 수 있도록 한다.
+     */
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ORDER_SEQ_GENERATOR")
+    @SequenceGenerator(name = "ORDER_SEQ_GENERATOR", sequenceName = "ORDERS_SEQ", allocationSize = 50)
     @Column(name = "ORDER_ID")
     private Long id;
 
@@ -38,14 +45,16 @@ public class Order extends BaseEntity {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderProduct> orderProducts = new ArrayList<>();
 
+    /**
+     * 주문 상품은 상품별 수량(productQuantities) 또는 상품 리스트(products, 1개당 수량 1)로 전달한다.
+     * - 둘 다 전달한 경우 같은 상품의 수량은 합산된다.
+     */
     @Builder
-    public Order(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+    public Order(List<Product> products, Map<Product, Integer> productQuantities, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
         this.orderStatus = orderStatus;
-        this.totalPrice = calculateTotalPrice(products);
         this.registeredDateTime = registeredDateTime;
-        this.orderProducts = products.stream()
-                .map(product -> new OrderProduct(this, product))
-                .collect(Collectors.toList());
+        this.orderProducts = createOrderProducts(products, productQuantities);
+        this.totalPrice = calculateTotalPrice(orderProducts);
     }
 
     public static Order create(List<Product> products, LocalDateTime registeredDateTime) {
@@ -56,9 +65,51 @@ public class Order extends BaseEntity {
                 .build();
     }
 
-    private static int calculateTotalPrice(List<Product> products) {
-        return products.stream()
-                .mapToInt(Product::getProductPrice)
-                .sum();
+    /**
+     * 상품별 수량으로 주문을 생성한다. 수량만큼 상품을 반복하지 않고 주문 라인 하나로 만든다.
+     */
+    public static Order create(Map<Product, Integer> productQuantities, LocalDateTime registeredDateTime) {
+        return Order.builder()
+                .orderStatus(OrderStatus.INIT)
+                .productQuantities(productQuantities)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
+    /**
+     * 결제완료 상태로 변경한다.
+     * - 상태 변경은 save() 없이 Dirty Checking으로 반영되므로, 매출 집계 이벤트(OrderPaymentCompletedEvent)는 서비스에서 직접 발행한다.
+     */
+    public void completePayment() {
+        this.orderStatus = OrderStatus.PAYMENT_COMPLETED;
+    }
+
+    /**
+     * 같은 상품은 주문 상품(주문 라인) 1개로 묶고 수량으로 표현한다.
+     * - 같은 상품 20개를 주문해도 ORDER_PRODUCT는 1건만 저장된다.
+     * - 상품별 수량, 상품 리스트의 순서(처음 등장한 순서)대로 주문 라인을 만든다.
+     */
+    private List<OrderProduct> createOrderProducts(List<Product> products, Map<Product, Integer> productQuantities) {
+        Map<Product, Integer> quantities = new LinkedHashMap<>();
+        if (productQuantities != null) {
+            productQuantities.forEach((product, quantity) -> quantities.merge(product, quantity, Math::addExact));
+        }
+        if (products != null) {
+            products.forEach(product -> quantities.merge(product, 1, Math::addExact));
+        }
+
+        return quantities.entrySet().stream()
+                .map(entry -> new OrderProduct(this, entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static int calculateTotalPrice(List<OrderProduct> orderProducts) {
+        try {
+            return orderProducts.stream()
+                    .mapToInt(OrderProduct::getLinePrice)
+                    .reduce(0, Math::addExact);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("주문 금액이 허용 범위를 초과했습니다.", e);
+        }
     }
 }
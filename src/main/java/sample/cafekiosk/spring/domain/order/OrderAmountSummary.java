@@ -0,0 +1,19 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.Getter;
+
+/**
+ * 주문 매출 합계 / 주문 건수 조회 결과 (JPQL 생성자 표현식으로 조회)
+ */
+@Getter
+public class OrderAmountSummary {
+
+    private final long totalAmount;
+    private final long orderCount;
+
+    public OrderAmountSummary(Long totalAmount, Long orderCount) {
+        // 조회 대상 주문이 없으면 sum()은 null을 반환한다.
+        this.totalAmount = totalAmount == null ? 0 : totalAmount;
+        this.orderCount = orderCount == null ? 0 : orderCount;
+    }
+}
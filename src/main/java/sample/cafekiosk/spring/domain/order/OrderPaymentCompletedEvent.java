@@ -0,0 +1,22 @@
+package sample.cafekiosk.spring.domain.order;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문이 결제완료 상태가 되었을 때 ApplicationEventPublisher로 발행한다.
+ * - @DomainEvents는 save() 호출 시에만 발행되어, Dirty Checking으로 반영되는 상태 변경에서는 누락되기 때문에 사용하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderPaymentCompletedEvent {
+
+    private final LocalDateTime registeredDateTime;
+    private final int totalPrice;
+
+    public static OrderPaymentCompletedEvent of(Order order) {
+        return new OrderPaymentCompletedEvent(order.getRegisteredDateTime(), order.getTotalPrice());
+    }
+}
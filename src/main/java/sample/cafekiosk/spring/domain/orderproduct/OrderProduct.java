@@ -10,13 +10,22 @@ import sample.cafekiosk.spring.domain.product.Product;
 
 import javax.persistence.*;
 
+/**
+ * 주문 라인
+ * - 상품 1개당 1건이 아닌, 주문한 상품별로 수량(QUANTITY)과 판매 시점의 단가(UNIT_PRICE)를 가진다.
+ * - 상품 가격이 이후에 변경되어도 주문 금액은 판매 시점의 단가로 계산된다.
+ * - 주문 수량은 MAX_QUANTITY 이하이며, 주문 라인 금액(단가 x 수량)이 int 범위를 넘으면 주문할 수 없다.
+ */
 @Getter
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderProduct extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final int MAX_QUANTITY = 1000;
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ORDER_PRODUCT_SEQ_GENERATOR")
+    @SequenceGenerator(name = "ORDER_PRODUCT_SEQ_GENERATOR", sequenceName = "ORDER_PRODUCT_SEQ", allocationSize = 50)
     @Column(name = "ORDER_PRODUCT_ID")
     private Long id;
 
@@ -26,8 +35,40 @@ public class OrderProduct extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     private Product product;
 
+    @Column(name = "QUANTITY")
+    private int quantity;
+
+    @Column(name = "UNIT_PRICE")
+    private int unitPrice;
+
     public OrderProduct(Order order, Product product) {
+        this(order, product, 1);
+    }
+
+    public OrderProduct(Order order, Product product, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다.");
+        }
+        if (quantity > MAX_QUANTITY) {
+            throw new IllegalArgumentException(String.format("주문 수량은 %s개 이하여야 합니다.", MAX_QUANTITY));
+        }
+
         this.order = order;
         this.product = product;
+        this.quantity = quantity;
+        this.unitPrice = product.getProductPrice();
+        calculateLinePrice(unitPrice, quantity);
+    }
+
+    public int getLinePrice() {
+        return calculateLinePrice(unitPrice, quantity);
+    }
+
+    private static int calculateLinePrice(int unitPrice, int quantity) {
+        try {
+            return Math.multiplyExact(unitPrice, quantity);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("주문 금액이 허용 범위를 초과했습니다.", e);
+        }
     }
 }
@@ -13,7 +13,8 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "PRODUCT_SEQ_GENERATOR")
+    @SequenceGenerator(name = "PRODUCT_SEQ_GENERATOR", sequenceName = "PRODUCT_SEQ", allocationSize = 50)
     @Column(name = "PRODUCT_ID")
     private Long id;
 
@@ -42,4 +43,18 @@ public class Product extends BaseEntity {
         this.productName = productName;
         this.productPrice = productPrice;
     }
+
+    /**
+     * 저장되어 있는 상품의 정보로 준영속 상품을 다시 만든다. (ProductCatalogCache)
+     * - 상품 ID가 있으므로 주문 상품에서 참조하여도 상품이 새로 저장되지 않는다.
+     */
+    public static Product restore(Long id, String productNo, ProductType productType, ProductStatus productStatus, String productName, int productPrice) {
+        Product product = new Product(productNo, productType, productStatus, productName, productPrice);
+        product.id = id;
+        return product;
+    }
+
+    public void changeProductStatus(ProductStatus productStatus) {
+        this.productStatus = productStatus;
+    }
 }
@@ -0,0 +1,31 @@
+package sample.cafekiosk.spring.domain.product;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 상품번호 발급 카운터
+ * - COUNTER_ID = 1 인 row 하나만 사용하며, NEXT_NO는 아직 어느 인스턴스에도 발급되지 않은 다음 번호이다.
+ * - 번호는 ProductNoCounterRepository.reserve()로 구간(block) 단위로 예약한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "PRODUCT_NO_COUNTER")
+public class ProductNoCounter {
+
+    public static final long COUNTER_ID = 1L;
+
+    @Id
+    @Column(name = "COUNTER_ID")
+    private Long id;
+
+    @Column(name = "NEXT_NO")
+    private long nextNo;
+}
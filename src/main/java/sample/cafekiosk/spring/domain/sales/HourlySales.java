@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 시간대별 결제완료 매출 집계 (주문 등록시간 기준)
+ * - 주문이 결제완료 상태가 될 때마다 해당 시간대의 주문 건수 / 매출 합계를 증가시킨다.
+ * - 일자별 매출은 최대 24건의 집계 데이터를 합산하여 조회한다.
+ */
+@Getter
+@Entity
+@Table(name = "HOURLY_SALES")
+@IdClass(HourlySalesId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HourlySales {
+
+    @Id
+    @Column(name = "SALES_DATE")
+    private LocalDate salesDate;
+
+    @Id
+    @Column(name = "SALES_HOUR")
+    private int salesHour;
+
+    @Column(name = "ORDER_COUNT")
+    private long orderCount;
+
+    @Column(name = "TOTAL_AMOUNT")
+    private long totalAmount;
+
+    @Builder
+    private HourlySales(LocalDate salesDate, int salesHour, long orderCount, long totalAmount) {
+        this.salesDate = salesDate;
+        this.salesHour = salesHour;
+        this.orderCount = orderCount;
+        this.totalAmount = totalAmount;
+    }
+}
@@ -0,0 +1,21 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HourlySalesId implements Serializable {
+
+    private LocalDate salesDate;
+    private int salesHour;
+
+    public HourlySalesId(LocalDate salesDate, int salesHour) {
+        this.salesDate = salesDate;
+        this.salesHour = salesHour;
+    }
+}
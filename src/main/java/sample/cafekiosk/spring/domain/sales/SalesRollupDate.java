@@ -0,0 +1,32 @@
+package sample.cafekiosk.spring.domain.sales;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 시간대 매출 집계(HOURLY_SALES) 상태
+ * - REBUILT_DATE_TIME이 있는 일자는 ORDERS 테이블 기준으로 집계를 다시 계산(rebuild)한 일자이며, 이후에는 결제완료 이벤트로 집계가 증가한다.
+ * - REBUILT_DATE_TIME이 없는 일자는 일부 시간대의 집계만 있을 수 있으므로(집계 도입 이전 주문 등) 집계를 사용하지 않는다.
+ * - 집계 증가 / 다시 계산은 이 행을 잠근 뒤 수행하므로, 결제완료 이벤트만 발생한 일자도 REBUILT_DATE_TIME 없이 기록된다.
+ */
+@Getter
+@Entity
+@Table(name = "SALES_ROLLUP_DATE")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesRollupDate {
+
+    @Id
+    @Column(name = "SALES_DATE")
+    private LocalDate salesDate;
+
+    @Column(name = "REBUILT_DATE_TIME")
+    private LocalDateTime rebuiltDateTime;
+}
@@ -11,7 +11,8 @@ import javax.persistence.*;
 @NoArgsConstructor
 public class Stock {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "STOCK_SEQ_GENERATOR")
+    @SequenceGenerator(name = "STOCK_SEQ_GENERATOR", sequenceName = "STOCK_SEQ", allocationSize = 50)
     @Column(name = "STOCK_ID")
     private Long id;
 
@@ -21,6 +22,13 @@ public class Stock {
     @Column(name = "QUANTITY")
     private int quantity;
 
+    /**
+     * cafekiosk.stock.mode=optimistic 인 경우 낙관적 락(Optimistic Lock)의 충돌 감지에 사용한다.
+     */
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
+
     @Builder
     public Stock(String productNo, int quantity) {
         this.productNo = productNo;
@@ -0,0 +1,16 @@
+package sample.cafekiosk.spring.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.sales.HourlySales;
+import sample.cafekiosk.spring.domain.sales.HourlySalesId;
+
+import java.time.LocalDate;
+
+@Repository
+public interface HourlySalesRepository extends JpaRepository<HourlySales, HourlySalesId>, HourlySalesRepositoryCustom {
+
+    @Query("select coalesce(sum(h.totalAmount), 0) from HourlySales h where h.salesDate = :salesDate")
+    long sumTotalAmountBy(LocalDate salesDate);
+}
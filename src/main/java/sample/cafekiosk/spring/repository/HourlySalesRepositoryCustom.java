@@ -0,0 +1,18 @@
+package sample.cafekiosk.spring.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface HourlySalesRepositoryCustom {
+
+    /**
+     * 주문 등록시간이 속한 시간대의 주문 건수를 1, 매출 합계를 amount만큼 증가시킨다.
+     */
+    void increase(LocalDateTime registeredDateTime, int amount);
+
+    /**
+     * 주어진 기간(시작일 ~ 종료일)의 집계를 지우고, ORDERS 테이블의 결제완료 주문으로 다시 집계한다.
+     * - 다시 집계한 일자는 SALES_ROLLUP_DATE에 기록한다. (같은 기간을 여러 번 다시 계산해도 된다)
+     */
+    void rebuild(LocalDate startDate, LocalDate endDate);
+}
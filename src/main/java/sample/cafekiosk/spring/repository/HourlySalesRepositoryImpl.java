@@ -0,0 +1,85 @@
+package sample.cafekiosk.spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 동시에 같은 시간대의 집계가 증가하더라도 누락되지 않도록 조회 후 수정이 아닌 단일 update 구문으로 증가시킨다.
+ * - 해당 시간대의 집계가 없으면 insert 하며, 동시에 insert 되어 PK가 충돌하면 다시 update 한다.
+ * - 집계를 다시 계산하면 해당 기간의 일자를 SALES_ROLLUP_DATE에 기록한다.
+ *
+ * 집계 증가(increase)와 다시 계산(rebuild)은 일자별 SALES_ROLLUP_DATE 행을 먼저 잠근 뒤 수행한다.
+ * - 다시 계산(DELETE + INSERT ... SELECT) 도중 같은 일자의 집계가 증가하면 증가분이 지워지거나 중복 집계될 수 있기 때문이다.
+ * - 잠글 행이 없으면 insert 하며(REBUILT_DATE_TIME = null), 동시에 insert 되어 PK가 충돌하면 다시 잠근다.
+ */
+@RequiredArgsConstructor
+public class HourlySalesRepositoryImpl implements HourlySalesRepositoryCustom {
+
+    private static final String INCREASE_SQL =
+            "update hourly_sales set order_count = order_count + 1, total_amount = total_amount + ? where sales_date = ? and sales_hour = ?";
+    private static final String INSERT_SQL =
+            "insert into hourly_sales (sales_date, sales_hour, order_count, total_amount) values (?, ?, 1, ?)";
+    private static final String DELETE_SQL =
+            "delete from hourly_sales where sales_date >= ? and sales_date <= ?";
+    private static final String REBUILD_SQL =
+            "insert into hourly_sales (sales_date, sales_hour, order_count, total_amount) "
+                    + "select cast(o.registered_date_time as date), extract(hour from o.registered_date_time), count(*), sum(o.total_price) "
+                    + "from orders o "
+                    + "where o.order_status = ? and o.registered_date_time >= ? and o.registered_date_time < ? "
+                    + "group by cast(o.registered_date_time as date), extract(hour from o.registered_date_time)";
+    private static final String LOCK_ROLLUP_DATE_SQL =
+            "update sales_rollup_date set rebuilt_date_time = rebuilt_date_time where sales_date = ?";
+    private static final String INSERT_ROLLUP_DATE_SQL =
+            "insert into sales_rollup_date (sales_date, rebuilt_date_time) values (?, null)";
+    private static final String MARK_REBUILT_SQL =
+            "update sales_rollup_date set rebuilt_date_time = ? where sales_date >= ? and sales_date <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void increase(LocalDateTime registeredDateTime, int amount) {
+        LocalDate salesDate = registeredDateTime.toLocalDate();
+        int salesHour = registeredDateTime.getHour();
+
+        lockSalesDate(salesDate);
+        if (jdbcTemplate.update(INCREASE_SQL, amount, salesDate, salesHour) > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_SQL, salesDate, salesHour, amount);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(INCREASE_SQL, amount, salesDate, salesHour);
+        }
+    }
+
+    @Override
+    public void rebuild(LocalDate startDate, LocalDate endDate) {
+        startDate.datesUntil(endDate.plusDays(1)).forEach(this::lockSalesDate);
+
+        jdbcTemplate.update(DELETE_SQL, startDate, endDate);
+        jdbcTemplate.update(REBUILD_SQL
+                , OrderStatus.PAYMENT_COMPLETED.name()
+                , startDate.atStartOfDay()
+                , endDate.plusDays(1).atStartOfDay()
+        );
+        jdbcTemplate.update(MARK_REBUILT_SQL, LocalDateTime.now(), startDate, endDate);
+    }
+
+    private void lockSalesDate(LocalDate salesDate) {
+        if (jdbcTemplate.update(LOCK_ROLLUP_DATE_SQL, salesDate) > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update(INSERT_ROLLUP_DATE_SQL, salesDate);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(LOCK_ROLLUP_DATE_SQL, salesDate);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package sample.cafekiosk.spring.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import sample.cafekiosk.spring.domain.history.mail.MailOutbox;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long>, MailOutboxRepositoryCustom {
+}
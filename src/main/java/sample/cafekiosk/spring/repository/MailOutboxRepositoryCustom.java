@@ -0,0 +1,24 @@
+package sample.cafekiosk.spring.repository;
+
+import sample.cafekiosk.spring.domain.history.mail.MailOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepositoryCustom {
+
+    /**
+     * 전송 시각이 도래한 메일을 최대 batchSize건 선점(PROCESSING)하고, 선점한 메일의 ID 리스트를 반환한다.
+     * - 선점 시 시도 횟수를 증가시키고, NEXT_ATTEMPT_DATE_TIME을 선점 만료 시각(leaseExpiredDateTime)으로 변경한다.
+     * - 조건부 update로 선점하기 때문에 여러 워커 / 인스턴스가 동시에 호출해도 같은 메일을 중복으로 선점하지 않는다.
+     */
+    List<Long> claimPending(LocalDateTime now, LocalDateTime leaseExpiredDateTime, int batchSize);
+
+    /**
+     * 선점한 워커의 전송 결과(상태, 다음 시도 시각, 전송 시각, 실패 사유)를 반영하고, 반영 여부를 반환한다.
+     * - 선점 시점의 ATTEMPT_COUNT(mailOutbox.getAttemptCount())를 선점 토큰으로 사용하며,
+     *   PROCESSING 상태이고 ATTEMPT_COUNT가 같은 경우에만 반영한다.
+     * - 전송 도중 선점이 만료되어 다른 워커가 다시 선점했다면 ATTEMPT_COUNT가 달라지므로 반영하지 않고 false를 반환한다.
+     */
+    boolean completeClaimed(MailOutbox mailOutbox);
+}
@@ -0,0 +1,73 @@
+package sample.cafekiosk.spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.domain.history.mail.MailOutbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메일 선점은 조회 후 Dirty Checking 방식이 아닌 조건부 update 구문으로 수행한다.
+ * - 후보 ID를 조회한 뒤 ID별로 상태 / 시각 조건을 다시 걸어 update 하며, 1건이 수정된 메일만 선점에 성공한 것으로 본다.
+ * - 선점이 만료된 PROCESSING 메일(전송 도중 종료된 인스턴스의 메일)도 다시 선점 대상이 된다.
+ * - batchUpdate는 드라이버에 따라 수정 건수 대신 SUCCESS_NO_INFO(-2)를 반환할 수 있으므로 ID별로 update 하여 정확한 수정 건수로 판단한다.
+ * - 전송 결과도 선점 시 증가시킨 ATTEMPT_COUNT를 조건으로 update 하여, 선점이 만료된 워커의 늦은 결과가 새 선점을 덮어쓰지 않도록 한다.
+ */
+@RequiredArgsConstructor
+public class MailOutboxRepositoryImpl implements MailOutboxRepositoryCustom {
+
+    private static final String SELECT_CLAIMABLE_SQL =
+            "select mail_outbox_id from mail_outbox"
+                    + " where status in ('PENDING', 'PROCESSING') and next_attempt_date_time <= ?"
+                    + " order by mail_outbox_id limit ?";
+    private static final String CLAIM_SQL =
+            "update mail_outbox set status = 'PROCESSING', attempt_count = attempt_count + 1, next_attempt_date_time = ?"
+                    + " where mail_outbox_id = ? and status in ('PENDING', 'PROCESSING') and next_attempt_date_time <= ?";
+    private static final String COMPLETE_CLAIMED_SQL =
+            "update mail_outbox set status = ?, next_attempt_date_time = ?, sent_date_time = ?, last_error_message = ?"
+                    + " where mail_outbox_id = ? and status = 'PROCESSING' and attempt_count = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> claimPending(LocalDateTime now, LocalDateTime leaseExpiredDateTime, int batchSize) {
+        List<Long> candidateIds = jdbcTemplate.queryForList(
+                SELECT_CLAIMABLE_SQL, Long.class, Timestamp.valueOf(now), batchSize
+        );
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> claimedIds = new ArrayList<>();
+        for (Long candidateId : candidateIds) {
+            int updatedCount = jdbcTemplate.update(
+                    CLAIM_SQL, Timestamp.valueOf(leaseExpiredDateTime), candidateId, Timestamp.valueOf(now)
+            );
+            if (updatedCount == 1) {
+                claimedIds.add(candidateId);
+            }
+        }
+        return claimedIds;
+    }
+
+    @Override
+    public boolean completeClaimed(MailOutbox mailOutbox) {
+        int updatedCount = jdbcTemplate.update(
+                COMPLETE_CLAIMED_SQL
+                , mailOutbox.getStatus().name()
+                , toTimestamp(mailOutbox.getNextAttemptDateTime())
+                , toTimestamp(mailOutbox.getSentDateTime())
+                , mailOutbox.getLastErrorMessage()
+                , mailOutbox.getId()
+                , mailOutbox.getAttemptCount()
+        );
+        return updatedCount == 1;
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime == null ? null : Timestamp.valueOf(dateTime);
+    }
+}
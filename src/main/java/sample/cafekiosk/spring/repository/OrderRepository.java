@@ -1,17 +1,42 @@
 package sample.cafekiosk.spring.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderAmountSummary;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    @Query("select o from Order o where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime and o.orderStatus = :orderStatus")
-    List<Order> findOrdersBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+    /**
+     * 주문 엔티티를 조회하지 않고 데이터베이스에서 매출 합계 / 주문 건수만 계산하여 조회한다.
+     * - 시간대별 집계를 다시 계산한 기록이 없는 일자의 매출 조회에 사용한다. (SalesRollupService.getDailyTotalAmount)
+     */
+    @Query("select new sample.cafekiosk.spring.domain.order.OrderAmountSummary(sum(o.totalPrice), count(o)) from Order o where o.registeredDateTime >= :startDateTime and o.registeredDateTime < :endDateTime and o.orderStatus = :orderStatus")
+    OrderAmountSummary findAmountSummaryBy(LocalDateTime startDateTime, LocalDateTime endDateTime, OrderStatus orderStatus);
+
+    /**
+     * 주문 상품과 상품을 fetch join으로 함께 조회한다.
+     * - 주문 상품 수와 관계 없이 쿼리 1번으로 OrderResponse를 만들 수 있다. (OrderProduct.product 지연 로딩으로 인한 N+1 방지)
+     */
+    @Query("select distinct o from Order o left join fetch o.orderProducts op left join fetch op.product where o.id = :orderId")
+    Optional<Order> findWithProductsById(Long orderId);
+
+    @Query("select distinct o from Order o left join fetch o.orderProducts op left join fetch op.product where o.id in :orderIds")
+    List<Order> findAllWithProductsByIdIn(Collection<Long> orderIds);
+
+    /**
+     * 컬렉션을 fetch join 하면서 페이징하면 Hibernate가 전체 결과를 메모리에 올려 페이징하기 때문에,
+     * 주문 ID만 먼저 페이징하여 조회한 뒤 findAllWithProductsByIdIn()으로 주문 상품을 함께 조회한다.
+     */
+    @Query("select o.id from Order o")
+    List<Long> findIdsBy(Pageable pageable);
 }
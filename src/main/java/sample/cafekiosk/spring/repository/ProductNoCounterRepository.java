@@ -0,0 +1,7 @@
+package sample.cafekiosk.spring.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import sample.cafekiosk.spring.domain.product.ProductNoCounter;
+
+public interface ProductNoCounterRepository extends JpaRepository<ProductNoCounter, Long>, ProductNoCounterRepositoryCustom {
+}
@@ -0,0 +1,10 @@
+package sample.cafekiosk.spring.repository;
+
+public interface ProductNoCounterRepositoryCustom {
+
+    /**
+     * 상품번호를 blockSize개 예약하고, 예약한 구간의 첫 번호를 반환한다. ([반환값, 반환값 + blockSize) 구간)
+     * - 트랜잭션 안에서 호출해야 하며, 커밋 전까지 카운터 row lock을 잡고 있으므로 짧은 트랜잭션으로 호출한다.
+     */
+    long reserve(int blockSize);
+}
@@ -0,0 +1,44 @@
+package sample.cafekiosk.spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import sample.cafekiosk.spring.domain.product.ProductNoCounter;
+
+/**
+ * 카운터 증가는 조회 후 Dirty Checking(read-modify-write) 방식이 아닌 단일 update 구문으로 수행한다.
+ * - update로 row lock을 먼저 잡은 뒤 증가된 값을 읽기 때문에, 여러 인스턴스가 동시에 예약해도 구간이 겹치지 않는다.
+ * - 카운터 row가 없으면 기존 상품번호(숫자 부분)의 최대값 다음 번호부터 시작하도록 생성한다.
+ *   숫자가 없는 상품번호는 제외한다.
+ *   동시에 생성하려다 중복 키 오류가 발생하면, 이미 생성된 row를 다시 update 한다.
+ */
+@RequiredArgsConstructor
+public class ProductNoCounterRepositoryImpl implements ProductNoCounterRepositoryCustom {
+
+    private static final String INCREASE_SQL =
+            "update product_no_counter set next_no = next_no + ? where counter_id = ?";
+    private static final String SELECT_SQL =
+            "select next_no from product_no_counter where counter_id = ?";
+    private static final String INSERT_SQL =
+            "insert into product_no_counter (counter_id, next_no) values (?, ?)";
+    private static final String SELECT_INITIAL_NO_SQL =
+            "select coalesce(max(cast(nullif(regexp_replace(product_no, '[^0-9]', ''), '') as bigint)), 0) + 1 from product";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long reserve(int blockSize) {
+        if (jdbcTemplate.update(INCREASE_SQL, blockSize, ProductNoCounter.COUNTER_ID) == 0) {
+            Long initialNo = jdbcTemplate.queryForObject(SELECT_INITIAL_NO_SQL, Long.class);
+            try {
+                jdbcTemplate.update(INSERT_SQL, ProductNoCounter.COUNTER_ID, initialNo + blockSize);
+                return initialNo;
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(INCREASE_SQL, blockSize, ProductNoCounter.COUNTER_ID);
+            }
+        }
+
+        Long nextNo = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, ProductNoCounter.COUNTER_ID);
+        return nextNo - blockSize;
+    }
+}
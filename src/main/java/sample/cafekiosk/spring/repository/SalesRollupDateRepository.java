@@ -0,0 +1,13 @@
+package sample.cafekiosk.spring.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import sample.cafekiosk.spring.domain.sales.SalesRollupDate;
+
+import java.time.LocalDate;
+
+@Repository
+public interface SalesRollupDateRepository extends JpaRepository<SalesRollupDate, LocalDate> {
+
+    boolean existsBySalesDateAndRebuiltDateTimeIsNotNull(LocalDate salesDate);
+}
@@ -7,7 +7,7 @@ import sample.cafekiosk.spring.domain.stock.Stock;
 import java.util.List;
 
 @Repository
-public interface StockRepository extends JpaRepository<Stock, Long> {
+public interface StockRepository extends JpaRepository<Stock, Long>, StockRepositoryCustom {
 
     List<Stock> findAllByProductNoIn(List<String> productNos);
 }
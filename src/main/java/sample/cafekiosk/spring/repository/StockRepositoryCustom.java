@@ -0,0 +1,27 @@
+package sample.cafekiosk.spring.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface StockRepositoryCustom {
+
+    /**
+     * 상품번호별 수량만큼 재고를 차감한다.
+     * - 상품번호 순으로 상품마다 조건부 update 1건씩 실행한다. (상품번호 순이므로 동시 주문 간 데드락을 피할 수 있다.)
+     * - JDBC batch로 보내지 않는다. 드라이버에 따라 batch 결과가 SUCCESS_NO_INFO(-2)로 반환되어
+     *   상품별 수정 건수(차감 성공 여부)를 정확히 알 수 없기 때문이다.
+     * - 재고가 부족하거나 재고가 존재하지 않아 차감되지 않은 상품번호 리스트를 반환한다.
+     */
+    List<String> deductQuantities(Map<String, Integer> quantities);
+
+    /**
+     * 차감했던 재고를 상품번호별 수량만큼 되돌린다.
+     */
+    void restoreQuantities(Map<String, Integer> quantities);
+
+    /**
+     * 재고 수량 조건 없이 상품번호별 수량만큼 재고를 차감한다.
+     * - 이미 다른 곳에서 재고 확인이 끝난 차감 내역을 반영할 때 사용한다. (InMemoryStockDeductor)
+     */
+    void subtractQuantities(Map<String, Integer> quantities);
+}
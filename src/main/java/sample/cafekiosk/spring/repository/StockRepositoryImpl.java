@@ -0,0 +1,75 @@
+package sample.cafekiosk.spring.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 차감은 조회 후 Dirty Checking(read-modify-write) 방식이 아닌 단일 update 구문으로 수행한다.
+ * - where 조건에 quantity >= 차감수량 을 두어, 동시에 주문이 들어와도 재고가 음수가 되지 않는다.
+ * - 수정된 행이 정확히 1건인 상품만 차감에 성공한 것으로 본다.
+ * - 상품번호 순으로 정렬하여 update 하기 때문에 동시 주문 간 row lock 획득 순서가 같아 데드락을 피할 수 있다.
+ * - JDBC로 직접 수정하기 때문에 이미 조회된 Stock 엔티티(영속성 컨텍스트)에는 반영되지 않는다.
+ * - 낙관적 락 모드와 함께 사용되어도 충돌을 감지할 수 있도록 version도 함께 증가시킨다.
+ */
+@RequiredArgsConstructor
+public class StockRepositoryImpl implements StockRepositoryCustom {
+
+    private static final String DEDUCT_QUANTITY_SQL =
+            "update stock set quantity = quantity - ?, version = version + 1 where product_no = ? and quantity >= ?";
+    private static final String RESTORE_QUANTITY_SQL =
+            "update stock set quantity = quantity + ?, version = version + 1 where product_no = ?";
+    private static final String SUBTRACT_QUANTITY_SQL =
+            "update stock set quantity = quantity - ?, version = version + 1 where product_no = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<String> deductQuantities(Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+
+        // 아직 반영되지 않은 재고 저장/변경 내역을 먼저 DB에 반영한다.
+        entityManager.flush();
+
+        // 상품번호 순으로 한 건씩 update 하여, 드라이버와 관계 없이 정확한 수정 건수로 성공 여부를 판단한다.
+        // (batchUpdate는 드라이버에 따라 SUCCESS_NO_INFO(-2)를 반환하여 차감 성공 여부를 알 수 없다.)
+        List<String> failedProductNos = new ArrayList<>();
+        new TreeMap<>(quantities).forEach((productNo, quantity) -> {
+            int updatedCount = jdbcTemplate.update(DEDUCT_QUANTITY_SQL, quantity, productNo, quantity);
+            if (updatedCount != 1) {
+                failedProductNos.add(productNo);
+            }
+        });
+        return failedProductNos;
+    }
+
+    @Override
+    public void restoreQuantities(Map<String, Integer> quantities) {
+        updateQuantities(RESTORE_QUANTITY_SQL, quantities);
+    }
+
+    @Override
+    public void subtractQuantities(Map<String, Integer> quantities) {
+        updateQuantities(SUBTRACT_QUANTITY_SQL, quantities);
+    }
+
+    private void updateQuantities(String sql, Map<String, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(new TreeMap<>(quantities).entrySet());
+        jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setString(2, entry.getKey());
+        });
+    }
+}
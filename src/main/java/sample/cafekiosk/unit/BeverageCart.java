@@ -0,0 +1,138 @@
+package sample.cafekiosk.unit;
+
+import sample.cafekiosk.unit.drink.Beverage;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.pricing.PricingEngine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 음료 종류(BeverageProduct)별 수량만 기록하는 주문 목록
+ * - 메뉴는 BeverageProduct enum으로 고정되어 있으므로, 음료명(String) 대신 ordinal()을 인덱스로 하는 int[]에 수량을 기록한다.
+ * - 총 금액 / 담긴 음료 종류 수는 담기 / 빼기 시점에 갱신한다.
+ *   -> 총 금액 조회는 O(1)이며, 담기 / 빼기 / 총 금액 조회 중 객체를 생성하지 않는다.
+ * - 음료명 / Beverage 목록이 필요한 경우(주문 생성 등)에만 수량을 기반으로 만들어 반환한다.
+ * - 주문 생성 시에는 수량 배열을 복사하지 않고 CartSnapshot으로 공유한다. (O(1))
+ *   -> 스냅샷을 만든 뒤 처음 변경될 때만 배열을 새로 만들며(copy-on-write), 그 전까지는 같은 스냅샷을 반환한다.
+ *
+ * 단일 스레드(단말기 1대)에서 사용한다.
+ */
+public class BeverageCart {
+
+    private static final BeverageProduct[] PRODUCTS = BeverageProduct.values();
+
+    private final int[] pricingWorkspace = new int[PRODUCTS.length];
+    private int[] counts = new int[PRODUCTS.length];
+    private int totalPrice;
+    private int beverageTypeCount;
+    private CartSnapshot snapshot;
+
+    public void put(Beverage beverage) {
+        put(beverage.getBeverageProduct(), beverage.getCount());
+    }
+
+    /**
+     * 이미 담긴 음료라면 수량을 새로 담은 수량으로 바꾼다.
+     */
+    public void put(BeverageProduct beverageProduct, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("음료는 1잔 이상 주문 가능합니다.");
+        }
+
+        int index = beverageProduct.ordinal();
+        int previousCount = counts[index];
+        if (previousCount == count) {
+            return;
+        }
+
+        ensureWritable();
+        if (previousCount == 0) {
+            beverageTypeCount++;
+        }
+        counts[index] = count;
+        totalPrice += (count - previousCount) * beverageProduct.getBeveragePrice();
+    }
+
+    public void remove(BeverageProduct beverageProduct) {
+        int index = beverageProduct.ordinal();
+        int previousCount = counts[index];
+        if (previousCount == 0) {
+            return;
+        }
+
+        ensureWritable();
+        counts[index] = 0;
+        totalPrice -= previousCount * beverageProduct.getBeveragePrice();
+        beverageTypeCount--;
+    }
+
+    public void clear() {
+        if (snapshot != null) {
+            counts = new int[PRODUCTS.length];
+            snapshot = null;
+        } else {
+            Arrays.fill(counts, 0);
+        }
+        totalPrice = 0;
+        beverageTypeCount = 0;
+    }
+
+    public int getCount(BeverageProduct beverageProduct) {
+        return counts[beverageProduct.ordinal()];
+    }
+
+    public int getTotalPrice() {
+        return totalPrice;
+    }
+
+    /**
+     * 가격 정책 규칙이 적용된 총 금액 (주문 시각은 0시 0분부터 지난 분)
+     */
+    public int calculateTotalPrice(PricingEngine pricingEngine, int minuteOfDay) {
+        return pricingEngine.calculateTotalPrice(counts, minuteOfDay, pricingWorkspace);
+    }
+
+    public int getBeverageTypeCount() {
+        return beverageTypeCount;
+    }
+
+    public List<String> getBeverageTypeNames() {
+        List<String> beverageTypeNames = new ArrayList<>(beverageTypeCount);
+        for (BeverageProduct product : PRODUCTS) {
+            if (counts[product.ordinal()] > 0) {
+                beverageTypeNames.add(product.getBeverageName());
+            }
+        }
+        return beverageTypeNames;
+    }
+
+    /**
+     * 현재 주문 목록의 불변 스냅샷을 반환한다. 마지막 스냅샷 이후 변경이 없다면 같은 스냅샷을 반환한다.
+     */
+    public CartSnapshot snapshot() {
+        if (snapshot == null) {
+            snapshot = new CartSnapshot(counts, totalPrice, beverageTypeCount);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 담긴 음료를 음료명 - Beverage 형태로 반환한다. (호출 시점의 사본이며, 이후 주문 목록을 변경해도 반영되지 않는다)
+     */
+    public Map<String, Beverage> toBeverages() {
+        return snapshot().toBeverages();
+    }
+
+    /**
+     * 스냅샷과 배열을 공유하고 있다면, 변경 전에 배열을 새로 만든다.
+     */
+    private void ensureWritable() {
+        if (snapshot != null) {
+            counts = counts.clone();
+            snapshot = null;
+        }
+    }
+}
@@ -3,11 +3,12 @@ package sample.cafekiosk.unit;
 import sample.cafekiosk.unit.drink.Beverage;
 import sample.cafekiosk.unit.drink.BeverageProduct;
 import sample.cafekiosk.unit.order.Order;
+import sample.cafekiosk.unit.pricing.PricingEngine;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * 요구사항
@@ -82,10 +83,16 @@ public class CafeKiosk {
     private static final LocalTime SHOP_CLOSE_TIME = LocalTime.of(22, 0);
 
     private final UUID uuid;
-    private final Map<String, Beverage> beverages = new HashMap<>();
+    private final BeverageCart cart = new BeverageCart();
+    private final PricingEngine pricingEngine;
 
     public CafeKiosk() {
+        this(PricingEngine.listPrice());
+    }
+
+    public CafeKiosk(PricingEngine pricingEngine) {
         this.uuid = UUID.randomUUID();
+        this.pricingEngine = pricingEngine;
     }
 
     public void put(Beverage beverage) {
@@ -93,58 +100,66 @@ public class CafeKiosk {
             throw new IllegalArgumentException("음료는 1잔 이상 주문 가능합니다.");
         }
 
-        this.beverages.put(beverage.getName(), beverage);
+        this.cart.put(beverage);
     }
 
     public void remove(BeverageProduct beverageProduct) {
-        this.beverages.remove(beverageProduct.getBeverageName());
+        this.cart.remove(beverageProduct);
     }
 
     public void clear() {
-        this.beverages.clear();
+        this.cart.clear();
     }
 
     public List<String> getBeverageTypeName() {
-        return beverages.keySet().stream().collect(Collectors.toList());
+        return cart.getBeverageTypeNames();
     }
 
     public int getBeverageTypeCount() {
-        return this.beverages.size();
+        return this.cart.getBeverageTypeCount();
     }
 
+    /**
+     * 총 금액은 BeverageCart가 담기 / 빼기 시점에 갱신해 두므로 조회만 한다.
+     */
     public int calculateTotalPrice() {
+        return cart.getTotalPrice();
+    }
 
-        int count = 0;
-        for (String beverage : beverages.keySet()) {
-            count += (beverages.get(beverage).getPrice() * beverages.get(beverage).getCount());
-        }
-
-        return count;
+    /**
+     * 주문 시각 기준으로 가격 정책(해피아워 / 묶음 할인 / 음료별 상한)이 적용된 총 금액을 계산한다.
+     */
+    public int calculateTotalPrice(LocalDateTime currentDateTime) {
+        return cart.calculateTotalPrice(pricingEngine, currentDateTime.getHour() * 60 + currentDateTime.getMinute());
     }
 
     /**
      * 테스트하기 어려운 영역을 구분하여 분리하기
      * -> createOrder()에서 현재시간(currentDateTime)을 서버 값으로 하드코딩시 시간을 맞춰야되는 어려움이 발생한다.
      *    이를 해결하기 위해서 메서드 내 하드코딩이 아닌 매개변수로 받게 작성하면 된다.
+     * -> 주문 총 금액은 주문 시각 기준으로 가격 정책을 적용하여 계산한다. (calculateTotalPrice(currentDateTime))
      */
     public Order createOrder() {
         LocalDateTime currentDateTime = LocalDateTime.now();
-        LocalTime currentTime = currentDateTime.toLocalTime();
+        validateOrderTime(currentDateTime);
 
-        if (currentTime.isBefore(SHOP_OPEN_TIME) || currentTime.isAfter(SHOP_CLOSE_TIME)) {
-            throw new IllegalArgumentException("주문 시간이 아닙니다. 관리자에게 문의하세요.");
-        }
-
-        return new Order(uuid, LocalDateTime.now(), beverages);
+        return new Order(uuid, currentDateTime, cart.snapshot(), calculateTotalPrice(currentDateTime));
     }
 
     public Order createOrder(LocalDateTime currentDateTime) {
+        validateOrderTime(currentDateTime);
+
+        return new Order(uuid, currentDateTime, cart.snapshot(), calculateTotalPrice(currentDateTime));
+    }
+
+    /**
+     * 가게 운영 시간(10시 ~ 22시) 외에는 주문을 생성할 수 없다. (ConcurrentCafeKiosk와 함께 사용)
+     */
+    static void validateOrderTime(LocalDateTime currentDateTime) {
         LocalTime currentTime = currentDateTime.toLocalTime();
 
         if (currentTime.isBefore(SHOP_OPEN_TIME) || currentTime.isAfter(SHOP_CLOSE_TIME)) {
             throw new IllegalArgumentException("주문 시간이 아닙니다. 관리자에게 문의하세요.");
         }
-
-        return new Order(uuid, LocalDateTime.now(), beverages);
     }
 }
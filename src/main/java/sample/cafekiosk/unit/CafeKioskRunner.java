@@ -2,24 +2,37 @@ package sample.cafekiosk.unit;
 
 import sample.cafekiosk.unit.drink.Americano;
 import sample.cafekiosk.unit.drink.Latte;
+import sample.cafekiosk.unit.journal.OrderJournal;
+import sample.cafekiosk.unit.journal.OrderJournalOptions;
 import sample.cafekiosk.unit.order.Order;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 
 public class CafeKioskRunner {
 
-    public static void main(String[] args) {
-        CafeKiosk cafeKiosk = new CafeKiosk();
+    private static final Path JOURNAL_DIRECTORY = Path.of("kiosk-journal");
 
-        cafeKiosk.put(new Americano());
-        System.out.println(">>> 아메리카노 추가");
+    public static void main(String[] args) throws IOException {
+        long recoveredOrderCount = OrderJournal.replay(JOURNAL_DIRECTORY, order -> {
+        });
+        System.out.println(">>> 저널에서 복원한 주문 수 " + recoveredOrderCount);
 
-        cafeKiosk.put(new Latte());
-        System.out.println(">>> 라떼 추가");
+        try (OrderJournal orderJournal = OrderJournal.open(JOURNAL_DIRECTORY, OrderJournalOptions.defaults())) {
+            CafeKiosk cafeKiosk = new CafeKiosk();
 
-        int totalPrice = cafeKiosk.calculateTotalPrice();
-        System.out.println(">>> 총 주문 가격 " + totalPrice);
+            cafeKiosk.put(new Americano());
+            System.out.println(">>> 아메리카노 추가");
 
-        Order order = cafeKiosk.createOrder(LocalDateTime.now());
+            cafeKiosk.put(new Latte());
+            System.out.println(">>> 라떼 추가");
+
+            int totalPrice = cafeKiosk.calculateTotalPrice();
+            System.out.println(">>> 총 주문 가격 " + totalPrice);
+
+            Order order = cafeKiosk.createOrder(LocalDateTime.now());
+            orderJournal.append(order);
+        }
     }
 }
@@ -0,0 +1,125 @@
+package sample.cafekiosk.unit;
+
+import sample.cafekiosk.unit.drink.Beverage;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 특정 시점의 주문 목록(음료별 수량 / 총 금액)을 담은 불변 스냅샷
+ * - BeverageCart의 수량 배열을 복사하지 않고 그대로 공유한다. (생성 O(1))
+ *   -> 공유된 배열은 이후 변경되지 않으며, BeverageCart는 스냅샷을 만든 뒤 처음 변경될 때 배열을 새로 만든다. (copy-on-write)
+ * - 변경 없이 여러 번 주문하면 같은 스냅샷을 함께 사용하므로, 지난 주문을 많이 보관해도 메모리 부담이 적다.
+ * - Beverage 목록은 보관하지 않고, 필요할 때 수량을 기반으로 만들어 반환한다.
+ */
+public final class CartSnapshot {
+
+    private static final BeverageProduct[] PRODUCTS = BeverageProduct.values();
+
+    private final int[] counts;
+    private final int totalPrice;
+    private final int beverageTypeCount;
+
+    /**
+     * counts 배열의 소유권을 넘겨받는다. 호출하는 쪽은 이후 배열을 변경해서는 안 된다.
+     */
+    CartSnapshot(int[] counts, int totalPrice, int beverageTypeCount) {
+        this.counts = counts;
+        this.totalPrice = totalPrice;
+        this.beverageTypeCount = beverageTypeCount;
+    }
+
+    /**
+     * 음료별 수량으로 스냅샷을 만든다. (주문 저널 복원 등 외부에서 주문 목록을 다시 만드는 경우)
+     */
+    public static CartSnapshot of(Map<BeverageProduct, Integer> beverageCounts) {
+        int[] counts = new int[PRODUCTS.length];
+        int totalPrice = 0;
+        int beverageTypeCount = 0;
+        for (Map.Entry<BeverageProduct, Integer> entry : beverageCounts.entrySet()) {
+            if (entry.getValue() < 1) {
+                throw new IllegalArgumentException("음료는 1잔 이상 주문 가능합니다.");
+            }
+            counts[entry.getKey().ordinal()] = entry.getValue();
+            totalPrice += entry.getKey().getBeveragePrice() * entry.getValue();
+            beverageTypeCount++;
+        }
+        return new CartSnapshot(counts, totalPrice, beverageTypeCount);
+    }
+
+    static CartSnapshot from(Collection<Beverage> beverages) {
+        int[] counts = new int[PRODUCTS.length];
+        int totalPrice = 0;
+        int beverageTypeCount = 0;
+        for (Beverage beverage : beverages) {
+            int index = beverage.getBeverageProduct().ordinal();
+            if (counts[index] == 0) {
+                beverageTypeCount++;
+            }
+            totalPrice += (beverage.getCount() - counts[index]) * beverage.getPrice();
+            counts[index] = beverage.getCount();
+        }
+        return new CartSnapshot(counts, totalPrice, beverageTypeCount);
+    }
+
+    public int getCount(BeverageProduct beverageProduct) {
+        return counts[beverageProduct.ordinal()];
+    }
+
+    public int getTotalPrice() {
+        return totalPrice;
+    }
+
+    public int getBeverageTypeCount() {
+        return beverageTypeCount;
+    }
+
+    public List<String> getBeverageTypeNames() {
+        List<String> beverageTypeNames = new ArrayList<>(beverageTypeCount);
+        for (BeverageProduct product : PRODUCTS) {
+            if (counts[product.ordinal()] > 0) {
+                beverageTypeNames.add(product.getBeverageName());
+            }
+        }
+        return beverageTypeNames;
+    }
+
+    /**
+     * 담긴 음료를 음료명 - Beverage 형태의 읽기 전용 Map으로 반환한다.
+     */
+    public Map<String, Beverage> toBeverages() {
+        Map<String, Beverage> beverages = new LinkedHashMap<>();
+        for (BeverageProduct product : PRODUCTS) {
+            int count = counts[product.ordinal()];
+            if (count > 0) {
+                beverages.put(product.getBeverageName(), product.toBeverage(count));
+            }
+        }
+        return Collections.unmodifiableMap(beverages);
+    }
+
+    /**
+     * 같은 배열을 공유하는지 여부 (구조 공유 확인용)
+     */
+    boolean sharesStructureWith(CartSnapshot other) {
+        return this.counts == other.counts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CartSnapshot)) return false;
+        return Arrays.equals(counts, ((CartSnapshot) o).counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+}
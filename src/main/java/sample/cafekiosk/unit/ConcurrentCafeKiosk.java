@@ -0,0 +1,116 @@
+package sample.cafekiosk.unit;
+
+import sample.cafekiosk.unit.drink.Beverage;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.order.Order;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 단말기(터치 키오스크, 직원용 태블릿)가 하나의 키오스크를 함께 사용하는 모드
+ * - 단말기마다 세션(KioskSession)을 열고, 주문 목록(장바구니)은 세션별로 관리한다.
+ * - 메뉴(카탈로그)는 모든 세션이 공유하며, 생성 이후 변경되지 않는다.
+ * - 세션 / 장바구니는 ConcurrentHashMap으로 관리하여 전역 락 없이 여러 스레드에서 동시에 사용할 수 있다.
+ *   -> 서로 다른 세션은 서로의 장바구니에 영향을 주지 않으며, 같은 세션에 동시에 담아도 음료가 유실되지 않는다.
+ *
+ * CafeKiosk는 단일 단말기(단일 스레드)용으로 그대로 사용한다.
+ */
+public class ConcurrentCafeKiosk {
+
+    private final UUID uuid;
+    private final Map<String, BeverageProduct> catalog;
+    private final ConcurrentMap<String, KioskSession> sessions = new ConcurrentHashMap<>();
+
+    public ConcurrentCafeKiosk() {
+        this.uuid = UUID.randomUUID();
+        this.catalog = Arrays.stream(BeverageProduct.values())
+                .collect(Collectors.toUnmodifiableMap(BeverageProduct::getBeverageName, Function.identity()));
+    }
+
+    /**
+     * 단말기의 세션을 반환한다. 열린 세션이 없으면 새로 연다.
+     */
+    public KioskSession openSession(String terminalId) {
+        return sessions.computeIfAbsent(terminalId, KioskSession::new);
+    }
+
+    public Optional<KioskSession> findSession(String terminalId) {
+        return Optional.ofNullable(sessions.get(terminalId));
+    }
+
+    public void closeSession(String terminalId) {
+        sessions.remove(terminalId);
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public class KioskSession {
+
+        private final String terminalId;
+        private final ConcurrentMap<String, Beverage> beverages = new ConcurrentHashMap<>();
+
+        private KioskSession(String terminalId) {
+            this.terminalId = terminalId;
+        }
+
+        public void put(Beverage beverage) {
+            if (beverage.getCount() == 0) {
+                throw new IllegalArgumentException("음료는 1잔 이상 주문 가능합니다.");
+            }
+            if (!catalog.containsKey(beverage.getName())) {
+                throw new IllegalArgumentException("판매하지 않는 음료입니다.");
+            }
+
+            this.beverages.put(beverage.getName(), beverage);
+        }
+
+        public void remove(BeverageProduct beverageProduct) {
+            this.beverages.remove(beverageProduct.getBeverageName());
+        }
+
+        public void clear() {
+            this.beverages.clear();
+        }
+
+        public List<String> getBeverageTypeName() {
+            return new ArrayList<>(beverages.keySet());
+        }
+
+        public int getBeverageTypeCount() {
+            return this.beverages.size();
+        }
+
+        public int calculateTotalPrice() {
+            int totalPrice = 0;
+            for (Beverage beverage : beverages.values()) {
+                totalPrice += beverage.getPrice() * beverage.getCount();
+            }
+            return totalPrice;
+        }
+
+        /**
+         * 주문에는 생성 시점의 장바구니 사본을 담는다. (이후 장바구니를 변경해도 주문은 변하지 않는다)
+         */
+        public Order createOrder(LocalDateTime currentDateTime) {
+            CafeKiosk.validateOrderTime(currentDateTime);
+
+            return new Order(uuid, currentDateTime, CartSnapshot.from(beverages.values()));
+        }
+
+        public String getTerminalId() {
+            return terminalId;
+        }
+    }
+}
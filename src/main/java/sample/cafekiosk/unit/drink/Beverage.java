@@ -5,17 +5,20 @@ import lombok.Getter;
 @Getter
 public abstract class Beverage {
 
+    private BeverageProduct beverageProduct;
     private String name;   // 상품명
     private int price;     // 가격
     private int count;     // 구매 수량
 
     public Beverage(BeverageProduct beverageProduct) {
+        this.beverageProduct = beverageProduct;
         this.name = beverageProduct.getBeverageName();
         this.price = beverageProduct.getBeveragePrice();
         this.count = 1;
     }
 
     public Beverage(BeverageProduct beverageProduct, int count) {
+        this.beverageProduct = beverageProduct;
         this.name = beverageProduct.getBeverageName();
         this.price = beverageProduct.getBeveragePrice();
         this.count = count;
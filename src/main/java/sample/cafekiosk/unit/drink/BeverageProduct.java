@@ -1,16 +1,20 @@
 package sample.cafekiosk.unit.drink;
 
+import java.util.function.IntFunction;
+
 public enum BeverageProduct {
 
-    AMERICANO("아메리카노", 4000)
-    , LATTE("라떼", 5000);
+    AMERICANO("아메리카노", 4000, Americano::new)
+    , LATTE("라떼", 5000, Latte::new);
 
     private final String beverageName;
     private final int beveragePrice;
+    private final IntFunction<Beverage> beverageFactory;
 
-    BeverageProduct(String beverageName, int beveragePrice) {
+    BeverageProduct(String beverageName, int beveragePrice, IntFunction<Beverage> beverageFactory) {
         this.beverageName = beverageName;
         this.beveragePrice = beveragePrice;
+        this.beverageFactory = beverageFactory;
     }
 
     public String getBeverageName() {
@@ -20,4 +24,11 @@ public enum BeverageProduct {
     public int getBeveragePrice() {
         return this.beveragePrice;
     }
+
+    /**
+     * 수량만큼 담긴 음료(Beverage)를 만든다.
+     */
+    public Beverage toBeverage(int count) {
+        return beverageFactory.apply(count);
+    }
 }
@@ -0,0 +1,247 @@
+package sample.cafekiosk.unit.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.order.Order;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 주문 저널 세그먼트 파일 (orders-0000000001.journal ...)
+ *
+ * 헤더 구조
+ * - int : MAGIC, int : VERSION (레코드 구조 버전, OrderRecordCodec 참고)
+ * - short : 음료 수, (short 길이 + UTF-8 음료 enum 이름) x 음료 수
+ *   -> 레코드에는 음료 번호(ordinal)만 기록하고, 복원 시 헤더의 이름으로 음료를 찾는다. (BeverageProduct 순서가 바뀌어도 복원 가능)
+ * 헤더 이후에는 OrderRecordCodec의 레코드가 이어지며, 기록되지 않은 영역은 0으로 채워져 있다.
+ *
+ * 세그먼트는 임시 파일(.journal.tmp)에 헤더를 기록하고 디스크에 반영한 뒤 이름을 바꿔 만든다.
+ * - 헤더가 기록되지 않은 세그먼트 파일이 보이지 않도록 하기 위함이며, 이전 버전에서 만들어진 헤더가 없는(0으로 채워진) 세그먼트는
+ *   비어 있는 세그먼트로 본다. (isBlank)
+ * 이전 VERSION 세그먼트는 복원만 하고, 이어서 기록하지 않는다. (isWritable() == false)
+ */
+@Slf4j
+final class JournalSegment implements Closeable {
+
+    private static final int MAGIC = 0x4B4A524E;
+    private static final int VERSION = OrderRecordCodec.RECORD_VERSION;
+    private static final int MIN_VERSION = 1;
+    private static final String FILE_PREFIX = "orders-";
+    private static final String FILE_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final BeverageProduct[] PRODUCTS = BeverageProduct.values();
+    private static final int HEADER_SIZE = headerSize();
+
+    private final long index;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int version;
+    private final BeverageProduct[] products;
+
+    private JournalSegment(long index, Path path, FileChannel channel, MappedByteBuffer buffer, int version, BeverageProduct[] products) {
+        this.index = index;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.version = version;
+        this.products = products;
+    }
+
+    static JournalSegment create(Path directory, long index, int segmentSize) throws IOException {
+        Path path = directory.resolve(String.format("%s%010d%s", FILE_PREFIX, index, FILE_SUFFIX));
+        if (Files.exists(path)) {
+            throw new FileAlreadyExistsException(path.toString());
+        }
+
+        Path tempPath = path.resolveSibling(path.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel tempChannel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = writeHeader(ByteBuffer.allocate(HEADER_SIZE));
+            header.flip();
+            while (header.hasRemaining()) {
+                tempChannel.write(header);
+            }
+            tempChannel.write(ByteBuffer.wrap(new byte[1]), segmentSize - 1L);
+            tempChannel.force(true);
+        }
+        Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE);
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        buffer.position(HEADER_SIZE);
+        return new JournalSegment(index, path, channel, buffer, VERSION, PRODUCTS.clone());
+    }
+
+    /**
+     * 헤더를 기록하기 전에 비정상 종료된 세그먼트(길이가 0이거나 MAGIC 위치가 0으로 채워진 파일)인지 확인한다.
+     */
+    static boolean isBlank(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // MAGIC 위치를 모두 읽을 때까지 반복
+            }
+            return magic.position() < Integer.BYTES || magic.getInt(0) == 0;
+        }
+    }
+
+    /**
+     * 마지막 세그먼트를 이어서 기록할 수 있도록 연다.
+     * - 기록 위치는 마지막 정상 레코드의 끝이며, 그 이후 영역(비정상 종료로 손상된 레코드 등)은 0으로 초기화한다.
+     * - 헤더의 버전 / 음료 목록이 현재와 다르면 기록 위치를 찾지 않는다. (isWritable() == false, 새 세그먼트에 기록해야 한다)
+     */
+    static JournalSegment openForAppend(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        int version = readVersion(path, buffer);
+        BeverageProduct[] products = readProducts(buffer);
+
+        JournalSegment segment = new JournalSegment(indexOf(path), path, channel, buffer, version, products);
+        if (segment.isWritable()) {
+            OrderRecordCodec.ScanResult result = OrderRecordCodec.scan(buffer, version, products, order -> {
+            });
+            if (result.isCorrupted()) {
+                log.warn("주문 저널의 손상된 레코드 이후부터 이어서 기록합니다. segment={}, position={}", path, buffer.position());
+            }
+            segment.clearRemaining();
+        }
+        return segment;
+    }
+
+    static long replay(Path path, Consumer<Order> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int version = readVersion(path, buffer);
+            BeverageProduct[] products = readProducts(buffer);
+
+            OrderRecordCodec.ScanResult result = OrderRecordCodec.scan(buffer, version, products, consumer);
+            if (result.getSkippedCount() > 0) {
+                log.warn("판매하지 않는 음료가 기록된 주문은 복원하지 않습니다. segment={}, skippedCount={}", path, result.getSkippedCount());
+            }
+            if (result.isCorrupted()) {
+                log.warn("주문 저널의 손상된 레코드 이후는 복원하지 않습니다. segment={}, position={}", path, buffer.position());
+            }
+            return result.getRecordCount();
+        }
+    }
+
+    static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths
+                    .filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    static long indexOf(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(FILE_PREFIX.length(), fileName.length() - FILE_SUFFIX.length()));
+    }
+
+    private static int headerSize() {
+        int size = Integer.BYTES * 2 + Short.BYTES;
+        for (BeverageProduct product : PRODUCTS) {
+            size += Short.BYTES + product.name().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return size;
+    }
+
+    private static ByteBuffer writeHeader(ByteBuffer buffer) {
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putShort((short) PRODUCTS.length);
+        for (BeverageProduct product : PRODUCTS) {
+            byte[] name = product.name().getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+        }
+        return buffer;
+    }
+
+    private static int readVersion(Path path, ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES * 2 + Short.BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("주문 저널 세그먼트 형식이 올바르지 않습니다. segment=" + path);
+        }
+
+        int version = buffer.getInt();
+        if (version < MIN_VERSION || version > VERSION) {
+            throw new IllegalStateException("주문 저널 세그먼트 형식이 올바르지 않습니다. segment=" + path);
+        }
+        return version;
+    }
+
+    private static BeverageProduct[] readProducts(ByteBuffer buffer) {
+        BeverageProduct[] products = new BeverageProduct[buffer.getShort()];
+        for (int index = 0; index < products.length; index++) {
+            byte[] name = new byte[buffer.getShort()];
+            buffer.get(name);
+            products[index] = findProduct(new String(name, StandardCharsets.UTF_8));
+        }
+        return products;
+    }
+
+    private static BeverageProduct findProduct(String name) {
+        return Arrays.stream(PRODUCTS)
+                .filter(product -> product.name().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    boolean isWritable() {
+        return version == VERSION && Arrays.equals(products, PRODUCTS);
+    }
+
+    boolean hasRemaining(int recordSize) {
+        return buffer.remaining() >= recordSize;
+    }
+
+    void write(ByteBuffer record) {
+        buffer.put(record);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    long getIndex() {
+        return index;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private void clearRemaining() {
+        int offset = buffer.position();
+        for (; offset + Long.BYTES <= buffer.limit(); offset += Long.BYTES) {
+            if (buffer.getLong(offset) != 0) {
+                buffer.putLong(offset, 0);
+            }
+        }
+        for (; offset < buffer.limit(); offset++) {
+            buffer.put(offset, (byte) 0);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
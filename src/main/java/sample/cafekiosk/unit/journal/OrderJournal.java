@@ -0,0 +1,214 @@
+package sample.cafekiosk.unit.journal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import sample.cafekiosk.unit.order.Order;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 단독 실행 키오스크(CafeKioskRunner)의 주문을 파일에 이어서 기록하는 저널 (append-only)
+ * - 주문은 메모리 매핑된 세그먼트 파일에 기록하므로, 주문마다 write / fsync 시스템 콜이 발생하지 않는다.
+ *   -> 기록된 주문은 OS 페이지 캐시에 있으므로 키오스크 프로세스가 비정상 종료되어도 유실되지 않는다.
+ *   -> 디스크 반영(force)은 durabilityInterval 주기로 백그라운드 스레드에서 수행한다. (0이면 주문마다 반영)
+ * - 세그먼트 파일이 가득 차면 다음 세그먼트 파일로 넘어간다.
+ * - 레코드마다 CRC32C를 기록하며, 재시작 시 replay()로 손상된 레코드 직전까지의 주문을 복원한다.
+ *
+ * append()는 여러 스레드에서 호출할 수 있다. replay()는 저널을 열기 전(키오스크 시작 시)에 호출한다.
+ */
+@Slf4j
+public class OrderJournal implements Closeable {
+
+    static final int MIN_SEGMENT_SIZE = 4096;
+
+    private final Path directory;
+    private final OrderJournalOptions options;
+    private final OrderRecordCodec codec = new OrderRecordCodec();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<JournalSegment> retiredSegments = new ArrayList<>();
+    private final ScheduledExecutorService flusher;
+
+    private JournalSegment currentSegment;
+    private boolean closed;
+
+    private OrderJournal(Path directory, OrderJournalOptions options, JournalSegment currentSegment) {
+        this.directory = directory;
+        this.options = options;
+        this.currentSegment = currentSegment;
+
+        if (options.getDurabilityInterval().isZero()) {
+            this.flusher = null;
+            return;
+        }
+
+        long intervalMillis = Math.max(1, options.getDurabilityInterval().toMillis());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("order-journal-flusher-%d").setDaemon(true).build()
+        );
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 저널을 열고 마지막 세그먼트의 마지막 정상 레코드 뒤부터 이어서 기록한다.
+     * - 마지막 세그먼트가 헤더를 기록하기 전에 비정상 종료되어 비어 있다면, 같은 번호의 세그먼트를 다시 만든다.
+     */
+    public static OrderJournal open(Path directory, OrderJournalOptions options) throws IOException {
+        Files.createDirectories(directory);
+
+        List<Path> segmentPaths = JournalSegment.list(directory);
+        if (segmentPaths.isEmpty()) {
+            return new OrderJournal(directory, options, JournalSegment.create(directory, 1, options.getSegmentSize()));
+        }
+
+        Path lastSegmentPath = segmentPaths.get(segmentPaths.size() - 1);
+        if (JournalSegment.isBlank(lastSegmentPath)) {
+            log.warn("헤더가 기록되지 않은 주문 저널 세그먼트를 다시 만듭니다. segment={}", lastSegmentPath);
+            Files.delete(lastSegmentPath);
+            return new OrderJournal(directory, options, JournalSegment.create(directory, JournalSegment.indexOf(lastSegmentPath), options.getSegmentSize()));
+        }
+
+        JournalSegment lastSegment = JournalSegment.openForAppend(lastSegmentPath);
+        if (lastSegment.isWritable()) {
+            return new OrderJournal(directory, options, lastSegment);
+        }
+
+        lastSegment.close();
+        return new OrderJournal(directory, options, JournalSegment.create(directory, lastSegment.getIndex() + 1, options.getSegmentSize()));
+    }
+
+    /**
+     * 저널에 기록된 주문을 기록된 순서대로 consumer에 전달하고, 복원한 주문 수를 반환한다.
+     * - 헤더가 기록되지 않은 세그먼트는 비어 있는 세그먼트로 보고 건너뛴다.
+     * - 판매하지 않는(헤더의 이름으로 찾을 수 없는) 음료가 기록된 주문은 건너뛰고 나머지 주문은 계속 복원한다.
+     */
+    public static long replay(Path directory, Consumer<Order> consumer) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        long orderCount = 0;
+        for (Path segmentPath : JournalSegment.list(directory)) {
+            if (JournalSegment.isBlank(segmentPath)) {
+                log.warn("헤더가 기록되지 않은 주문 저널 세그먼트는 복원하지 않습니다. segment={}", segmentPath);
+                continue;
+            }
+            orderCount += JournalSegment.replay(segmentPath, consumer);
+        }
+        return orderCount;
+    }
+
+    public void append(Order order) {
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("닫힌 주문 저널에는 기록할 수 없습니다.");
+            }
+
+            ByteBuffer record = codec.encode(order);
+            if (!currentSegment.hasRemaining(record.remaining())) {
+                rollover();
+            }
+            currentSegment.write(record);
+
+            if (flusher == null) {
+                currentSegment.force();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 기록된 주문을 디스크에 반영한다. 디스크 반영 중에도 append()는 대기하지 않는다.
+     */
+    public void flush() throws IOException {
+        List<JournalSegment> segments;
+        JournalSegment segment;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            segments = new ArrayList<>(retiredSegments);
+            retiredSegments.clear();
+            segment = currentSegment;
+        } finally {
+            lock.unlock();
+        }
+
+        for (JournalSegment retiredSegment : segments) {
+            retiredSegment.force();
+            retiredSegment.close();
+        }
+        segment.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            lock.unlock();
+        }
+
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(options.getDurabilityInterval().toMillis() + 1000, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        for (JournalSegment retiredSegment : retiredSegments) {
+            retiredSegment.force();
+            retiredSegment.close();
+        }
+        retiredSegments.clear();
+        currentSegment.force();
+        currentSegment.close();
+    }
+
+    /**
+     * 현재 세그먼트를 정리 대상으로 넘기고 다음 세그먼트를 만든다. (lock 내부에서 호출)
+     * - 정리 대상 세그먼트는 다음 flush()에서 디스크에 반영한 뒤 닫는다.
+     */
+    private void rollover() {
+        try {
+            JournalSegment nextSegment = JournalSegment.create(directory, currentSegment.getIndex() + 1, options.getSegmentSize());
+            if (flusher == null) {
+                currentSegment.force();
+                currentSegment.close();
+            } else {
+                retiredSegments.add(currentSegment);
+            }
+            currentSegment = nextSegment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("주문 저널 세그먼트를 만들 수 없습니다. directory=" + directory, e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            log.error("주문 저널을 디스크에 반영하지 못했습니다. directory={}", directory, e);
+        }
+    }
+}
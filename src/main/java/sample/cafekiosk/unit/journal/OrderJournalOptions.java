@@ -0,0 +1,40 @@
+package sample.cafekiosk.unit.journal;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 주문 저널 설정
+ * - segmentSize : 세그먼트 파일 크기(byte). 세그먼트에 기록할 공간이 부족하면 새 세그먼트로 넘어간다.
+ * - durabilityInterval : 기록된 주문을 디스크에 강제로 반영(force)하는 주기.
+ *   -> 프로세스가 비정상 종료되어도 OS 페이지 캐시에 기록된 주문은 유지되며, 주기 사이의 주문은 OS(전원)장애 시에만 유실될 수 있다.
+ *   -> Duration.ZERO 이면 주문마다 반영한다. (가장 안전하지만 가장 느리다)
+ */
+@Getter
+public class OrderJournalOptions {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final Duration DEFAULT_DURABILITY_INTERVAL = Duration.ofMillis(200);
+
+    private final int segmentSize;
+    private final Duration durabilityInterval;
+
+    @Builder
+    private OrderJournalOptions(Integer segmentSize, Duration durabilityInterval) {
+        this.segmentSize = segmentSize == null ? DEFAULT_SEGMENT_SIZE : segmentSize;
+        this.durabilityInterval = durabilityInterval == null ? DEFAULT_DURABILITY_INTERVAL : durabilityInterval;
+
+        if (this.segmentSize < OrderJournal.MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException(String.format("세그먼트 크기는 %s byte 이상이어야 합니다.", OrderJournal.MIN_SEGMENT_SIZE));
+        }
+        if (this.durabilityInterval.isNegative()) {
+            throw new IllegalArgumentException("디스크 반영 주기는 0 이상이어야 합니다.");
+        }
+    }
+
+    public static OrderJournalOptions defaults() {
+        return OrderJournalOptions.builder().build();
+    }
+}
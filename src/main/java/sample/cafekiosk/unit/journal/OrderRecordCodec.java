@@ -0,0 +1,191 @@
+package sample.cafekiosk.unit.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import sample.cafekiosk.unit.CartSnapshot;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.order.Order;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * 주문 1건을 저널 레코드로 변환한다.
+ *
+ * 레코드 구조 (big-endian)
+ * - int   : payload 길이 (0이면 기록된 레코드의 끝)
+ * - int   : payload의 CRC32C
+ * - payload
+ *   - long x 2 : 주문 UUID
+ *   - long, int : 주문 일시 (UTC 기준 epoch second, nano)
+ *   - int  : 주문 총 금액 (가격 정책 적용 금액, VERSION 2 세그먼트부터 기록한다.)
+ *   - byte : 음료 종류 수
+ *   - (byte, int) x 음료 종류 수 : 세그먼트 헤더의 음료 번호, 수량
+ *
+ * - VERSION 1 세그먼트의 레코드에는 총 금액이 없으므로 복원 시 음료 정가 합계를 총 금액으로 사용한다.
+ *
+ * 인코딩은 미리 할당한 버퍼를 재사용하므로 단일 스레드(OrderJournal의 lock 내부)에서만 사용한다.
+ */
+@Slf4j
+final class OrderRecordCodec {
+
+    static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    static final int RECORD_VERSION = 2;
+
+    private static final BeverageProduct[] PRODUCTS = BeverageProduct.values();
+    private static final int LINE_SIZE = Byte.BYTES + Integer.BYTES;
+
+    static final int MAX_RECORD_SIZE = RECORD_HEADER_SIZE + maxPayloadSize(RECORD_VERSION, PRODUCTS.length);
+
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(MAX_RECORD_SIZE);
+    private final CRC32C crc = new CRC32C();
+
+    /**
+     * 레코드를 기록할 수 있도록 position = 0, limit = 레코드 길이 상태의 버퍼를 반환한다. (다음 encode 호출 전까지 유효)
+     */
+    ByteBuffer encode(Order order) {
+        recordBuffer.clear();
+        recordBuffer.position(RECORD_HEADER_SIZE);
+
+        recordBuffer.putLong(order.getUuid().getMostSignificantBits());
+        recordBuffer.putLong(order.getUuid().getLeastSignificantBits());
+        recordBuffer.putLong(order.getOrderDateTime().toEpochSecond(ZoneOffset.UTC));
+        recordBuffer.putInt(order.getOrderDateTime().getNano());
+        recordBuffer.putInt(order.getTotalPrice());
+
+        int lineCountPosition = recordBuffer.position();
+        recordBuffer.put((byte) 0);
+        byte lineCount = 0;
+        for (BeverageProduct product : PRODUCTS) {
+            int count = order.getCart().getCount(product);
+            if (count > 0) {
+                recordBuffer.put((byte) product.ordinal());
+                recordBuffer.putInt(count);
+                lineCount++;
+            }
+        }
+        recordBuffer.put(lineCountPosition, lineCount);
+
+        int payloadLength = recordBuffer.position() - RECORD_HEADER_SIZE;
+        crc.reset();
+        crc.update(recordBuffer.array(), RECORD_HEADER_SIZE, payloadLength);
+        recordBuffer.putInt(0, payloadLength);
+        recordBuffer.putInt(Integer.BYTES, (int) crc.getValue());
+
+        recordBuffer.flip();
+        return recordBuffer;
+    }
+
+    /**
+     * buffer의 현재 위치부터 레코드를 차례로 읽어 consumer에 전달한다.
+     * - 기록된 레코드의 끝(길이 0) 또는 손상된 레코드(길이 / CRC 불일치)를 만나면 멈춘다.
+     *   -> 최대 payload 길이는 현재 BeverageProduct가 아닌 세그먼트 헤더의 음료 수로 계산한다. (이전에 판매하던 음료가 더 많았던 세그먼트)
+     * - 판매하지 않는 음료가 기록된 레코드는 손상된 레코드가 아니므로 consumer에 전달하지 않고 건너뛴다. (ScanResult.getSkippedCount())
+     * - 반환 후 buffer의 position은 마지막으로 읽은 정상 레코드의 끝이다.
+     *
+     * @param version  세그먼트 헤더에 기록된 버전
+     * @param products 세그먼트 헤더에 기록된 음료 번호별 음료
+     */
+    static ScanResult scan(ByteBuffer buffer, int version, BeverageProduct[] products, Consumer<Order> consumer) {
+        CRC32C crc = new CRC32C();
+        int maxPayloadSize = maxPayloadSize(version, products.length);
+        long recordCount = 0;
+        long skippedCount = 0;
+
+        while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+            int recordStart = buffer.position();
+            int payloadLength = buffer.getInt(recordStart);
+            if (payloadLength == 0) {
+                return new ScanResult(recordCount, skippedCount, false);
+            }
+
+            int payloadStart = recordStart + RECORD_HEADER_SIZE;
+            if (payloadLength < 0 || payloadLength > maxPayloadSize || payloadLength > buffer.limit() - payloadStart) {
+                return new ScanResult(recordCount, skippedCount, true);
+            }
+
+            ByteBuffer payload = buffer.duplicate();
+            payload.position(payloadStart).limit(payloadStart + payloadLength);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(recordStart + Integer.BYTES)) {
+                return new ScanResult(recordCount, skippedCount, true);
+            }
+
+            buffer.position(payloadStart + payloadLength);
+            Order order = decode(payload, version, products);
+            if (order == null) {
+                skippedCount++;
+                continue;
+            }
+            consumer.accept(order);
+            recordCount++;
+        }
+        return new ScanResult(recordCount, skippedCount, false);
+    }
+
+    private static int maxPayloadSize(int version, int productCount) {
+        int totalPriceSize = hasTotalPrice(version) ? Integer.BYTES : 0;
+        return Long.BYTES * 3 + Integer.BYTES + totalPriceSize + Byte.BYTES + LINE_SIZE * productCount;
+    }
+
+    private static boolean hasTotalPrice(int version) {
+        return version >= 2;
+    }
+
+    /**
+     * 판매하지 않는 음료가 기록된 주문이면 null을 반환한다.
+     */
+    private static Order decode(ByteBuffer payload, int version, BeverageProduct[] products) {
+        UUID uuid = new UUID(payload.getLong(), payload.getLong());
+        LocalDateTime orderDateTime = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+        Integer totalPrice = hasTotalPrice(version) ? payload.getInt() : null;
+
+        Map<BeverageProduct, Integer> beverageCounts = new EnumMap<>(BeverageProduct.class);
+        int lineCount = payload.get();
+        for (int line = 0; line < lineCount; line++) {
+            int productIndex = payload.get();
+            int count = payload.getInt();
+            if (productIndex < 0 || productIndex >= products.length || products[productIndex] == null) {
+                log.warn("판매하지 않는 음료가 기록된 주문은 복원하지 않습니다. uuid={}, productIndex={}", uuid, productIndex);
+                return null;
+            }
+            beverageCounts.put(products[productIndex], count);
+        }
+
+        CartSnapshot cart = CartSnapshot.of(beverageCounts);
+        return totalPrice == null
+                ? new Order(uuid, orderDateTime, cart)
+                : new Order(uuid, orderDateTime, cart, totalPrice);
+    }
+
+    static class ScanResult {
+
+        private final long recordCount;
+        private final long skippedCount;
+        private final boolean corrupted;
+
+        private ScanResult(long recordCount, long skippedCount, boolean corrupted) {
+            this.recordCount = recordCount;
+            this.skippedCount = skippedCount;
+            this.corrupted = corrupted;
+        }
+
+        long getRecordCount() {
+            return recordCount;
+        }
+
+        long getSkippedCount() {
+            return skippedCount;
+        }
+
+        boolean isCorrupted() {
+            return corrupted;
+        }
+    }
+}
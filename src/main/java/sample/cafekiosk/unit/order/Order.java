@@ -1,19 +1,39 @@
 package sample.cafekiosk.unit.order;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
+import sample.cafekiosk.unit.CartSnapshot;
 import sample.cafekiosk.unit.drink.Beverage;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * 주문은 주문 시점의 주문 목록을 불변 스냅샷(CartSnapshot)으로 보관한다.
+ * -> 주문 이후 키오스크의 주문 목록이 변경되어도 주문 내용은 변하지 않는다.
+ * - 총 금액은 주문 시점에 가격 정책(PricingEngine)을 적용한 금액이다.
+ *   (가격 정책 없이 만든 주문은 스냅샷의 정가 합계를 사용한다.)
+ */
 @Getter
-@RequiredArgsConstructor
 public class Order {
 
     private final UUID uuid;
     private final LocalDateTime orderDateTime;
-    private final Map<String, Beverage> beverages;
+    private final CartSnapshot cart;
+    private final int totalPrice;
+
+    public Order(UUID uuid, LocalDateTime orderDateTime, CartSnapshot cart) {
+        this(uuid, orderDateTime, cart, cart.getTotalPrice());
+    }
+
+    public Order(UUID uuid, LocalDateTime orderDateTime, CartSnapshot cart, int totalPrice) {
+        this.uuid = uuid;
+        this.orderDateTime = orderDateTime;
+        this.cart = cart;
+        this.totalPrice = totalPrice;
+    }
+
+    public Map<String, Beverage> getBeverages() {
+        return cart.toBeverages();
+    }
 }
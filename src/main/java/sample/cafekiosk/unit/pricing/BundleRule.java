@@ -0,0 +1,32 @@
+package sample.cafekiosk.unit.pricing;
+
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 음료 조합(음료별 필요 수량)을 함께 주문하면 묶음마다 할인 금액만큼 할인한다.
+ */
+class BundleRule extends PricingRule {
+
+    private final Map<BeverageProduct, Integer> requiredCounts;
+    private final int discountAmount;
+
+    BundleRule(Map<BeverageProduct, Integer> requiredCounts, int discountAmount) {
+        if (requiredCounts.isEmpty() || requiredCounts.values().stream().anyMatch(count -> count < 1)) {
+            throw new IllegalArgumentException("묶음 할인은 1잔 이상의 음료로 구성되어야 합니다.");
+        }
+        if (discountAmount < 1) {
+            throw new IllegalArgumentException("할인 금액은 1원 이상이어야 합니다.");
+        }
+
+        this.requiredCounts = new EnumMap<>(requiredCounts);
+        this.discountAmount = discountAmount;
+    }
+
+    @Override
+    void compileInto(PricingEngine.Compiler compiler) {
+        compiler.addBundle(requiredCounts, discountAmount);
+    }
+}
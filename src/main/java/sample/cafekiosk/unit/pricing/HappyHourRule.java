@@ -0,0 +1,46 @@
+package sample.cafekiosk.unit.pricing;
+
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+import java.time.LocalTime;
+
+/**
+ * 시작 시간 이상 ~ 종료 시간 미만(분 단위)에 음료 단가를 할인한다.
+ * - 종료 시간이 시작 시간보다 이르면 자정을 넘기는 시간대로 본다. (ex. 22:00 ~ 02:00)
+ */
+class HappyHourRule extends PricingRule {
+
+    private final BeverageProduct beverageProduct;
+    private final int startMinute;
+    private final int endMinute;
+    private final int discountPercent;
+
+    HappyHourRule(BeverageProduct beverageProduct, LocalTime startTime, LocalTime endTime, int discountPercent) {
+        if (discountPercent < 1 || discountPercent > 100) {
+            throw new IllegalArgumentException("할인율은 1 이상 100 이하여야 합니다.");
+        }
+        if (startTime.equals(endTime)) {
+            throw new IllegalArgumentException("할인 시작 시간과 종료 시간은 달라야 합니다.");
+        }
+
+        this.beverageProduct = beverageProduct;
+        this.startMinute = toMinuteOfDay(startTime);
+        this.endMinute = toMinuteOfDay(endTime);
+        this.discountPercent = discountPercent;
+    }
+
+    @Override
+    void compileInto(PricingEngine.Compiler compiler) {
+        if (startMinute < endMinute) {
+            compiler.discountUnitPrice(beverageProduct, startMinute, endMinute, discountPercent);
+            return;
+        }
+
+        compiler.discountUnitPrice(beverageProduct, startMinute, PricingEngine.MINUTES_OF_DAY, discountPercent);
+        compiler.discountUnitPrice(beverageProduct, 0, endMinute, discountPercent);
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
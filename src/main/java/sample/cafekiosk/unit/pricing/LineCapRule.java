@@ -0,0 +1,26 @@
+package sample.cafekiosk.unit.pricing;
+
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+/**
+ * 한 주문에서 음료별 금액(단가 x 수량)이 상한 금액을 넘지 않도록 한다.
+ */
+class LineCapRule extends PricingRule {
+
+    private final BeverageProduct beverageProduct;
+    private final int maxAmount;
+
+    LineCapRule(BeverageProduct beverageProduct, int maxAmount) {
+        if (maxAmount < 0) {
+            throw new IllegalArgumentException("상한 금액은 0원 이상이어야 합니다.");
+        }
+
+        this.beverageProduct = beverageProduct;
+        this.maxAmount = maxAmount;
+    }
+
+    @Override
+    void compileInto(PricingEngine.Compiler compiler) {
+        compiler.capLineAmount(beverageProduct, maxAmount);
+    }
+}
@@ -0,0 +1,178 @@
+package sample.cafekiosk.unit.pricing;
+
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 가격 정책 규칙(PricingRule)을 한 번 컴파일하여 만든 조회 테이블로 주문 목록의 총 금액을 계산한다.
+ * - 단가 테이블 : [분(0 ~ 1439) x 음료] 별 할인이 적용된 단가. 해피아워 규칙이 겹치면 할인율이 가장 큰 규칙만 적용한다.
+ * - 음료별 상한 테이블 : 음료별 최대 금액. 상한 규칙이 겹치면 가장 낮은 상한을 적용한다.
+ * - 묶음 테이블 : [묶음 x 음료] 별 필요 수량 + 묶음별 할인 금액. 필요 수량이 같은 묶음은 할인 금액이 가장 큰 묶음만 남긴다.
+ *
+ * 계산 순서
+ * 1. 주문 시각(분)의 단가 x 수량으로 음료별 금액을 구하고, 음료별 상한을 적용한다.
+ * 2. 할인 금액이 큰 묶음부터 차례로, 남은 수량으로 만들 수 있는 만큼 묶음 할인을 적용한다. (최적해가 아닌 greedy 방식)
+ *    -> 상한이 적용된 음료는 이미 할인된 금액이므로 묶음에 포함하지 않는다. (할인 중복 방지)
+ *    -> 묶음 1개의 할인 금액은 그 묶음에 포함된 음료의 금액(주문 시각의 단가 x 필요 수량)을 넘지 않는다.
+ * 3. 총 금액은 0원 미만이 되지 않으며, int 범위를 넘으면 IllegalArgumentException이 발생한다.
+ *
+ * 계산 중에는 객체를 생성하지 않는다. 묶음 계산에 필요한 작업 공간(int[])은 호출하는 쪽(BeverageCart)이 제공한다.
+ * 컴파일된 엔진은 불변이므로 여러 키오스크 / 스레드에서 함께 사용할 수 있다.
+ */
+public class PricingEngine {
+
+    static final int MINUTES_OF_DAY = 24 * 60;
+
+    private static final BeverageProduct[] PRODUCTS = BeverageProduct.values();
+    private static final PricingEngine LIST_PRICE = compile(List.of());
+
+    private final int[] unitPrices;
+    private final long[] lineCaps;
+    private final int[] bundleRequiredCounts;
+    private final int[] bundleDiscountAmounts;
+    private final int ruleCount;
+
+    private PricingEngine(int[] unitPrices, long[] lineCaps, int[] bundleRequiredCounts, int[] bundleDiscountAmounts, int ruleCount) {
+        this.unitPrices = unitPrices;
+        this.lineCaps = lineCaps;
+        this.bundleRequiredCounts = bundleRequiredCounts;
+        this.bundleDiscountAmounts = bundleDiscountAmounts;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * 규칙 없이 정가(단가 x 수량)로 계산하는 엔진
+     */
+    public static PricingEngine listPrice() {
+        return LIST_PRICE;
+    }
+
+    public static PricingEngine compile(List<PricingRule> rules) {
+        Compiler compiler = new Compiler();
+        rules.forEach(rule -> rule.compileInto(compiler));
+
+        return compiler.build(rules.size());
+    }
+
+    /**
+     * @param counts       BeverageProduct.ordinal() 별 수량
+     * @param minuteOfDay  주문 시각 (0시 0분부터 지난 분, 0 ~ 1439)
+     * @param workspace    묶음 계산용 작업 공간 (길이는 BeverageProduct 수 이상, 내용은 덮어쓴다)
+     */
+    public int calculateTotalPrice(int[] counts, int minuteOfDay, int[] workspace) {
+        int productCount = PRODUCTS.length;
+        int unitPriceOffset = minuteOfDay * productCount;
+
+        long totalPrice = 0;
+        for (int product = 0; product < productCount; product++) {
+            int count = counts[product];
+            long lineAmount = (long) unitPrices[unitPriceOffset + product] * count;
+            if (lineAmount > lineCaps[product]) {
+                totalPrice += lineCaps[product];
+                workspace[product] = 0;
+            } else {
+                totalPrice += lineAmount;
+                workspace[product] = count;
+            }
+        }
+
+        for (int bundle = 0; bundle < bundleDiscountAmounts.length; bundle++) {
+            int requiredOffset = bundle * productCount;
+
+            int bundleCount = Integer.MAX_VALUE;
+            long bundleAmount = 0;
+            for (int product = 0; product < productCount && bundleCount > 0; product++) {
+                int requiredCount = bundleRequiredCounts[requiredOffset + product];
+                if (requiredCount > 0) {
+                    bundleCount = Math.min(bundleCount, workspace[product] / requiredCount);
+                    bundleAmount += (long) unitPrices[unitPriceOffset + product] * requiredCount;
+                }
+            }
+            if (bundleCount == 0) {
+                continue;
+            }
+
+            for (int product = 0; product < productCount; product++) {
+                workspace[product] -= bundleCount * bundleRequiredCounts[requiredOffset + product];
+            }
+            totalPrice -= bundleCount * Math.min(bundleDiscountAmounts[bundle], bundleAmount);
+        }
+
+        if (totalPrice > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("주문 금액이 허용 범위를 초과했습니다.");
+        }
+        return (int) Math.max(totalPrice, 0);
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public int getBundleCount() {
+        return bundleDiscountAmounts.length;
+    }
+
+    /**
+     * 규칙을 조회 테이블로 옮기는 역할이며, 각 PricingRule이 자신의 내용을 기록한다.
+     */
+    static class Compiler {
+
+        private final int productCount = PRODUCTS.length;
+        private final int[] discountPercents = new int[MINUTES_OF_DAY * productCount];
+        private final long[] lineCaps = new long[productCount];
+        private final Map<List<Integer>, Integer> bundles = new LinkedHashMap<>();
+
+        private Compiler() {
+            Arrays.fill(lineCaps, Long.MAX_VALUE);
+        }
+
+        void discountUnitPrice(BeverageProduct beverageProduct, int startMinute, int endMinute, int discountPercent) {
+            for (int minute = startMinute; minute < endMinute; minute++) {
+                int index = minute * productCount + beverageProduct.ordinal();
+                discountPercents[index] = Math.max(discountPercents[index], discountPercent);
+            }
+        }
+
+        void capLineAmount(BeverageProduct beverageProduct, int maxAmount) {
+            int index = beverageProduct.ordinal();
+            lineCaps[index] = Math.min(lineCaps[index], maxAmount);
+        }
+
+        void addBundle(Map<BeverageProduct, Integer> requiredCounts, int discountAmount) {
+            Integer[] counts = new Integer[productCount];
+            Arrays.fill(counts, 0);
+            requiredCounts.forEach((product, count) -> counts[product.ordinal()] = count);
+
+            bundles.merge(List.of(counts), discountAmount, Math::max);
+        }
+
+        private PricingEngine build(int ruleCount) {
+            int[] unitPrices = new int[discountPercents.length];
+            for (int index = 0; index < unitPrices.length; index++) {
+                int beveragePrice = PRODUCTS[index % productCount].getBeveragePrice();
+                unitPrices[index] = beveragePrice * (100 - discountPercents[index]) / 100;
+            }
+
+            List<Map.Entry<List<Integer>, Integer>> sortedBundles = bundles.entrySet().stream()
+                    .sorted(Map.Entry.<List<Integer>, Integer>comparingByValue().reversed())
+                    .collect(Collectors.toList());
+
+            int[] bundleRequiredCounts = new int[sortedBundles.size() * productCount];
+            int[] bundleDiscountAmounts = new int[sortedBundles.size()];
+            for (int bundle = 0; bundle < sortedBundles.size(); bundle++) {
+                List<Integer> requiredCounts = sortedBundles.get(bundle).getKey();
+                for (int product = 0; product < productCount; product++) {
+                    bundleRequiredCounts[bundle * productCount + product] = requiredCounts.get(product);
+                }
+                bundleDiscountAmounts[bundle] = sortedBundles.get(bundle).getValue();
+            }
+
+            return new PricingEngine(unitPrices, lineCaps.clone(), bundleRequiredCounts, bundleDiscountAmounts, ruleCount);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package sample.cafekiosk.unit.pricing;
+
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+import java.time.LocalTime;
+import java.util.Map;
+
+/**
+ * 가격 정책(프로모션) 규칙
+ * - 해피아워 할인 : 지정된 시간대에 음료 단가를 일정 비율만큼 할인한다.
+ * - 묶음 할인 : 지정된 음료 조합(ex. 아메리카노 1잔 + 라떼 1잔)을 함께 주문하면 묶음마다 일정 금액을 할인한다.
+ * - 음료별 상한 : 한 주문에서 음료별 금액이 상한 금액을 넘지 않도록 한다.
+ *
+ * 규칙은 직접 계산에 사용하지 않고, PricingEngine.compile()로 조회 테이블을 만든 뒤 사용한다.
+ */
+public abstract class PricingRule {
+
+    PricingRule() {
+    }
+
+    public static PricingRule happyHour(BeverageProduct beverageProduct, LocalTime startTime, LocalTime endTime, int discountPercent) {
+        return new HappyHourRule(beverageProduct, startTime, endTime, discountPercent);
+    }
+
+    public static PricingRule bundle(Map<BeverageProduct, Integer> requiredCounts, int discountAmount) {
+        return new BundleRule(requiredCounts, discountAmount);
+    }
+
+    public static PricingRule lineCap(BeverageProduct beverageProduct, int maxAmount) {
+        return new LineCapRule(beverageProduct, maxAmount);
+    }
+
+    abstract void compileInto(PricingEngine.Compiler compiler);
+}
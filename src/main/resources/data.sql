@@ -1,4 +1,4 @@
-insert into product(PRODUCT_NO, PRODUCT_TYPE, PRODUCT_STATUS, PRODUCT_NAME, PRODUCT_PRICE)
-values  ('001', 'HANDMADE', 'SELLING', '아메리카노', 4000)
-        , ('002', 'HANDMADE', 'HOLD', '카페라떼', 5000)
-        , ('003', 'HANDMADE', 'SOLD_OUT', '크루아상', 3500);
\ No newline at end of file
+insert into product(PRODUCT_ID, PRODUCT_NO, PRODUCT_TYPE, PRODUCT_STATUS, PRODUCT_NAME, PRODUCT_PRICE)
+values  (next value for PRODUCT_SEQ, '001', 'HANDMADE', 'SELLING', '아메리카노', 4000)
+        , (next value for PRODUCT_SEQ, '002', 'HANDMADE', 'HOLD', '카페라떼', 5000)
+        , (next value for PRODUCT_SEQ, '003', 'HANDMADE', 'SOLD_OUT', '크루아상', 3500);
\ No newline at end of file
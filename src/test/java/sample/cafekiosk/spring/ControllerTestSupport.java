@@ -6,12 +6,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
 import sample.cafekiosk.spring.api.controller.order.OrderController;
+import sample.cafekiosk.spring.api.controller.order.OrderIntakeController;
 import sample.cafekiosk.spring.api.controller.product.ProductController;
+import sample.cafekiosk.spring.api.service.order.OrderIntakeService;
 import sample.cafekiosk.spring.api.service.order.OrderService;
 import sample.cafekiosk.spring.api.service.product.ProductService;
 
 @WebMvcTest(controllers = {
         OrderController.class
+        , OrderIntakeController.class
         , ProductController.class
 })
 public abstract class ControllerTestSupport {
@@ -25,6 +28,9 @@ public abstract class ControllerTestSupport {
     @MockBean
     protected OrderService orderService;
 
+    @MockBean
+    protected OrderIntakeService orderIntakeService;
+
     @MockBean
     protected ProductService productService;
 }
@@ -2,15 +2,22 @@ package sample.cafekiosk.spring.api.controller.order;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.request.OrderLineRequest;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+
 //@WebMvcTest(controllers = ProductController.class)
 class OrderControllerTest extends ControllerTestSupport {
 
@@ -67,4 +74,116 @@ class OrderControllerTest extends ControllerTestSupport {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("상품 번호 리스트는 필수입니다."))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("신규 주문을 다건으로 등록할 때 주문 리스트는 1개 이상이어야한다.")
+    void createOrdersWithEmptyOrders() throws Exception {
+        // Given
+        OrderBulkCreateRequest request = OrderBulkCreateRequest.builder()
+                .orders(List.of())
+                .build();
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/v1/orders/new/bulk")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("400"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("주문 리스트는 필수입니다."))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("신규 주문을 상품번호와 수량으로 등록할 때 주문 수량은 양수여야 한다.")
+    void createOrderWithZeroQuantity() throws Exception {
+        // Given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .lines(List.of(OrderLineRequest.builder().productNo("001").quantity(0).build()))
+                .build();
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("400"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("주문 수량은 양수여야합니다."))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("신규 주문을 상품번호와 수량으로 등록할 때 주문 수량은 1000개 이하여야 한다.")
+    void createOrderWithExceededQuantity() throws Exception {
+        // Given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .lines(List.of(OrderLineRequest.builder().productNo("001").quantity(1001).build()))
+                .build();
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("400"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("주문 수량은 1000개 이하여야 합니다."))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("신규 주문 등록이 주문 수량 등 잘못된 요청으로 거절되면 400으로 응답한다.")
+    void createOrderRejectedByService() throws Exception {
+        // Given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .lines(List.of(
+                        OrderLineRequest.builder().productNo("001").quantity(600).build()
+                        , OrderLineRequest.builder().productNo("001").quantity(600).build()
+                ))
+                .build();
+
+        Mockito.when(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .thenThrow(new IllegalArgumentException("주문 수량은 1000개 이하여야 합니다."));
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/v1/orders/new")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("400"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("주문 수량은 1000개 이하여야 합니다."))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
+    }
+
+    @Test
+    @DisplayName("주문 목록을 조회한다.")
+    void getOrders() throws Exception {
+        // Given
+        Mockito.when(orderService.getOrders(0, 20)).thenReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/v1/orders")
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("200"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("OK"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("OK"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").isArray());
+    }
+}
@@ -0,0 +1,94 @@
+package sample.cafekiosk.spring.api.controller.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.service.order.OrderIntakeRejectedException;
+import sample.cafekiosk.spring.api.service.order.OrderTicketStatus;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderTicketResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+
+class OrderIntakeControllerTest extends ControllerTestSupport {
+
+    @Test
+    @DisplayName("신규 주문을 비동기로 접수하면 202와 접수번호를 반환한다.")
+    void acceptOrder() throws Exception {
+        // Given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNos(List.of("001"))
+                .build();
+
+        Mockito.when(orderIntakeService.accept(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .thenReturn(OrderTicketResponse.builder()
+                        .ticketId("ticket-1")
+                        .status(OrderTicketStatus.QUEUED)
+                        .build());
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/v1/orders/new/async")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.header().string("Location", "/api/v1/orders/tickets/ticket-1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("202"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("ACCEPTED"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.ticketId").value("ticket-1"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data.status").value("QUEUED"));
+    }
+
+    @Test
+    @DisplayName("주문 접수 대기열이 가득 차면 503을 반환한다.")
+    void acceptOrderWhenQueueIsFull() throws Exception {
+        // Given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNos(List.of("001"))
+                .build();
+
+        Mockito.when(orderIntakeService.accept(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .thenThrow(new OrderIntakeRejectedException(1000));
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/v1/orders/new/async")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("503"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("주문이 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    @Test
+    @DisplayName("신규 주문을 비동기로 접수할 때 상품번호는 1개 이상이어야한다.")
+    void acceptOrderWithEmptyProductNos() throws Exception {
+        // Given
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNos(List.of())
+                .build();
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/v1/orders/new/async")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("상품 번호 리스트는 필수입니다."));
+    }
+}
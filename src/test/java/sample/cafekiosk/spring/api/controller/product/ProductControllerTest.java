@@ -7,9 +7,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.http.HttpHeaders;
 import sample.cafekiosk.spring.ControllerTestSupport;
+import sample.cafekiosk.spring.api.ApiResponse;
+import sample.cafekiosk.spring.api.controller.product.request.ProductBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.product.request.ProductCreateRequest;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
+import sample.cafekiosk.spring.api.service.product.response.SellingProductsSnapshot;
 
 import java.util.List;
 
@@ -155,12 +159,35 @@ class ProductControllerTest extends ControllerTestSupport {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
     }
 
+    @Test
+    @DisplayName("신규 상품을 다건 등록할 때 상품 리스트는 1개 이상이어야 한다.")
+    void createProductsWithEmptyProducts() throws Exception {
+        // Given
+        ProductBulkCreateRequest request = ProductBulkCreateRequest.builder()
+                .products(List.of())
+                .build();
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.post("/api/v1/products/new/bulk")
+                                .content(objectMapper.writeValueAsString(request))
+                                .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("400"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("상품 리스트는 필수입니다."))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.data").isEmpty());
+    }
+
     @Test
     @DisplayName("판매 상품을 조회한다.")
     void getSellingProducts() throws Exception {
         // Given
         List<ProductResponse> result = List.of();
-        Mockito.when(productService.getSellingProducts()).thenReturn(List.of());
+        SellingProductsSnapshot snapshot = SellingProductsSnapshot.of(0, objectMapper.writeValueAsBytes(ApiResponse.ok(result)));
+        Mockito.when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
 
         // When & Then
         mockMvc.perform(
@@ -168,9 +195,28 @@ class ProductControllerTest extends ControllerTestSupport {
                 )
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, snapshot.getETag()))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.code").value("200"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("OK"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message").value("OK"))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.data").isArray());
     }
+
+    @Test
+    @DisplayName("판매 상품을 조회할 때 ETag가 변경되지 않았다면 본문 없이 304를 반환한다.")
+    void getSellingProductsNotModified() throws Exception {
+        // Given
+        SellingProductsSnapshot snapshot = SellingProductsSnapshot.of(0, objectMapper.writeValueAsBytes(ApiResponse.ok(List.of())));
+        Mockito.when(productService.getSellingProductsSnapshot()).thenReturn(snapshot);
+
+        // When & Then
+        mockMvc.perform(
+                        MockMvcRequestBuilders.get("/api/v1/products/selling")
+                                .header(HttpHeaders.IF_NONE_MATCH, snapshot.getETag())
+                )
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, snapshot.getETag()))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+package sample.cafekiosk.spring.api.service.mail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.client.MailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailOutbox;
+import sample.cafekiosk.spring.domain.history.mail.MailOutboxStatus;
+import sample.cafekiosk.spring.repository.MailOutboxRepository;
+import sample.cafekiosk.spring.repository.MailSendHistoryRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+class MailOutboxDispatcherTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Autowired
+    private MailService mailService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailSendHistoryRepository mailSendHistoryRepository;
+
+    @MockBean
+    private MailSendClient mailSendClient;
+
+    @AfterEach
+    void tearDown() {
+        mailOutboxRepository.deleteAllInBatch();
+        mailSendHistoryRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Outbox에 적재된 메일을 전송하고 전송 이력을 한 번에 저장한다.")
+    void dispatch() {
+        // Given
+        List<Long> mailIds = List.of(
+                mailService.enqueueMail("no-reply@cafekiosk.com", "test1@test.com", "제목1", "내용1")
+                , mailService.enqueueMail("no-reply@cafekiosk.com", "test2@test.com", "제목2", "내용2")
+                , mailService.enqueueMail("no-reply@cafekiosk.com", "test3@test.com", "제목3", "내용3")
+        );
+
+        Mockito.when(mailSendClient.sendEmail(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(true);
+
+        // When
+        int dispatchedCount = mailOutboxDispatcher.dispatch();
+
+        // Then
+        assertThat(dispatchedCount).isEqualTo(3);
+        assertThat(mailOutboxRepository.findAllById(mailIds))
+                .extracting("status", "attemptCount")
+                .containsOnly(tuple(MailOutboxStatus.SENT, 1));
+        assertThat(mailSendHistoryRepository.findAll())
+                .extracting("toEmail")
+                .containsExactlyInAnyOrder("test1@test.com", "test2@test.com", "test3@test.com");
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 메일은 백오프 이후에 다시 전송 대상이 되며, 전송 이력은 저장하지 않는다.")
+    void dispatchWithSendFailure() {
+        // Given
+        Long mailId = mailService.enqueueMail("no-reply@cafekiosk.com", "test@test.com", "제목", "내용");
+
+        Mockito.when(mailSendClient.sendEmail(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new IllegalArgumentException("메일 전송"));
+
+        // When
+        int dispatchedCount = mailOutboxDispatcher.dispatch();
+        int redispatchedCount = mailOutboxDispatcher.dispatch();
+
+        // Then
+        assertThat(dispatchedCount).isEqualTo(1);
+        assertThat(redispatchedCount).isZero();
+
+        MailOutbox mailOutbox = mailOutboxRepository.findById(mailId).orElseThrow();
+        assertThat(mailOutbox)
+                .extracting("status", "attemptCount", "lastErrorMessage")
+                .contains(MailOutboxStatus.PENDING, 1, "메일 전송");
+        assertThat(mailOutbox.getNextAttemptDateTime()).isAfter(LocalDateTime.now());
+        assertThat(mailSendHistoryRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 실패 사유가 컬럼 길이보다 길면 컬럼 길이까지만 저장한다.")
+    void dispatchWithLongErrorMessage() {
+        // Given
+        Long mailId = mailService.enqueueMail("no-reply@cafekiosk.com", "test@test.com", "제목", "내용");
+        String errorMessage = "가".repeat(1000);
+
+        Mockito.when(mailSendClient.sendEmail(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new IllegalStateException(errorMessage));
+
+        // When
+        int dispatchedCount = mailOutboxDispatcher.dispatch();
+
+        // Then
+        assertThat(dispatchedCount).isEqualTo(1);
+
+        MailOutbox mailOutbox = mailOutboxRepository.findById(mailId).orElseThrow();
+        assertThat(mailOutbox.getStatus()).isEqualTo(MailOutboxStatus.PENDING);
+        assertThat(mailOutbox.getLastErrorMessage()).isEqualTo(errorMessage.substring(0, MailOutbox.MAX_ERROR_MESSAGE_LENGTH));
+    }
+
+    @Test
+    @DisplayName("선점된 메일은 다른 워커가 다시 선점할 수 없다.")
+    void claimPending() {
+        // Given
+        mailService.enqueueMail("no-reply@cafekiosk.com", "test@test.com", "제목", "내용");
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        List<Long> claimedIds = mailOutboxRepository.claimPending(now, now.plusMinutes(1), 10);
+        List<Long> reclaimedIds = mailOutboxRepository.claimPending(now, now.plusMinutes(1), 10);
+
+        // Then
+        assertThat(claimedIds).hasSize(1);
+        assertThat(reclaimedIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 도중 선점이 만료되어 다른 워커가 다시 선점한 메일은 늦게 끝난 전송 결과와 전송 이력을 반영하지 않는다.")
+    void dispatchWithExpiredLease() {
+        // Given
+        Long mailId = mailService.enqueueMail("no-reply@cafekiosk.com", "test@test.com", "제목", "내용");
+
+        Mockito.when(mailSendClient.sendEmail(anyString(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> {
+                    // 전송이 선점 만료 시각을 넘겨 다른 워커가 다시 선점한 상황
+                    LocalDateTime leaseExpiredDateTime = LocalDateTime.now().plusMinutes(2);
+                    mailOutboxRepository.claimPending(leaseExpiredDateTime, leaseExpiredDateTime.plusMinutes(1), 10);
+                    return true;
+                });
+
+        // When
+        int dispatchedCount = mailOutboxDispatcher.dispatch();
+
+        // Then
+        assertThat(dispatchedCount).isEqualTo(1);
+        assertThat(mailOutboxRepository.findById(mailId).orElseThrow())
+                .extracting("status", "attemptCount", "sentDateTime")
+                .contains(MailOutboxStatus.PROCESSING, 2, null);
+        assertThat(mailSendHistoryRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전송 결과는 선점 시점의 시도 횟수가 그대로인 경우에만 반영된다.")
+    void completeClaimed() {
+        // Given
+        Long mailId = mailService.enqueueMail("no-reply@cafekiosk.com", "test@test.com", "제목", "내용");
+        LocalDateTime now = LocalDateTime.now();
+
+        mailOutboxRepository.claimPending(now, now, 10);
+        MailOutbox expiredClaim = mailOutboxRepository.findById(mailId).orElseThrow();
+
+        mailOutboxRepository.claimPending(now.plusSeconds(1), now.plusMinutes(1), 10);
+        MailOutbox currentClaim = mailOutboxRepository.findById(mailId).orElseThrow();
+
+        expiredClaim.markSent(now);
+        currentClaim.markFailed("메일 전송", 5, now.plusMinutes(1));
+
+        // When
+        boolean expiredCompleted = mailOutboxRepository.completeClaimed(expiredClaim);
+        boolean currentCompleted = mailOutboxRepository.completeClaimed(currentClaim);
+
+        // Then
+        assertThat(expiredCompleted).isFalse();
+        assertThat(currentCompleted).isTrue();
+        assertThat(mailOutboxRepository.findById(mailId).orElseThrow())
+                .extracting("status", "attemptCount", "lastErrorMessage")
+                .contains(MailOutboxStatus.PENDING, 2, "메일 전송");
+    }
+}
@@ -0,0 +1,180 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderIntakeStatsResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.order.response.OrderTicketResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+
+class OrderIntakeServiceTest {
+
+    private final LocalDateTime registeredDateTime = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private final OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+            .productNos(List.of("001"))
+            .build();
+
+    private OrderService orderService;
+    private MeterRegistry meterRegistry;
+    private OrderIntakeService orderIntakeService;
+
+    @BeforeEach
+    void setUp() {
+        // 워커 1개, 대기열 1개
+        orderService = Mockito.mock(OrderService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        orderIntakeService = new OrderIntakeService(orderService, meterRegistry, 1, 1, 600);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        orderIntakeService.shutdown();
+    }
+
+    @Test
+    @DisplayName("접수된 주문은 워커에서 처리되고, 접수번호로 처리 결과를 조회할 수 있다.")
+    void accept() throws Exception {
+        // Given
+        OrderResponse order = OrderResponse.builder()
+                .id(1L)
+                .totalPrice(4000)
+                .registeredDateTime(registeredDateTime)
+                .products(List.of())
+                .build();
+        Mockito.when(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .thenReturn(order);
+
+        // When
+        OrderTicketResponse accepted = orderIntakeService.accept(request, registeredDateTime);
+        OrderTicketResponse completed = orderIntakeService.subscribe(accepted.getTicketId(), Duration.ofSeconds(5))
+                .get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(accepted.getTicketId()).isNotBlank();
+        assertThat(completed.getStatus()).isEqualByComparingTo(OrderTicketStatus.COMPLETED);
+        assertThat(completed.getOrder().getId()).isEqualTo(1L);
+        assertThat(orderIntakeService.getTicket(accepted.getTicketId()).getStatus())
+                .isEqualByComparingTo(OrderTicketStatus.COMPLETED);
+        assertThat(meterRegistry.get("cafekiosk.order.intake.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 처리 중 검증에 실패하면 접수번호는 거절 상태가 되고 사유를 남긴다.")
+    void acceptWithInvalidOrder() throws Exception {
+        // Given
+        Mockito.when(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .thenThrow(new IllegalArgumentException("재고가 부족한 상품이 있습니다."));
+
+        // When
+        OrderTicketResponse accepted = orderIntakeService.accept(request, registeredDateTime);
+        OrderTicketResponse rejected = orderIntakeService.subscribe(accepted.getTicketId(), Duration.ofSeconds(5))
+                .get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(rejected.getStatus()).isEqualByComparingTo(OrderTicketStatus.REJECTED);
+        assertThat(rejected.getMessage()).isEqualTo("재고가 부족한 상품이 있습니다.");
+        assertThat(orderIntakeService.getStats().getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 주문을 접수하지 않고 바로 거절한다.")
+    void acceptWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return null;
+                });
+
+        orderIntakeService.accept(request, registeredDateTime); // 워커에서 처리 중
+        started.await(5, TimeUnit.SECONDS);
+        orderIntakeService.accept(request, registeredDateTime); // 대기열
+
+        // When & Then
+        assertThatThrownBy(() -> orderIntakeService.accept(request, registeredDateTime))
+                .isInstanceOf(OrderIntakeRejectedException.class);
+
+        OrderIntakeStatsResponse stats = orderIntakeService.getStats();
+        assertThat(stats.getQueueDepth()).isEqualTo(1);
+        assertThat(stats.getAcceptedCount()).isEqualTo(2);
+        assertThat(stats.getRejectedCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cafekiosk.order.intake.queue.depth").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("cafekiosk.order.intake.tickets").tag("result", "accepted").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cafekiosk.order.intake.tickets").tag("result", "rejected").functionCounter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("처리 중인 접수번호는 보존 기간이 지나도 제거되지 않고, 처리가 끝난 접수번호만 보존 기간이 지나면 제거된다.")
+    void retainPendingTicket() throws Exception {
+        // Given
+        orderIntakeService.shutdown();
+        orderIntakeService = new OrderIntakeService(orderService, new SimpleMeterRegistry(), 1, 1, 0);
+
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    throw new IllegalArgumentException("재고가 부족한 상품이 있습니다.");
+                });
+        OrderTicketResponse accepted = orderIntakeService.accept(request, registeredDateTime);
+
+        // When
+        OrderTicketStatus pendingStatus = orderIntakeService.getTicket(accepted.getTicketId()).getStatus();
+        release.countDown();
+        orderIntakeService.shutdown();
+
+        // Then
+        assertThat(pendingStatus.isDone()).isFalse();
+        assertThatThrownBy(() -> orderIntakeService.getTicket(accepted.getTicketId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 주문 접수번호입니다.");
+    }
+
+    @Test
+    @DisplayName("처리가 끝나지 않은 주문을 기다리면 대기 시간 이후 현재 상태를 반환한다.")
+    void subscribeWithTimeout() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(orderService.createOrder(any(OrderCreateServiceRequest.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    release.await();
+                    return null;
+                });
+        OrderTicketResponse accepted = orderIntakeService.accept(request, registeredDateTime);
+
+        // When
+        OrderTicketResponse ticket = orderIntakeService.subscribe(accepted.getTicketId(), Duration.ofMillis(100))
+                .get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(ticket.getStatus().isDone()).isFalse();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 접수번호는 조회할 수 없다.")
+    void getTicketWithUnknownTicketId() {
+        // When & Then
+        assertThatThrownBy(() -> orderIntakeService.getTicket("unknown"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 주문 접수번호입니다.");
+    }
+}
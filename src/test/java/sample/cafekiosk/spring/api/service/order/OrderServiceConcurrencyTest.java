@@ -0,0 +1,125 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.repository.OrderProductRepository;
+import sample.cafekiosk.spring.repository.OrderRepository;
+import sample.cafekiosk.spring.repository.ProductRepository;
+import sample.cafekiosk.spring.repository.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BAKERY;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+
+/**
+ * 기본(database) 재고 차감 모드에서 조건부 update가 동시 주문에도 초과 판매하지 않는지 확인한다.
+ */
+class OrderServiceConcurrencyTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+    @Autowired
+    private StockRepository stockRepository;
+
+    @AfterEach
+    void tearDown() {
+        productCatalogCache.invalidateAll();
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시에 같은 상품을 주문해도 재고 수량만큼만 주문이 생성되고, 실패한 주문의 재고는 차감되지 않는다.")
+    void createOrderConcurrently() throws Exception {
+        // Given
+        productRepository.saveAll(List.of(
+                createProduct("001", BOTTLE, "생수", 1000)
+                , createProduct("002", BAKERY, "크로와상", 3000)
+        ));
+        int stockQuantity = 7;
+        stockRepository.saveAll(List.of(
+                Stock.create("001", stockQuantity)
+                , Stock.create("002", 100)
+        ));
+
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failureCount = new AtomicInteger();
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .productQuantities(Map.of("001", 1, "002", 1))
+                .build();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    orderService.createOrder(request, LocalDateTime.now());
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    // 재고 부족
+                    failureCount.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(stockQuantity);
+        assertThat(failureCount.get()).isEqualTo(threadCount - stockQuantity);
+        assertThat(orderRepository.count()).isEqualTo(stockQuantity);
+        assertThat(stockRepository.findAll())
+                .extracting("productNo", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0)
+                        , tuple("002", 100 - stockQuantity)
+                );
+    }
+
+    private Product createProduct(String productNo, ProductType productType, String productName, int productPrice) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(productType)
+                .productStatus(SELLING)
+                .productName(productName)
+                .productPrice(productPrice)
+                .build();
+    }
+}
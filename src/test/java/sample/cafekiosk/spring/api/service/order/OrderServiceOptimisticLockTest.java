@@ -0,0 +1,107 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.repository.OrderProductRepository;
+import sample.cafekiosk.spring.repository.OrderRepository;
+import sample.cafekiosk.spring.repository.ProductRepository;
+import sample.cafekiosk.spring.repository.StockRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+
+@TestPropertySource(properties = {
+        "cafekiosk.stock.mode=optimistic"
+        , "cafekiosk.stock.optimistic.max-attempts=50"
+})
+class OrderServiceOptimisticLockTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+    @Autowired
+    private StockRepository stockRepository;
+
+    @AfterEach
+    void tearDown() {
+        productCatalogCache.invalidateAll();
+        orderProductRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("낙관적 락 모드에서 동시에 같은 상품을 주문해도 재고 수량만큼만 주문이 생성된다.")
+    void createOrderConcurrently() throws Exception {
+        // Given
+        productRepository.save(Product.builder()
+                .productNo("001")
+                .productType(BOTTLE)
+                .productStatus(SELLING)
+                .productName("생수")
+                .productPrice(1000)
+                .build());
+        stockRepository.save(Stock.create("001", 5));
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        OrderCreateServiceRequest request = OrderCreateServiceRequest.builder()
+                .productNos(List.of("001"))
+                .build();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                try {
+                    orderService.createOrder(request, LocalDateTime.now());
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    // 재고 부족
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(5);
+        assertThat(orderRepository.count()).isEqualTo(5);
+        assertThat(stockRepository.findAll())
+                .extracting("productNo", "quantity")
+                .containsExactly(tuple("001", 0));
+    }
+}
@@ -0,0 +1,178 @@
+package sample.cafekiosk.spring.api.service.order;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.request.OrderCreateServiceRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.config.SqlStatementRecorder;
+import sample.cafekiosk.spring.config.SqlStatementStatistics;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.repository.OrderProductRepository;
+import sample.cafekiosk.spring.repository.OrderRepository;
+import sample.cafekiosk.spring.repository.ProductRepository;
+import sample.cafekiosk.spring.repository.StockRepository;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.BOTTLE;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+/**
+ * 주문 조회 시 실행되는 쿼리 수는 Hibernate Statistics의 PrepareStatement 수로 확인한다.
+ * 주문 생성은 JdbcTemplate(재고 차감)도 함께 사용하기 때문에 SqlStatementRecorder로 JDBC 구문 수를 확인한다.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderServiceQueryCountTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productCatalogCache.invalidateAll();
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        stockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("주문 상품 수와 관계 없이 주문 조회는 쿼리 1번으로 수행된다.")
+    void getOrder() {
+        // Given
+        List<Product> products = createProducts(10);
+        Order smallOrder = orderRepository.save(Order.create(products.subList(0, 1), LocalDateTime.now()));
+        Order largeOrder = orderRepository.save(Order.create(products, LocalDateTime.now()));
+
+        // When
+        long smallOrderQueryCount = countQueries(() -> orderService.getOrder(smallOrder.getId()));
+        long largeOrderQueryCount = countQueries(() -> orderService.getOrder(largeOrder.getId()));
+
+        // Then
+        assertThat(smallOrderQueryCount).isEqualTo(1);
+        assertThat(largeOrderQueryCount).isEqualTo(smallOrderQueryCount);
+        assertThat(orderService.getOrder(largeOrder.getId()).getProducts()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("주문 건수와 주문 상품 수와 관계 없이 주문 목록 조회는 쿼리 2번으로 수행된다.")
+    void getOrders() {
+        // Given
+        List<Product> products = createProducts(10);
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= products.size(); i++) {
+            orders.add(Order.create(products.subList(0, i), LocalDateTime.now()));
+        }
+        orderRepository.saveAll(orders);
+
+        // When
+        long queryCount = countQueries(() -> orderService.getOrders(0, 20));
+        List<OrderResponse> orderResponses = orderService.getOrders(0, 20);
+
+        // Then
+        assertThat(queryCount).isEqualTo(2);
+        assertThat(orderResponses).hasSize(10)
+                .extracting(orderResponse -> orderResponse.getProducts().size())
+                .containsExactly(10, 9, 8, 7, 6, 5, 4, 3, 2, 1);
+    }
+
+    /**
+     * 상품 조회 1 + 재고 차감 update 1(재고 관리 상품 1개) + 주문 / 주문 상품 batch insert 2
+     * + 주문 / 주문 상품 시퀀스 조회(pooled optimizer, 최초 할당 시 최대 2번씩) 4 = 최대 8번
+     */
+    @Test
+    @DisplayName("주문 상품 수와 관계 없이 주문 생성은 정해진 SQL 구문 수 이내로 수행된다.")
+    void createOrder() {
+        // Given
+        List<Product> products = createProducts(10);
+        Product bottle = productRepository.save(Product.builder()
+                .productNo("100")
+                .productType(BOTTLE)
+                .productStatus(SELLING)
+                .productName("생수")
+                .productPrice(1000)
+                .build());
+        stockRepository.save(Stock.create(bottle.getProductNo(), 100));
+
+        OrderCreateServiceRequest smallRequest = OrderCreateServiceRequest.builder()
+                .productNos(List.of("001", "100"))
+                .build();
+        OrderCreateServiceRequest largeRequest = OrderCreateServiceRequest.builder()
+                .productNos(products.stream()
+                        .map(Product::getProductNo)
+                        .collect(Collectors.toList()))
+                .productQuantities(Map.of("100", 5))
+                .build();
+
+        // When
+        SqlStatementStatistics smallOrder = SqlStatementRecorder.record(() -> orderService.createOrder(smallRequest, LocalDateTime.now()));
+        SqlStatementStatistics largeOrder = SqlStatementRecorder.record(() -> orderService.createOrder(largeRequest, LocalDateTime.now()));
+
+        // Then
+        assertThat(smallOrder.getStatementCount()).isLessThanOrEqualTo(8);
+        assertThat(largeOrder.getStatementCount()).isLessThanOrEqualTo(8);
+    }
+
+    private long countQueries(Runnable runnable) {
+        statistics.clear();
+        runnable.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Product> createProducts(int count) {
+        List<Product> products = IntStream.rangeClosed(1, count)
+                .mapToObj(i -> Product.builder()
+                        .productNo(String.format("%03d", i))
+                        .productType(HANDMADE)
+                        .productStatus(SELLING)
+                        .productName("상품" + i)
+                        .productPrice(1000 * i)
+                        .build())
+                .collect(Collectors.toList());
+
+        return productRepository.saveAll(products);
+    }
+}
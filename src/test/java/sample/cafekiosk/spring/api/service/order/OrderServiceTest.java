@@ -1,12 +1,19 @@
 package sample.cafekiosk.spring.api.service.order;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.controller.order.request.OrderBulkCreateRequest;
 import sample.cafekiosk.spring.api.controller.order.request.OrderCreateRequest;
+import sample.cafekiosk.spring.api.controller.order.request.OrderLineRequest;
+import sample.cafekiosk.spring.api.service.order.response.OrderBulkResponse;
 import sample.cafekiosk.spring.api.service.order.response.OrderResponse;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
@@ -31,6 +38,8 @@ class OrderServiceTest extends IntegrationTestSupport {
     @Autowired
     private ProductRepository productRepository;
     @Autowired
+    private ProductCatalogCache productCatalogCache;
+    @Autowired
     private OrderRepository orderRepository;
     @Autowired
     private OrderProductRepository orderProductRepository;
@@ -38,6 +47,8 @@ class OrderServiceTest extends IntegrationTestSupport {
     private StockRepository stockRepository;
     @Autowired
     private OrderService orderService;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
 
     /**
@@ -47,6 +58,7 @@ class OrderServiceTest extends IntegrationTestSupport {
      */
     @AfterEach
     void tearDown() {
+        productCatalogCache.invalidateAll();
         orderProductRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         orderRepository.deleteAllInBatch();
@@ -115,14 +127,20 @@ class OrderServiceTest extends IntegrationTestSupport {
                 .extracting("registeredDateTime", "totalPrice")
                 .contains(registeredDateTime, 19000);
         assertThat(orderResponse.getProducts())
-                .hasSize(4)
+                .hasSize(3)
                 .extracting("productNo", "productPrice")
                 .containsExactlyInAnyOrder(
                         tuple("001", 4000)
-                        , tuple("001", 4000)
                         , tuple("002", 4000)
                         , tuple("003", 7000)
                 );
+        assertThat(orderResponse.getLines())
+                .extracting("productNo", "quantity", "linePrice")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 2, 8000)
+                        , tuple("002", 1, 4000)
+                        , tuple("003", 1, 7000)
+                );
 
         List<Stock> stocks = stockRepository.findAll();
         assertThat(stocks).hasSize(2)
@@ -157,12 +175,75 @@ class OrderServiceTest extends IntegrationTestSupport {
                 .extracting("registeredDateTime", "totalPrice")
                 .contains(registeredDateTime, 8000);
         assertThat(orderResponse.getProducts())
-                .hasSize(2)
+                .hasSize(1)
                 .extracting("productNo", "productPrice")
-                .containsExactlyInAnyOrder(
-                        tuple("001", 4000)
-                        , tuple("001", 4000)
+                .containsExactly(tuple("001", 4000));
+        assertThat(orderResponse.getLines())
+                .extracting("productNo", "quantity", "linePrice")
+                .containsExactly(tuple("001", 2, 8000));
+    }
+
+    @Test
+    @DisplayName("상품번호와 수량으로 주문을 생성하면 상품별로 주문 라인 하나가 저장된다.")
+    void createOrderWithQuantity() {
+        // Given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = createProduct("001", BOTTLE, SELLING, "생수", 1000);
+        Product product2 = createProduct("002", HANDMADE, SELLING, "카페라떼", 4500);
+
+        productRepository.saveAll(List.of(product1, product2));
+        stockRepository.save(Stock.create("001", 30));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .lines(List.of(
+                        OrderLineRequest.builder().productNo("001").quantity(20).build()
+                        , OrderLineRequest.builder().productNo("002").quantity(1).build()
+                ))
+                .build();
+
+        // When
+        OrderResponse orderResponse = orderService.createOrder(request.toServiceRequest(), registeredDateTime);
+
+        // Then
+        assertThat(orderResponse.getTotalPrice()).isEqualTo(24500);
+        assertThat(orderResponse.getLines())
+                .extracting("productNo", "unitPrice", "quantity", "linePrice")
+                .containsExactly(
+                        tuple("001", 1000, 20, 20000)
+                        , tuple("002", 4500, 1, 4500)
                 );
+        assertThat(orderResponse.compact().getProducts()).isNull();
+
+        assertThat(orderProductRepository.findAll()).hasSize(2);
+        assertThat(stockRepository.findAll())
+                .extracting("productNo", "quantity")
+                .containsExactly(tuple("001", 10));
+    }
+
+    @Test
+    @DisplayName("상품별 주문 수량의 합이 최대 주문 수량을 초과하면 재고를 차감하지 않고 예외가 발생한다.")
+    void createOrderWithExceededQuantity() {
+        // Given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product = createProduct("001", BOTTLE, SELLING, "생수", 1000);
+        productRepository.save(product);
+        stockRepository.save(Stock.create("001", 5000));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .lines(List.of(
+                        OrderLineRequest.builder().productNo("001").quantity(600).build()
+                        , OrderLineRequest.builder().productNo("001").quantity(600).build()
+                ))
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.createOrder(request.toServiceRequest(), registeredDateTime))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 수량은 1000개 이하여야 합니다.");
+
+        assertThat(stockRepository.findAll())
+                .extracting("productNo", "quantity")
+                .containsExactly(tuple("001", 5000));
     }
 
     @Test
@@ -191,6 +272,143 @@ class OrderServiceTest extends IntegrationTestSupport {
                 .hasMessage("재고가 부족한 상품이 있습니다.");
     }
 
+    @Test
+    @DisplayName("주문을 생성하면 상품 조회 / 재고 차감 / 주문 저장 단계별 소요 시간이 기록된다.")
+    void createOrderRecordsPhaseTimers() {
+        // Given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = createProduct("001", BOTTLE, SELLING, "아메리카노", 4000);
+        productRepository.save(product1);
+        stockRepository.save(Stock.create("001", 2));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNos(List.of("001"))
+                .build();
+
+        long findProductsCount = phaseTimerCount("find_products");
+        long deductStockCount = phaseTimerCount("deduct_stock");
+        long saveOrderCount = phaseTimerCount("save_order");
+
+        // When
+        orderService.createOrder(request.toServiceRequest(), registeredDateTime);
+
+        // Then
+        assertThat(phaseTimerCount("find_products")).isEqualTo(findProductsCount + 1);
+        assertThat(phaseTimerCount("deduct_stock")).isEqualTo(deductStockCount + 1);
+        assertThat(phaseTimerCount("save_order")).isEqualTo(saveOrderCount + 1);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하여 주문이 거절되면 상품번호별 재고 부족 횟수가 기록된다.")
+    void createOrderWithNoStockRecordsShortage() {
+        // Given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = createProduct("001", BOTTLE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", BAKERY, SELLING, "초코 크로아상", 3000);
+        productRepository.saveAll(List.of(product1, product2));
+        stockRepository.saveAll(List.of(Stock.create("001", 1), Stock.create("002", 5)));
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .productNos(List.of("001", "001", "002"))
+                .build();
+
+        double shortageCount = shortageCount("001");
+
+        // When
+        assertThatThrownBy(() -> orderService.createOrder(request.toServiceRequest(), registeredDateTime))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(shortageCount("001")).isEqualTo(shortageCount + 1);
+        assertThat(meterRegistry.find("cafekiosk.order.stock.shortage").tag("productNo", "002").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("다건 주문을 생성할 때 재고가 부족한 주문만 실패하고 나머지 주문은 생성된다.")
+    void createOrders() {
+        // Given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = createProduct("001", BOTTLE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", BAKERY, SELLING, "초코 크로아상", 3000);
+        Product product3 = createProduct("003", HANDMADE, SELLING, "팥빙수", 7000);
+
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        Stock stock1 = Stock.create("001", 2);
+        Stock stock2 = Stock.create("002", 1);
+        stockRepository.saveAll(List.of(stock1, stock2));
+
+        OrderBulkCreateRequest request = OrderBulkCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder().productNos(List.of("001", "002")).build()
+                        , OrderCreateRequest.builder().productNos(List.of("001", "002")).build()
+                        , OrderCreateRequest.builder().productNos(List.of("001", "003")).build()
+                ))
+                .build();
+
+        // When
+        OrderBulkResponse response = orderService.createOrders(request.toServiceRequests(), registeredDateTime);
+
+        // Then
+        assertThat(response)
+                .extracting("successCount", "failureCount")
+                .contains(2, 1);
+        assertThat(response.getResults())
+                .extracting("index", "success", "message")
+                .containsExactly(
+                        tuple(0, true, null)
+                        , tuple(1, false, "재고가 부족한 상품이 있습니다.")
+                        , tuple(2, true, null)
+                );
+        assertThat(orderRepository.findAll()).hasSize(2);
+
+        List<Stock> stocks = stockRepository.findAll();
+        assertThat(stocks).hasSize(2)
+                .extracting("productNo", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0)
+                        , tuple("002", 0)
+                );
+    }
+
+    @Test
+    @DisplayName("다건 주문을 생성할 때 최대 주문 수량을 초과한 주문만 실패하고 나머지 주문은 생성된다.")
+    void createOrdersWithExceededQuantity() {
+        // Given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product = createProduct("001", BOTTLE, SELLING, "생수", 1000);
+        productRepository.save(product);
+        stockRepository.save(Stock.create("001", 5000));
+
+        OrderBulkCreateRequest request = OrderBulkCreateRequest.builder()
+                .orders(List.of(
+                        OrderCreateRequest.builder()
+                                .lines(List.of(
+                                        OrderLineRequest.builder().productNo("001").quantity(600).build()
+                                        , OrderLineRequest.builder().productNo("001").quantity(600).build()
+                                ))
+                                .build()
+                        , OrderCreateRequest.builder()
+                                .lines(List.of(OrderLineRequest.builder().productNo("001").quantity(2).build()))
+                                .build()
+                ))
+                .build();
+
+        // When
+        OrderBulkResponse response = orderService.createOrders(request.toServiceRequests(), registeredDateTime);
+
+        // Then
+        assertThat(response.getResults())
+                .extracting("index", "success", "message")
+                .containsExactly(
+                        tuple(0, false, "주문 수량은 1000개 이하여야 합니다.")
+                        , tuple(1, true, null)
+                );
+        assertThat(stockRepository.findAll())
+                .extracting("productNo", "quantity")
+                .containsExactly(tuple("001", 4998));
+    }
+
     private Product createProduct(
             String productNo
             , ProductType productType
@@ -206,4 +424,14 @@ class OrderServiceTest extends IntegrationTestSupport {
                 .productPrice(productPrice)
                 .build();
     }
-}
\ No newline at end of file
+
+    private long phaseTimerCount(String phase) {
+        Timer timer = meterRegistry.find("cafekiosk.order.create.phase").tag("phase", phase).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private double shortageCount(String productNo) {
+        Counter counter = meterRegistry.find("cafekiosk.order.stock.shortage").tag("productNo", productNo).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -7,17 +7,23 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.mail.MailOutboxDispatcher;
+import sample.cafekiosk.spring.api.service.mail.MailService;
 import sample.cafekiosk.spring.client.MailSendClient;
+import sample.cafekiosk.spring.domain.history.mail.MailOutboxStatus;
 import sample.cafekiosk.spring.domain.history.mail.MailSendHistory;
 import sample.cafekiosk.spring.domain.order.Order;
 import sample.cafekiosk.spring.domain.order.OrderStatus;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.repository.HourlySalesRepository;
+import sample.cafekiosk.spring.repository.MailOutboxRepository;
 import sample.cafekiosk.spring.repository.MailSendHistoryRepository;
 import sample.cafekiosk.spring.repository.OrderProductRepository;
 import sample.cafekiosk.spring.repository.OrderRepository;
 import sample.cafekiosk.spring.repository.ProductRepository;
+import sample.cafekiosk.spring.repository.SalesRollupDateRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -45,6 +51,21 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
     @Autowired
     private MailSendHistoryRepository mailSendHistoryRepository;
 
+    @Autowired
+    private HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    private SalesRollupDateRepository salesRollupDateRepository;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Autowired
+    private MailOutboxDispatcher mailOutboxDispatcher;
+
+    @Autowired
+    private MailService mailService;
+
     @MockBean
     private MailSendClient mailSendClient;
 
@@ -54,6 +75,9 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
         orderRepository.deleteAllInBatch();
         productRepository.deleteAllInBatch();
         mailSendHistoryRepository.deleteAllInBatch();
+        hourlySalesRepository.deleteAllInBatch();
+        salesRollupDateRepository.deleteAllInBatch();
+        mailOutboxRepository.deleteAllInBatch();
     }
 
     @Test
@@ -79,12 +103,13 @@ class OrderStatisticsServiceTest extends IntegrationTestSupport {
                 .thenReturn(true);
 
         // When
-        boolean result = orderStatisticsService.sendOrderStatisticsMail(
+        Long mailId = orderStatisticsService.sendOrderStatisticsMail(
                 LocalDate.of(2023, 3, 5), "test@test.com"
         );
+        mailOutboxDispatcher.dispatch();
 
         // Then
-        assertThat(result).isTrue();
+        assertThat(mailService.getMailStatus(mailId).getStatus()).isEqualTo(MailOutboxStatus.SENT);
 
         List<MailSendHistory> histories = mailSendHistoryRepository.findAll();
         assertThat(histories).hasSize(1)
@@ -0,0 +1,128 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.repository.ProductRepository;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.*;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class ProductCatalogCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productCatalogCache.invalidateAll();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 상품은 캐시에서 조회하고, 캐시에 없는 상품만 저장소에서 조회한다.")
+    void findAllByProductNoIn() {
+        // Given
+        productRepository.saveAll(List.of(
+                createProduct("001", HANDMADE, SELLING, "아메리카노", 4000)
+                , createProduct("002", HANDMADE, SELLING, "카페라떼", 4500)
+        ));
+        productCatalogCache.findAllByProductNoIn(List.of("001"));
+        long hitCount = productCatalogCache.stats().hitCount();
+
+        // When
+        Map<String, Product> productMap = productCatalogCache.findAllByProductNoIn(List.of("001", "002", "999"));
+
+        // Then
+        assertThat(productMap).containsOnlyKeys("001", "002");
+        assertThat(productCatalogCache.stats().hitCount()).isEqualTo(hitCount + 1);
+        assertThat(productCatalogCache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품의 판매상태가 변경되면 캐시된 상품이 무효화된다.")
+    void invalidateWhenProductStatusChanged() {
+        // Given
+        productRepository.save(createProduct("001", HANDMADE, SELLING, "아메리카노", 4000));
+        productCatalogCache.findAllByProductNoIn(List.of("001"));
+
+        // When
+        productService.changeProductStatus("001", SOLD_OUT);
+
+        // Then
+        assertThat(productCatalogCache.findAllByProductNoIn(List.of("001")).get("001").getProductStatus())
+                .isEqualTo(SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("캐시된 상품은 조회할 때마다 새로운 인스턴스로 반환되어, 한 쪽에서 변경해도 다른 조회에 영향을 주지 않는다.")
+    void findAllByProductNoInReturnsCopies() {
+        // Given
+        productRepository.save(createProduct("001", HANDMADE, SELLING, "아메리카노", 4000));
+        Product first = productCatalogCache.findAllByProductNoIn(List.of("001")).get("001");
+
+        // When
+        Product second = productCatalogCache.findAllByProductNoIn(List.of("001")).get("001");
+        second.changeProductStatus(SOLD_OUT);
+        Product third = productCatalogCache.findAllByProductNoIn(List.of("001")).get("001");
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(third.getProductStatus()).isEqualTo(SELLING);
+    }
+
+    @Test
+    @DisplayName("상품을 조회하는 동안 무효화되면, 무효화 이전에 조회한 상품은 캐시에 남지 않는다.")
+    void invalidateWhileLoading() {
+        // Given
+        ProductRepository loadingRepository = Mockito.mock(ProductRepository.class);
+        ProductCatalogCache cache = new ProductCatalogCache(loadingRepository, 100, 300);
+        Product staleProduct = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+
+        // 조회 결과를 반환하기 전에 다른 트랜잭션의 상품 변경이 커밋되어 무효화된다.
+        Mockito.when(loadingRepository.findAllByProductNoIn(List.of("001"))).thenAnswer(invocation -> {
+            cache.invalidate("001");
+            return List.of(staleProduct);
+        });
+
+        // When
+        Map<String, Product> productMap = cache.findAllByProductNoIn(List.of("001"));
+
+        // Then
+        assertThat(productMap).containsOnlyKeys("001");
+        assertThat(cache.size()).isZero();
+    }
+
+    private Product createProduct(
+            String productNo
+            , ProductType productType
+            , ProductStatus productStatus
+            , String productName
+            , int productPrice
+    ) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(productType)
+                .productStatus(productStatus)
+                .productName(productName)
+                .productPrice(productPrice)
+                .build();
+    }
+}
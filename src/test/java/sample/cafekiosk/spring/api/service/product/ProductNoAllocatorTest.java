@@ -0,0 +1,175 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.repository.ProductNoCounterRepository;
+import sample.cafekiosk.spring.repository.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+/**
+ * 애플리케이션 인스턴스 여러 개를 흉내내기 위해 ProductNoAllocator를 직접 여러 개 생성하여 테스트한다.
+ */
+class ProductNoAllocatorTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ProductNoCounterRepository productNoCounterRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        productNoCounterRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스의 여러 스레드가 동시에 상품번호를 발급해도 중복되지 않는다.")
+    void allocateConcurrently() throws Exception {
+        // Given
+        List<ProductNoAllocator> allocators = List.of(
+                new ProductNoAllocator(productNoCounterRepository, transactionManager, 10, "%03d")
+                , new ProductNoAllocator(productNoCounterRepository, transactionManager, 10, "%03d")
+        );
+
+        int threadCount = 16;
+        int allocateCountPerThread = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Set<String> productNos = ConcurrentHashMap.newKeySet();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            ProductNoAllocator allocator = allocators.get(i % allocators.size());
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < allocateCountPerThread; j++) {
+                    productNos.add(allocator.allocate());
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // Then
+        assertThat(productNos).hasSize(threadCount * allocateCountPerThread);
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 기존 상품번호의 다음 번호부터 발급하며, 형식의 자릿수를 넘어도 번호가 잘리지 않는다.")
+    void allocateAfterExistingProductNo() {
+        // Given
+        productRepository.save(createProduct("999"));
+        ProductNoAllocator allocator = new ProductNoAllocator(productNoCounterRepository, transactionManager, 10, "%03d");
+
+        // When
+        List<String> productNos = allocator.allocate(2);
+
+        // Then
+        assertThat(productNos).containsExactly("1000", "1001");
+    }
+
+    @Test
+    @DisplayName("예약한 구간보다 많은 상품번호를 요청하면 부족한 만큼 한 번에 예약하여 연속된 번호를 발급한다.")
+    void allocateMoreThanBlockSize() {
+        // Given
+        ProductNoAllocator allocator = new ProductNoAllocator(productNoCounterRepository, transactionManager, 10, "P%06d");
+
+        // When
+        List<String> productNos = allocator.allocate(25);
+
+        // Then
+        assertThat(productNos).hasSize(25)
+                .startsWith("P000001")
+                .endsWith("P000025");
+        assertThat(productNoCounterRepository.findAll())
+                .extracting("nextNo")
+                .containsExactly(26L);
+    }
+
+    @Test
+    @DisplayName("예약한 구간이 남아있으면 카운터를 다시 증가시키지 않고, 구간을 모두 사용하면 다음 구간을 예약한다.")
+    void allocateWithinReservedBlock() {
+        // Given
+        ProductNoAllocator allocator = new ProductNoAllocator(productNoCounterRepository, transactionManager, 3, "%03d");
+
+        // When
+        String first = allocator.allocate();
+        long nextNoAfterFirst = productNoCounterRepository.findAll().get(0).getNextNo();
+        String second = allocator.allocate();
+        String third = allocator.allocate();
+        long nextNoAfterThird = productNoCounterRepository.findAll().get(0).getNextNo();
+        String fourth = allocator.allocate();
+
+        // Then
+        assertThat(List.of(first, second, third, fourth)).containsExactly("001", "002", "003", "004");
+        assertThat(nextNoAfterFirst).isEqualTo(4L);
+        assertThat(nextNoAfterThird).isEqualTo(4L);
+        assertThat(productNoCounterRepository.findAll())
+                .extracting("nextNo")
+                .containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("카운터가 없을 때 숫자가 없는 상품번호는 제외하고 다음 번호를 계산한다.")
+    void allocateWithNonNumericProductNo() {
+        // Given
+        productRepository.saveAll(List.of(createProduct("ABC"), createProduct("P005")));
+        ProductNoAllocator allocator = new ProductNoAllocator(productNoCounterRepository, transactionManager, 10, "%03d");
+
+        // When
+        String productNo = allocator.allocate();
+
+        // Then
+        assertThat(productNo).isEqualTo("006");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커넥션을 잡은 채 예약하지 않도록 상품번호를 발급할 수 없다.")
+    void allocateInTransaction() {
+        // Given
+        ProductNoAllocator allocator = new ProductNoAllocator(productNoCounterRepository, transactionManager, 10, "%03d");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When & Then
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> allocator.allocate()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("상품번호는 트랜잭션 밖에서 발급해야 합니다.");
+    }
+
+    private Product createProduct(String productNo) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(HANDMADE)
+                .productStatus(SELLING)
+                .productName("아메리카노")
+                .productPrice(4000)
+                .build();
+    }
+}
@@ -6,10 +6,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import sample.cafekiosk.spring.IntegrationTestSupport;
 import sample.cafekiosk.spring.api.controller.product.request.ProductCreateRequest;
+import sample.cafekiosk.spring.api.service.product.request.ProductCreateServiceRequest;
 import sample.cafekiosk.spring.api.service.product.response.ProductResponse;
 import sample.cafekiosk.spring.domain.product.Product;
 import sample.cafekiosk.spring.domain.product.ProductStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.repository.ProductNoCounterRepository;
 import sample.cafekiosk.spring.repository.ProductRepository;
 
 import java.util.List;
@@ -26,9 +28,13 @@ class ProductServiceTest extends IntegrationTestSupport {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductNoCounterRepository productNoCounterRepository;
+
     @AfterEach
     void tearDown() {
         productRepository.deleteAllInBatch();
+        productNoCounterRepository.deleteAllInBatch();
     }
 
     @Test
@@ -87,6 +93,43 @@ class ProductServiceTest extends IntegrationTestSupport {
                 .contains(tuple("001", HANDMADE, SELLING, "카푸치노", 5000));
     }
 
+    @Test
+    @DisplayName("신규 상품을 다건 등록한다. 상품번호는 요청 순서대로 1씩 증가한다.")
+    void createProducts() {
+        // Given
+        productRepository.save(createProduct("001", HANDMADE, SELLING, "아메리카노", 4000));
+
+        List<ProductCreateServiceRequest> requests = List.of(
+                ProductCreateRequest.builder()
+                        .productType(HANDMADE)
+                        .productStatus(SELLING)
+                        .productName("카푸치노")
+                        .productPrice(5000)
+                        .build()
+                        .toServiceRequest()
+                , ProductCreateRequest.builder()
+                        .productType(BOTTLE)
+                        .productStatus(HOLD)
+                        .productName("생수")
+                        .productPrice(1000)
+                        .build()
+                        .toServiceRequest()
+        );
+
+        // When
+        List<ProductResponse> productResponses = productService.createProducts(requests);
+
+        // Then
+        assertThat(productResponses)
+                .extracting("productNo", "productType", "productStatus", "productName", "productPrice")
+                .containsExactly(
+                        tuple("002", HANDMADE, SELLING, "카푸치노", 5000)
+                        , tuple("003", BOTTLE, HOLD, "생수", 1000)
+                );
+
+        assertThat(productRepository.findAll()).hasSize(3);
+    }
+
     private Product createProduct(
             String productNo
             , ProductType productType
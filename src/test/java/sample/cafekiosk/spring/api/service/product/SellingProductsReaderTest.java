@@ -0,0 +1,68 @@
+package sample.cafekiosk.spring.api.service.product;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.config.SqlStatementRecorder;
+import sample.cafekiosk.spring.config.SqlStatementStatistics;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.domain.product.ProductStatus;
+import sample.cafekiosk.spring.domain.product.ProductType;
+import sample.cafekiosk.spring.repository.ProductRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.*;
+import static sample.cafekiosk.spring.domain.product.ProductType.*;
+
+class SellingProductsReaderTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SellingProductsReader sellingProductsReader;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("판매 상품 조회는 상품 수와 관계 없이 SQL 구문 1번으로 수행된다.")
+    void read() {
+        // Given
+        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = createProduct("002", HANDMADE, HOLD, "카페라떼", 4500);
+        Product product3 = createProduct("003", BOTTLE, SOLD_OUT, "생수", 1000);
+        productRepository.saveAll(List.of(product1, product2, product3));
+
+        // When
+        SqlStatementStatistics statistics = SqlStatementRecorder.record(() -> sellingProductsReader.read());
+
+        // Then
+        assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(1);
+        assertThat(sellingProductsReader.read())
+                .extracting("productNo")
+                .containsExactlyInAnyOrder("001", "002");
+    }
+
+    private Product createProduct(
+            String productNo
+            , ProductType productType
+            , ProductStatus productStatus
+            , String productName
+            , int productPrice
+    ) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(productType)
+                .productStatus(productStatus)
+                .productName(productName)
+                .productPrice(productPrice)
+                .build();
+    }
+}
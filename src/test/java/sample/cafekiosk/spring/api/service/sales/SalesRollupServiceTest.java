@@ -0,0 +1,199 @@
+package sample.cafekiosk.spring.api.service.sales;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.api.service.order.OrderService;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderPaymentCompletedEvent;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.repository.HourlySalesRepository;
+import sample.cafekiosk.spring.repository.OrderProductRepository;
+import sample.cafekiosk.spring.repository.OrderRepository;
+import sample.cafekiosk.spring.repository.ProductRepository;
+import sample.cafekiosk.spring.repository.SalesRollupDateRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+class SalesRollupServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private HourlySalesRepository hourlySalesRepository;
+
+    @Autowired
+    private SalesRollupDateRepository salesRollupDateRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        salesRollupDateRepository.deleteAllInBatch();
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+        hourlySalesRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("결제완료 이벤트가 발행되면 주문 등록시간의 시간대별 매출 집계가 증가한다.")
+    void increaseWhenPaymentCompleted() {
+        // When
+        eventPublisher.publishEvent(new OrderPaymentCompletedEvent(LocalDateTime.of(2023, 3, 5, 10, 0), 1000));
+        eventPublisher.publishEvent(new OrderPaymentCompletedEvent(LocalDateTime.of(2023, 3, 5, 10, 59, 59), 1000));
+        eventPublisher.publishEvent(new OrderPaymentCompletedEvent(LocalDateTime.of(2023, 3, 5, 11, 0), 1000));
+
+        // Then
+        assertThat(hourlySalesRepository.findAll())
+                .extracting("salesHour", "orderCount", "totalAmount")
+                .containsExactlyInAnyOrder(
+                        tuple(10, 2L, 2000L)
+                        , tuple(11, 1L, 1000L)
+                );
+    }
+
+    @Test
+    @DisplayName("주문을 결제완료 상태로 변경하면 save() 호출 없이도 매출 집계가 증가하고, 다시 변경해도 중복 집계되지 않는다.")
+    void increaseWhenCompletePayment() {
+        // Given
+        List<Product> products = List.of(productRepository.save(createProduct("001", 1000)));
+        Order order = orderRepository.save(createOrder(products, OrderStatus.INIT, LocalDateTime.of(2023, 3, 5, 10, 0)));
+
+        // When
+        orderService.completePayment(order.getId());
+        orderService.completePayment(order.getId());
+
+        // Then
+        assertThat(hourlySalesRepository.findAll())
+                .extracting("salesHour", "orderCount", "totalAmount")
+                .containsExactly(tuple(10, 1L, 1000L));
+        assertThat(orderRepository.findById(order.getId()).orElseThrow().getOrderStatus())
+                .isEqualTo(OrderStatus.PAYMENT_COMPLETED);
+    }
+
+    @Test
+    @DisplayName("기간을 지정하여 주문 테이블 기준으로 매출 집계를 다시 계산한다.")
+    void rebuild() {
+        // Given
+        List<Product> products = List.of(productRepository.save(createProduct("001", 1000)));
+        orderRepository.save(createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 4, 23, 59, 59)));
+        orderRepository.save(createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 0, 0)));
+        orderRepository.save(createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 6, 0, 0)));
+        hourlySalesRepository.deleteAllInBatch();
+
+        // When
+        salesRollupService.rebuild(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 6));
+
+        // Then
+        assertThat(hourlySalesRepository.findAll())
+                .extracting("salesDate", "salesHour", "orderCount", "totalAmount")
+                .containsExactlyInAnyOrder(
+                        tuple(LocalDate.of(2023, 3, 5), 0, 1L, 1000L)
+                        , tuple(LocalDate.of(2023, 3, 6), 0, 1L, 1000L)
+                );
+        assertThat(salesRollupDateRepository.findAll())
+                .extracting("salesDate")
+                .containsExactlyInAnyOrder(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 6));
+    }
+
+    @Test
+    @DisplayName("같은 기간을 여러 번 다시 계산해도 집계와 기록이 중복되지 않는다.")
+    void rebuildTwice() {
+        // Given
+        List<Product> products = List.of(productRepository.save(createProduct("001", 1000)));
+        orderRepository.save(createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 10, 0)));
+
+        // When
+        salesRollupService.rebuild(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 5));
+        salesRollupService.rebuild(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 5));
+
+        // Then
+        assertThat(hourlySalesRepository.findAll())
+                .extracting("salesHour", "orderCount", "totalAmount")
+                .containsExactly(tuple(10, 1L, 1000L));
+        assertThat(salesRollupDateRepository.existsBySalesDateAndRebuiltDateTimeIsNotNull(LocalDate.of(2023, 3, 5))).isTrue();
+    }
+
+    @Test
+    @DisplayName("다시 계산한 적이 없는 일자는 일부 시간대만 집계되어 있어도, 집계를 쓰지 않고 주문 테이블에서 매출 합계를 조회한다.")
+    void getDailyTotalAmountWithPartialRollup() {
+        // Given
+        List<Product> products = List.of(productRepository.save(createProduct("001", 1000)));
+        orderRepository.save(createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 10, 0)));
+        orderRepository.save(createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 11, 0)));
+        eventPublisher.publishEvent(new OrderPaymentCompletedEvent(LocalDateTime.of(2023, 3, 5, 11, 0), 1000));
+
+        // When
+        long totalAmount = salesRollupService.getDailyTotalAmount(LocalDate.of(2023, 3, 5));
+
+        // Then
+        assertThat(totalAmount).isEqualTo(2000L);
+        assertThat(salesRollupDateRepository.existsBySalesDateAndRebuiltDateTimeIsNotNull(LocalDate.of(2023, 3, 5))).isFalse();
+        assertThat(hourlySalesRepository.findAll())
+                .extracting("salesHour", "orderCount", "totalAmount")
+                .containsExactly(tuple(11, 1L, 1000L));
+    }
+
+    @Test
+    @DisplayName("다시 계산한 일자는 이후 결제완료 이벤트로 증가한 집계를 그대로 조회한다.")
+    void getDailyTotalAmountAfterRebuild() {
+        // Given
+        List<Product> products = List.of(productRepository.save(createProduct("001", 1000)));
+        orderRepository.save(createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 10, 0)));
+        salesRollupService.rebuild(LocalDate.of(2023, 3, 5), LocalDate.of(2023, 3, 5));
+
+        Order order = orderRepository.save(createOrder(products, OrderStatus.INIT, LocalDateTime.of(2023, 3, 5, 12, 0)));
+        orderService.completePayment(order.getId());
+        // 집계가 아닌 주문 테이블을 조회하면 달라지도록 결제완료 주문 1건을 더 저장한다. (이벤트 미발행)
+        orderRepository.save(createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 13, 0)));
+
+        // When
+        long totalAmount = salesRollupService.getDailyTotalAmount(LocalDate.of(2023, 3, 5));
+
+        // Then
+        assertThat(totalAmount).isEqualTo(2000L);
+    }
+
+    private Order createOrder(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        return Order.builder()
+                .products(products)
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
+    private Product createProduct(String productNo, int productPrice) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(HANDMADE)
+                .productStatus(SELLING)
+                .productName("아메리카노")
+                .productPrice(productPrice)
+                .build();
+    }
+}
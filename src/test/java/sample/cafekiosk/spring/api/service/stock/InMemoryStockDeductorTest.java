@@ -0,0 +1,100 @@
+package sample.cafekiosk.spring.api.service.stock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.stock.Stock;
+import sample.cafekiosk.spring.repository.StockRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주기적인 반영(flush)이 테스트 도중 실행되지 않도록 반영 주기를 길게 설정한다.
+ */
+@TestPropertySource(properties = {
+        "cafekiosk.stock.mode=memory"
+        , "cafekiosk.stock.memory.flush-interval-millis=600000"
+})
+class InMemoryStockDeductorTest extends IntegrationTestSupport {
+
+    @Autowired
+    private InMemoryStockDeductor stockDeductor;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @AfterEach
+    void tearDown() {
+        stockRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 같은 상품의 재고를 차감해도 재고 수량보다 많이 차감되지 않는다.")
+    void deductQuantitiesConcurrently() throws Exception {
+        // Given
+        stockRepository.save(Stock.create("101", 100));
+
+        int threadCount = 32;
+        int orderCountPerThread = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < orderCountPerThread; j++) {
+                    if (stockDeductor.deductQuantities(Map.of("101", 1)).isEmpty()) {
+                        successCount.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        stockDeductor.flush();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(100);
+        assertThat(stockDeductor.getAvailableQuantity("101")).contains(0);
+        assertThat(stockRepository.findAll())
+                .extracting("productNo", "quantity")
+                .containsExactly(tuple("101", 0));
+    }
+
+    @Test
+    @DisplayName("재고가 부족한 상품이 하나라도 있으면 주문의 어떤 상품 재고도 차감하지 않는다.")
+    void deductQuantitiesWithNoStock() {
+        // Given
+        stockRepository.saveAll(List.of(
+                Stock.create("201", 1)
+                , Stock.create("202", 0)
+        ));
+
+        // When
+        List<String> failedProductNos = stockDeductor.deductQuantities(Map.of("201", 1, "202", 1));
+
+        // Then
+        assertThat(failedProductNos).containsExactly("202");
+        assertThat(stockDeductor.getAvailableQuantity("201")).contains(1);
+    }
+}
@@ -0,0 +1,14 @@
+package sample.cafekiosk.spring.benchmark;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+@Import(RequestConcurrencyBenchmarkSupport.SimulatedIoLatencyConfig.class)
+@TestPropertySource(properties = "cafekiosk.threads.mode=platform")
+class PlatformThreadRequestBenchmarkTest extends RequestConcurrencyBenchmarkSupport {
+
+    @Override
+    protected String threadMode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,177 @@
+package sample.cafekiosk.spring.benchmark;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import sample.cafekiosk.spring.api.service.product.ProductCatalogCache;
+import sample.cafekiosk.spring.domain.product.Product;
+import sample.cafekiosk.spring.repository.OrderProductRepository;
+import sample.cafekiosk.spring.repository.OrderRepository;
+import sample.cafekiosk.spring.repository.ProductRepository;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+/**
+ * 동시 접속 클라이언트 1,000개 이상에서 요청 처리 스레드 모드(platform / virtual)별 처리량 측정
+ * - ./gradlew benchmarkTest -PjavaToolchain=21 로 실행하며, 두 모드의 결과를 비교한다.
+ * - 인메모리 H2는 원격 DB보다 훨씬 빠르기 때문에, 요청마다 원격 DB / 메일 서버 대기 시간을 SimulatedIoLatencyConfig로 흉내낸다.
+ *   -> platform 모드는 Tomcat 스레드 수(기본 200)만큼만 동시에 대기할 수 있고, virtual 모드는 클라이언트 수만큼 동시에 대기할 수 있다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+        , properties = {
+                "spring.jpa.show-sql=false"
+                , "spring.jpa.properties.hibernate.format_sql=false"
+                , "benchmark.io-latency-millis=50"
+        }
+)
+abstract class RequestConcurrencyBenchmarkSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestConcurrencyBenchmarkSupport.class);
+
+    private static final int CLIENT_COUNT = 1_000;
+    private static final int REQUEST_COUNT_PER_CLIENT = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    protected abstract String threadMode();
+
+    @AfterEach
+    void tearDown() {
+        productCatalogCache.invalidateAll();
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시 접속 클라이언트 1,000개가 주문 생성 / 판매 상품 조회를 반복할 때의 처리량을 측정한다.")
+    void throughput() {
+        // Given
+        productRepository.save(Product.builder()
+                .productNo("001")
+                .productType(HANDMADE)
+                .productStatus(SELLING)
+                .productName("아메리카노")
+                .productPrice(4000)
+                .build());
+        runClients(100, 1); // Warm Up
+
+        // When
+        long startNanos = System.nanoTime();
+        int successCount = runClients(CLIENT_COUNT, REQUEST_COUNT_PER_CLIENT);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+        // Then
+        int requestCount = CLIENT_COUNT * REQUEST_COUNT_PER_CLIENT;
+        log.info("[thread-mode={}] clients={}, requests={}, success={}, elapsed={}ms, throughput={} req/s",
+                threadMode(), CLIENT_COUNT, requestCount, successCount, elapsedMillis, String.format("%.1f", requestCount * 1000.0 / elapsedMillis));
+
+        assertThat(successCount).isEqualTo(requestCount);
+    }
+
+    /**
+     * 클라이언트마다 주문 생성과 판매 상품 조회를 번갈아가며 순차적으로 요청한다. (이전 응답을 받은 뒤 다음 요청)
+     */
+    private int runClients(int clientCount, int requestCountPerClient) {
+        AtomicInteger successCount = new AtomicInteger();
+
+        List<CompletableFuture<Void>> clients = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            CompletableFuture<Void> client = CompletableFuture.completedFuture(null);
+            for (int j = 0; j < requestCountPerClient; j++) {
+                HttpRequest request = j % 2 == 0 ? createOrderRequest() : getSellingProductsRequest();
+                client = client.thenCompose(ignored -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                        .thenAccept(response -> {
+                            if (response.statusCode() == 200) {
+                                successCount.incrementAndGet();
+                            }
+                        });
+            }
+            clients.add(client);
+        }
+
+        CompletableFuture.allOf(clients.toArray(CompletableFuture[]::new)).join();
+        return successCount.get();
+    }
+
+    private HttpRequest createOrderRequest() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/orders/new?compact=true"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"productNos\":[\"001\"]}"))
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    private HttpRequest getSellingProductsRequest() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/products/selling"))
+                .GET()
+                .timeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    /**
+     * 요청마다 원격 DB / 메일 서버를 기다리는 시간을 흉내낸다.
+     */
+    @TestConfiguration
+    static class SimulatedIoLatencyConfig implements WebMvcConfigurer {
+
+        @Value("${benchmark.io-latency-millis}")
+        private long ioLatencyMillis;
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new HandlerInterceptor() {
+                @Override
+                public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+                    Thread.sleep(ioLatencyMillis);
+                    return true;
+                }
+            }).addPathPatterns("/api/v1/**");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package sample.cafekiosk.spring.benchmark;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import sample.cafekiosk.spring.config.VirtualThreads;
+
+import static org.junit.jupiter.api.Assumptions.*;
+
+@Import(RequestConcurrencyBenchmarkSupport.SimulatedIoLatencyConfig.class)
+@TestPropertySource(properties = "cafekiosk.threads.mode=virtual")
+class VirtualThreadRequestBenchmarkTest extends RequestConcurrencyBenchmarkSupport {
+
+    @BeforeAll
+    static void checkRuntime() {
+        assumeTrue(VirtualThreads.isSupported(), "가상 스레드 모드는 Java 21 이상에서 측정한다. (-PjavaToolchain=21)");
+    }
+
+    @Override
+    protected String threadMode() {
+        return "virtual";
+    }
+}
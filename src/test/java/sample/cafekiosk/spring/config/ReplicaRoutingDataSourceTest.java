@@ -0,0 +1,141 @@
+package sample.cafekiosk.spring.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = Mockito.mock(Connection.class);
+    private final Connection replicaConnection = Mockito.mock(Connection.class);
+
+    private DataSource primaryDataSource;
+    private DataSource replicaDataSource;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primaryDataSource = Mockito.mock(DataSource.class);
+        replicaDataSource = Mockito.mock(DataSource.class);
+        Mockito.when(primaryDataSource.getConnection()).thenReturn(primaryConnection);
+        Mockito.when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+
+        replicaLagMonitor = new ReplicaLagMonitor(replicaDataSource, "", 1000, 60_000);
+        routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaReadContext.end(false);
+    }
+
+    @Test
+    @DisplayName("@ReplicaRead 메서드의 readOnly 트랜잭션은 Replica 커넥션을 사용한다.")
+    void replicaReadTransactionUsesReplica() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaReadContext.begin();
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("@ReplicaRead가 없는 readOnly 트랜잭션은 방금 저장한 데이터를 읽을 수 있도록 Primary 커넥션을 사용한다.")
+    void readOnlyTransactionUsesPrimary() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("@ReplicaRead 메서드라도 쓰기 트랜잭션은 Primary 커넥션을 사용한다.")
+    void replicaReadWriteTransactionUsesPrimary() throws SQLException {
+        // Given
+        ReplicaReadContext.begin();
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 Primary 커넥션을 사용한다.")
+    void writeTransactionUsesPrimary() throws SQLException {
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Replica 커넥션을 얻지 못하면 Primary 커넥션을 사용하고, 이후 조회도 일정 시간 Primary로 보낸다.")
+    void fallbackToPrimaryWhenReplicaIsDown() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaReadContext.begin();
+        Mockito.when(replicaDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        // When
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Then
+        assertThat(first).isSameAs(primaryConnection);
+        assertThat(second).isSameAs(primaryConnection);
+        assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        Mockito.verify(replicaDataSource, Mockito.times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("복제 지연으로 Replica를 사용할 수 없으면 readOnly 트랜잭션도 Primary 커넥션을 사용한다.")
+    void readOnlyTransactionUsesPrimaryWhenReplicaIsLagging() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaReadContext.begin();
+        replicaLagMonitor.markUnavailable("복제 지연 5000ms (허용 1000ms)");
+
+        // When
+        Connection connection = routingDataSource.getConnection();
+
+        // Then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위로 돌아오면 다시 Replica 커넥션을 사용한다.")
+    void readOnlyTransactionUsesReplicaAfterRecovery() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaReadContext.begin();
+        replicaLagMonitor.markUnavailable("복제 지연 5000ms (허용 1000ms)");
+
+        // When
+        replicaLagMonitor.markAvailable();
+
+        // Then
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+}
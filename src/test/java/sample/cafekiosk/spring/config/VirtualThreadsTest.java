@@ -0,0 +1,75 @@
+package sample.cafekiosk.spring.config;
+
+import com.google.common.reflect.ClassPath;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("Java 21 이상에서는 작업마다 가상 스레드를 만들어 실행한다.")
+    void newThreadPerTaskExecutor() throws Exception {
+        assumeTrue(VirtualThreads.isSupported(), "Java 21 이상에서만 실행한다.");
+
+        // Given
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("test-virtual-");
+
+        // When
+        String threadName = executor.submit(() -> Thread.currentThread().getName()).get();
+        executor.shutdown();
+
+        // Then
+        assertThat(threadName).startsWith("test-virtual-");
+    }
+
+    @Test
+    @DisplayName("가상 스레드를 지원하지 않는 런타임에서는 가상 스레드 Executor를 만들 수 없다.")
+    void newThreadPerTaskExecutorWhenNotSupported() {
+        assumeFalse(VirtualThreads.isSupported(), "Java 21 미만에서만 실행한다.");
+
+        // When & Then
+        assertThatThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor("test-virtual-"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("가상 스레드는 Java 21 이상에서 사용할 수 있습니다.");
+    }
+
+    /**
+     * synchronized 메서드 안에서 블로킹 I/O를 기다리면 가상 스레드가 캐리어 스레드에 고정(Pinning)된다.
+     * - synchronized 블록은 Reflection으로 확인할 수 없기 때문에 코드 리뷰로 확인한다.
+     */
+    @Test
+    @DisplayName("애플리케이션 코드에는 가상 스레드를 고정시키는 synchronized 메서드가 없다.")
+    void noSynchronizedMethods() throws Exception {
+        // Given
+        List<String> synchronizedMethods = new ArrayList<>();
+
+        // When
+        for (ClassPath.ClassInfo classInfo : ClassPath.from(getClass().getClassLoader())
+                .getTopLevelClassesRecursive("sample.cafekiosk.spring")) {
+            collectSynchronizedMethods(classInfo.load(), synchronizedMethods);
+        }
+
+        // Then
+        assertThat(synchronizedMethods).isEmpty();
+    }
+
+    private void collectSynchronizedMethods(Class<?> type, List<String> synchronizedMethods) {
+        for (Method method : type.getDeclaredMethods()) {
+            if (Modifier.isSynchronized(method.getModifiers())) {
+                synchronizedMethods.add(type.getName() + "#" + method.getName());
+            }
+        }
+        for (Class<?> nestedType : type.getDeclaredClasses()) {
+            collectSynchronizedMethods(nestedType, synchronizedMethods);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package sample.cafekiosk.spring.domain.history.mail;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MailOutboxTest {
+
+    @Test
+    @DisplayName("메일을 적재하면 전송 대기 상태이며, 요청 시각에 바로 전송 대상이 된다.")
+    void create() {
+        // Given
+        LocalDateTime requestedDateTime = LocalDateTime.of(2023, 3, 5, 10, 0);
+
+        // When
+        MailOutbox mailOutbox = MailOutbox.create("from@test.com", "to@test.com", "제목", "내용", requestedDateTime);
+
+        // Then
+        assertThat(mailOutbox)
+                .extracting("status", "attemptCount", "nextAttemptDateTime")
+                .contains(MailOutboxStatus.PENDING, 0, requestedDateTime);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달한 메일이 전송에 실패하면 전송 실패로 종료된다.")
+    void markFailedWhenMaxAttempts() {
+        // Given
+        MailOutbox mailOutbox = MailOutbox.create("from@test.com", "to@test.com", "제목", "내용", LocalDateTime.now());
+
+        // When
+        mailOutbox.markFailed("메일 전송", 0, LocalDateTime.now());
+
+        // Then
+        assertThat(mailOutbox)
+                .extracting("status", "lastErrorMessage", "nextAttemptDateTime")
+                .contains(MailOutboxStatus.FAILED, "메일 전송", null);
+    }
+
+    @Test
+    @DisplayName("전송에 성공하면 전송 완료 상태가 되며 전송 시각을 기록한다.")
+    void markSent() {
+        // Given
+        MailOutbox mailOutbox = MailOutbox.create("from@test.com", "to@test.com", "제목", "내용", LocalDateTime.now());
+        LocalDateTime sentDateTime = LocalDateTime.of(2023, 3, 5, 10, 0, 1);
+
+        // When
+        mailOutbox.markSent(sentDateTime);
+
+        // Then
+        assertThat(mailOutbox)
+                .extracting("status", "sentDateTime")
+                .contains(MailOutboxStatus.SENT, sentDateTime);
+    }
+}
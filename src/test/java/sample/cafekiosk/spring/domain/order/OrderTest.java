@@ -7,7 +7,9 @@ import sample.cafekiosk.spring.domain.product.ProductStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static sample.cafekiosk.spring.domain.product.ProductStatus.*;
@@ -51,6 +53,88 @@ class OrderTest {
         assertThat(order.getRegisteredDateTime()).isEqualTo(registeredDateTime);
     }
 
+    @Test
+    @DisplayName("주문 생성 시 같은 상품은 주문 라인 하나로 묶고, 판매 시점의 단가와 수량을 기록한다.")
+    void createOrderProductsWithQuantity() {
+        // Given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = order("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = order("002", HANDMADE, HOLD, "카페라떼", 4500);
+
+        List<Product> products = List.of(product1, product2, product1, product1);
+
+        // When
+        Order order = Order.create(products, registeredDateTime);
+
+        // Then
+        assertThat(order.getTotalPrice()).isEqualTo(16500);
+        assertThat(order.getOrderProducts()).hasSize(2)
+                .extracting("product.productNo", "unitPrice", "quantity", "linePrice")
+                .containsExactly(
+                        tuple("001", 4000, 3, 12000)
+                        , tuple("002", 4500, 1, 4500)
+                );
+    }
+
+    @Test
+    @DisplayName("상품별 수량으로 주문을 생성하면 상품을 수량만큼 펼치지 않고 주문 라인을 만든다.")
+    void createWithProductQuantities() {
+        // Given
+        LocalDateTime registeredDateTime = LocalDateTime.now();
+        Product product1 = order("001", HANDMADE, SELLING, "아메리카노", 4000);
+        Product product2 = order("002", HANDMADE, HOLD, "카페라떼", 4500);
+
+        Map<Product, Integer> productQuantities = new LinkedHashMap<>();
+        productQuantities.put(product1, 1000);
+        productQuantities.put(product2, 2);
+
+        // When
+        Order order = Order.create(productQuantities, registeredDateTime);
+
+        // Then
+        assertThat(order.getTotalPrice()).isEqualTo(4009000);
+        assertThat(order.getOrderProducts()).hasSize(2)
+                .extracting("product.productNo", "quantity", "linePrice")
+                .containsExactly(
+                        tuple("001", 1000, 4000000)
+                        , tuple("002", 2, 9000)
+                );
+    }
+
+    @Test
+    @DisplayName("주문 수량이 최대 주문 수량을 초과하면 주문을 생성할 수 없다.")
+    void createWithExceededQuantity() {
+        // Given
+        Product product = order("001", HANDMADE, SELLING, "아메리카노", 4000);
+
+        // When & Then
+        assertThatThrownBy(() -> Order.create(Map.of(product, 1001), LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 수량은 1000개 이하여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("주문 금액이 int 범위를 넘으면 음수로 넘치지 않고 예외가 발생한다.")
+    void createWithOverflowedPrice() {
+        // Given
+        Product product1 = order("001", HANDMADE, SELLING, "아메리카노", Integer.MAX_VALUE / 2);
+        Product product2 = order("002", HANDMADE, SELLING, "카페라떼", Integer.MAX_VALUE / 2);
+        Product product3 = order("003", HANDMADE, SELLING, "팥빙수", 10);
+
+        Map<Product, Integer> productQuantities = new LinkedHashMap<>();
+        productQuantities.put(product1, 1);
+        productQuantities.put(product2, 1);
+        productQuantities.put(product3, 1);
+
+        // When & Then
+        assertThatThrownBy(() -> Order.create(Map.of(product1, 3), LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 금액이 허용 범위를 초과했습니다.");
+        assertThatThrownBy(() -> Order.create(productQuantities, LocalDateTime.now()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 금액이 허용 범위를 초과했습니다.");
+    }
+
     private Product order(
             String productNo
             , ProductType productType
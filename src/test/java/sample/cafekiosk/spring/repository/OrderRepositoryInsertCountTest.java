@@ -0,0 +1,83 @@
+package sample.cafekiosk.spring.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.config.SqlStatementRecorder;
+import sample.cafekiosk.spring.config.SqlStatementStatistics;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.product.Product;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+/**
+ * 주문 저장 시 실행되는 JDBC 구문 수를 SqlStatementRecorder로 확인한다. (JDBC batch는 1건으로 센다)
+ * - 주문 / 주문 상품은 SEQUENCE 전략(allocationSize 50)으로 ID를 미리 할당받기 때문에 insert가 JDBC batch로 묶인다.
+ * - 처리량은 JMH 벤치마크(OrderInsertBenchmark)로 측정한다.
+ */
+class OrderRepositoryInsertCountTest extends IntegrationTestSupport {
+
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderProductRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        productRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("주문 상품 수와 관계없이 주문 insert 1번, 주문 상품 batch insert 1번과 시퀀스 조회만 실행한다.")
+    @ParameterizedTest(name = "주문당 상품 {0}개")
+    @ValueSource(ints = {1, 10, 100})
+    void saveWithBatchInsert(int itemCount) {
+        // Given
+        Map<Product, Integer> productQuantities = createProductQuantities(itemCount);
+        orderRepository.save(Order.create(productQuantities, LocalDateTime.now()));
+
+        // When
+        SqlStatementStatistics statistics = SqlStatementRecorder.record(
+                () -> orderRepository.save(Order.create(productQuantities, LocalDateTime.now()))
+        );
+
+        // Then
+        // 주문 insert 1 + 주문 상품 batch insert 1 + 시퀀스 조회(50개 단위, 최대 주문 1 + 주문 상품 itemCount / 50 + 1)
+        int maxSequenceCallCount = 1 + itemCount / SEQUENCE_ALLOCATION_SIZE + 1;
+        assertThat(statistics.getStatementCount()).isLessThanOrEqualTo(2 + maxSequenceCallCount);
+        assertThat(orderProductRepository.count()).isEqualTo(itemCount * 2L);
+    }
+
+    private Map<Product, Integer> createProductQuantities(int itemCount) {
+        List<Product> products = productRepository.saveAll(IntStream.rangeClosed(1, itemCount)
+                .mapToObj(i -> Product.builder()
+                        .productNo(String.format("%03d", i))
+                        .productType(HANDMADE)
+                        .productStatus(SELLING)
+                        .productName("상품" + i)
+                        .productPrice(1000)
+                        .build())
+                .collect(Collectors.toList()));
+
+        Map<Product, Integer> productQuantities = new LinkedHashMap<>();
+        products.forEach(product -> productQuantities.put(product, 1));
+        return productQuantities;
+    }
+}
@@ -0,0 +1,87 @@
+package sample.cafekiosk.spring.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import sample.cafekiosk.spring.IntegrationTestSupport;
+import sample.cafekiosk.spring.domain.order.Order;
+import sample.cafekiosk.spring.domain.order.OrderAmountSummary;
+import sample.cafekiosk.spring.domain.order.OrderStatus;
+import sample.cafekiosk.spring.domain.product.Product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.spring.domain.product.ProductStatus.SELLING;
+import static sample.cafekiosk.spring.domain.product.ProductType.HANDMADE;
+
+@Transactional
+class OrderRepositoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("기간과 주문상태로 주문의 매출 합계와 주문 건수를 조회한다.")
+    void findAmountSummaryBy() {
+        // Given
+        List<Product> products = List.of(productRepository.save(createProduct("001", 1000)));
+        orderRepository.saveAll(List.of(
+                createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 4, 23, 59, 59))
+                , createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 0, 0))
+                , createOrder(products, OrderStatus.PAYMENT_COMPLETED, LocalDateTime.of(2023, 3, 5, 23, 59, 59))
+                , createOrder(products, OrderStatus.INIT, LocalDateTime.of(2023, 3, 5, 12, 0))
+        ));
+
+        // When
+        OrderAmountSummary summary = orderRepository.findAmountSummaryBy(
+                LocalDateTime.of(2023, 3, 5, 0, 0)
+                , LocalDateTime.of(2023, 3, 6, 0, 0)
+                , OrderStatus.PAYMENT_COMPLETED
+        );
+
+        // Then
+        assertThat(summary)
+                .extracting("totalAmount", "orderCount")
+                .contains(2000L, 2L);
+    }
+
+    @Test
+    @DisplayName("조회 대상 주문이 없으면 매출 합계와 주문 건수는 0이다.")
+    void findAmountSummaryByWithNoOrder() {
+        // When
+        OrderAmountSummary summary = orderRepository.findAmountSummaryBy(
+                LocalDateTime.of(2023, 3, 5, 0, 0)
+                , LocalDateTime.of(2023, 3, 6, 0, 0)
+                , OrderStatus.PAYMENT_COMPLETED
+        );
+
+        // Then
+        assertThat(summary)
+                .extracting("totalAmount", "orderCount")
+                .contains(0L, 0L);
+    }
+
+    private Order createOrder(List<Product> products, OrderStatus orderStatus, LocalDateTime registeredDateTime) {
+        return Order.builder()
+                .products(products)
+                .orderStatus(orderStatus)
+                .registeredDateTime(registeredDateTime)
+                .build();
+    }
+
+    private Product createProduct(String productNo, int productPrice) {
+        return Product.builder()
+                .productNo(productNo)
+                .productType(HANDMADE)
+                .productStatus(SELLING)
+                .productName("아메리카노")
+                .productPrice(productPrice)
+                .build();
+    }
+}
@@ -102,35 +102,6 @@ class ProductRepositoryTest extends IntegrationTestSupport {
                 );
     }
 
-    @Test
-    @DisplayName("가장 마지막으로 저장한 상품의 상품번호로 읽어온다.")
-    void findLatestProductNo() {
-        String targetProductNo = "003";
-
-        // Given
-        Product product1 = createProduct("001", HANDMADE, SELLING, "아메리카노", 4000);
-        Product product2 = createProduct("002", HANDMADE, HOLD, "카페라떼", 4000);
-        Product product3 = createProduct(targetProductNo, HANDMADE, SOLD_OUT, "팥빙수", 7000);
-
-        productRepository.saveAll(List.of(product1, product2, product3));
-
-        // When
-        String latestProductNo = productRepository.findLatestProductNo();
-
-        // Then
-        assertThat(latestProductNo).isEqualTo(targetProductNo);
-    }
-
-    @Test
-    @DisplayName("가장 마지막으로 저장한 상품의 상품번호로 읽어올 때, 상품이 하나도 없는 경우에는 Null을 반환한다.")
-    void findLatestProductNoWhenProductIsEmpty() {
-        // When
-        String latestProductNo = productRepository.findLatestProductNo();
-
-        // Then
-        assertThat(latestProductNo).isNull();
-    }
-
     private Product createProduct(
             String productNo
             , ProductType productType
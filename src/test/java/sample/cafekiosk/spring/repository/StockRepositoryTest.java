@@ -10,7 +10,9 @@ import sample.cafekiosk.spring.domain.product.ProductStatus;
 import sample.cafekiosk.spring.domain.product.ProductType;
 import sample.cafekiosk.spring.domain.stock.Stock;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -21,6 +23,9 @@ class StockRepositoryTest extends IntegrationTestSupport {
     @Autowired
     private StockRepository stockRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("상품번호 리스트로 재고를 조회한다.")
     void findAllByProductNoIn() {
@@ -43,6 +48,33 @@ class StockRepositoryTest extends IntegrationTestSupport {
                 );
     }
 
+    @Test
+    @DisplayName("상품번호별 수량만큼 재고를 차감하고, 재고가 부족하여 차감하지 못한 상품번호를 반환한다.")
+    void deductQuantities() {
+        // Given
+        Stock stock1 = Stock.create("001", 2);
+        Stock stock2 = Stock.create("002", 1);
+        stockRepository.saveAll(List.of(stock1, stock2));
+
+        // When
+        List<String> failedProductNos = stockRepository.deductQuantities(Map.of(
+                "001", 2
+                , "002", 2
+                , "003", 1
+        ));
+
+        // Then
+        assertThat(failedProductNos).containsExactly("002", "003");
+
+        entityManager.clear();
+        assertThat(stockRepository.findAll())
+                .extracting("productNo", "quantity")
+                .containsExactlyInAnyOrder(
+                        tuple("001", 0),
+                        tuple("002", 1)
+                );
+    }
+
     private Product order(
             String productNo
             , ProductType productType
@@ -0,0 +1,157 @@
+package sample.cafekiosk.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.unit.drink.Americano;
+import sample.cafekiosk.unit.drink.Beverage;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.drink.Latte;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BeverageCartTest {
+
+    @Test
+    @DisplayName("음료를 담으면 음료 종류별 수량과 총 금액이 함께 갱신된다.")
+    void put() {
+        // Given
+        BeverageCart cart = new BeverageCart();
+
+        // When
+        cart.put(new Americano(2));
+        cart.put(BeverageProduct.LATTE, 1);
+
+        // Then
+        assertThat(cart.getCount(BeverageProduct.AMERICANO)).isEqualTo(2);
+        assertThat(cart.getCount(BeverageProduct.LATTE)).isEqualTo(1);
+        assertThat(cart.getBeverageTypeCount()).isEqualTo(2);
+        assertThat(cart.getTotalPrice()).isEqualTo(13000);
+    }
+
+    @Test
+    @DisplayName("이미 담긴 음료를 다시 담으면 수량이 새로 담은 수량으로 바뀌고 총 금액도 그에 맞게 바뀐다.")
+    void putSameBeverage() {
+        // Given
+        BeverageCart cart = new BeverageCart();
+        cart.put(new Americano(3));
+
+        // When
+        cart.put(new Americano(1));
+
+        // Then
+        assertThat(cart.getCount(BeverageProduct.AMERICANO)).isEqualTo(1);
+        assertThat(cart.getBeverageTypeCount()).isEqualTo(1);
+        assertThat(cart.getTotalPrice()).isEqualTo(4000);
+    }
+
+    @Test
+    @DisplayName("음료는 1잔 이상만 담을 수 있다.")
+    void putZeroBeverages() {
+        // Given
+        BeverageCart cart = new BeverageCart();
+
+        // When & Then
+        assertThatThrownBy(() -> cart.put(BeverageProduct.AMERICANO, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("음료는 1잔 이상 주문 가능합니다.");
+        assertThat(cart.getTotalPrice()).isZero();
+    }
+
+    @Test
+    @DisplayName("음료를 빼면 해당 음료의 금액만큼 총 금액이 줄어들고, 담기지 않은 음료를 빼도 변화가 없다.")
+    void remove() {
+        // Given
+        BeverageCart cart = new BeverageCart();
+        cart.put(new Americano(2));
+        cart.put(new Latte(1));
+
+        // When
+        cart.remove(BeverageProduct.AMERICANO);
+        cart.remove(BeverageProduct.AMERICANO);
+
+        // Then
+        assertThat(cart.getBeverageTypeNames()).containsExactly("라떼");
+        assertThat(cart.getBeverageTypeCount()).isEqualTo(1);
+        assertThat(cart.getTotalPrice()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("주문 목록을 비우면 담긴 음료와 총 금액이 모두 초기화된다.")
+    void clear() {
+        // Given
+        BeverageCart cart = new BeverageCart();
+        cart.put(new Americano(2));
+        cart.put(new Latte(1));
+
+        // When
+        cart.clear();
+
+        // Then
+        assertThat(cart.getBeverageTypeNames()).isEmpty();
+        assertThat(cart.getBeverageTypeCount()).isZero();
+        assertThat(cart.getTotalPrice()).isZero();
+    }
+
+    @Test
+    @DisplayName("담긴 음료를 음료명 - Beverage 목록으로 조회할 수 있으며, 조회 이후 주문 목록을 변경해도 조회한 목록은 변하지 않는다.")
+    void toBeverages() {
+        // Given
+        BeverageCart cart = new BeverageCart();
+        cart.put(new Latte(1));
+        cart.put(new Americano(2));
+
+        // When
+        Map<String, Beverage> beverages = cart.toBeverages();
+        cart.clear();
+
+        // Then
+        assertThat(beverages).containsOnlyKeys("아메리카노", "라떼");
+        assertThat(beverages.get("아메리카노"))
+                .isInstanceOf(Americano.class)
+                .extracting(Beverage::getPrice, Beverage::getCount)
+                .containsExactly(4000, 2);
+    }
+
+    @Test
+    @DisplayName("주문 목록이 변경되지 않았다면 스냅샷을 다시 만들어도 같은 스냅샷을 반환한다.")
+    void snapshotWithoutChanges() {
+        // Given
+        BeverageCart cart = new BeverageCart();
+        cart.put(new Americano(2));
+        CartSnapshot snapshot = cart.snapshot();
+
+        // When
+        cart.put(new Americano(2));
+        cart.remove(BeverageProduct.LATTE);
+
+        // Then
+        assertThat(cart.snapshot()).isSameAs(snapshot);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만든 뒤 주문 목록을 변경해도 스냅샷은 변하지 않으며, 변경 이후의 스냅샷과 배열을 공유하지 않는다.")
+    void snapshotIsImmutable() {
+        // Given
+        BeverageCart cart = new BeverageCart();
+        cart.put(new Americano(2));
+        cart.put(new Latte(1));
+        CartSnapshot snapshot = cart.snapshot();
+
+        // When
+        cart.put(new Americano(1));
+        cart.remove(BeverageProduct.LATTE);
+        CartSnapshot changedSnapshot = cart.snapshot();
+        cart.clear();
+
+        // Then
+        assertThat(snapshot.getCount(BeverageProduct.AMERICANO)).isEqualTo(2);
+        assertThat(snapshot.getBeverageTypeNames()).containsExactly("아메리카노", "라떼");
+        assertThat(snapshot.getTotalPrice()).isEqualTo(13000);
+        assertThat(changedSnapshot.getBeverageTypeNames()).containsExactly("아메리카노");
+        assertThat(changedSnapshot.getTotalPrice()).isEqualTo(4000);
+        assertThat(changedSnapshot.sharesStructureWith(snapshot)).isFalse();
+        assertThat(cart.getTotalPrice()).isZero();
+    }
+}
@@ -7,8 +7,13 @@ import sample.cafekiosk.unit.drink.Americano;
 import sample.cafekiosk.unit.drink.BeverageProduct;
 import sample.cafekiosk.unit.drink.Latte;
 import sample.cafekiosk.unit.order.Order;
+import sample.cafekiosk.unit.pricing.PricingEngine;
+import sample.cafekiosk.unit.pricing.PricingRule;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.assertj.core.api.Assertions.*;
@@ -101,6 +106,46 @@ class CafeKioskTest {
         assertThat(totalPrice).isEqualTo(9000);
     }
 
+    @Test
+    @DisplayName("가격 정책이 적용된 키오스크는 주문 시각 기준으로 할인된 총 금액을 계산한다.")
+    void calculateTotalPriceWithPricingRules() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.happyHour(BeverageProduct.AMERICANO, LocalTime.of(14, 0), LocalTime.of(16, 0), 50),
+                PricingRule.bundle(Map.of(BeverageProduct.AMERICANO, 1, BeverageProduct.LATTE, 1), 500)
+        ));
+        CafeKiosk cafeKiosk = new CafeKiosk(pricingEngine);
+        cafeKiosk.put(new Americano());
+        cafeKiosk.put(new Latte());
+
+        // When
+        int totalPrice = cafeKiosk.calculateTotalPrice(LocalDateTime.of(2023, 11, 18, 14, 30));
+
+        // Then
+        assertThat(totalPrice).isEqualTo(6500);
+        assertThat(cafeKiosk.calculateTotalPrice()).isEqualTo(9000);
+    }
+
+    @Test
+    @DisplayName("가격 정책이 적용된 키오스크에서 생성한 주문의 총 금액은 주문 시각 기준으로 할인된 금액이다.")
+    void createOrderWithPricingRules() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.happyHour(BeverageProduct.AMERICANO, LocalTime.of(14, 0), LocalTime.of(16, 0), 50),
+                PricingRule.bundle(Map.of(BeverageProduct.AMERICANO, 1, BeverageProduct.LATTE, 1), 500)
+        ));
+        CafeKiosk cafeKiosk = new CafeKiosk(pricingEngine);
+        cafeKiosk.put(new Americano());
+        cafeKiosk.put(new Latte());
+
+        // When
+        Order order = cafeKiosk.createOrder(LocalDateTime.of(2023, 11, 18, 14, 30));
+
+        // Then
+        assertThat(order.getTotalPrice()).isEqualTo(6500);
+        assertThat(order.getCart().getTotalPrice()).isEqualTo(9000);
+    }
+
     @Test
     @Disabled
     @DisplayName("키오스크 카페 운영시간 내 주문1, 현재 시간으로 테스트하면 않되는 예시의 케이스이며 실패가 발생한다.")
@@ -124,6 +169,23 @@ class CafeKioskTest {
         assertThat(order.getBeverages().keySet()).contains(BeverageProduct.AMERICANO.getBeverageName());
     }
 
+    @Test
+    @DisplayName("주문 생성 이후 키오스크의 주문 목록을 변경해도 생성된 주문의 음료 목록과 총 금액은 변하지 않는다.")
+    void createOrderKeepsSnapshot() {
+        // Given
+        CafeKiosk cafeKiosk = new CafeKiosk();
+        cafeKiosk.put(new Americano());
+        Order order = cafeKiosk.createOrder(LocalDateTime.of(2023, 11, 18, 14, 0));
+
+        // When
+        cafeKiosk.put(new Latte());
+        cafeKiosk.remove(BeverageProduct.AMERICANO);
+
+        // Then
+        assertThat(order.getBeverages()).containsOnlyKeys(BeverageProduct.AMERICANO.getBeverageName());
+        assertThat(order.getTotalPrice()).isEqualTo(4000);
+    }
+
     @Test
     @DisplayName("키오스크 카페 운영시간 외 주문")
     void createOrderOutsideOpenTime() {
@@ -0,0 +1,154 @@
+package sample.cafekiosk.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.unit.drink.Americano;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.drink.Latte;
+import sample.cafekiosk.unit.order.Order;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrentCafeKioskTest {
+
+    private final LocalDateTime openDateTime = LocalDateTime.of(2023, 1, 17, 10, 0);
+
+    @Test
+    @DisplayName("단말기마다 세션을 열면 주문 목록은 세션별로 관리된다.")
+    void openSession() {
+        // Given
+        ConcurrentCafeKiosk cafeKiosk = new ConcurrentCafeKiosk();
+        ConcurrentCafeKiosk.KioskSession terminal1 = cafeKiosk.openSession("terminal-1");
+        ConcurrentCafeKiosk.KioskSession terminal2 = cafeKiosk.openSession("terminal-2");
+
+        // When
+        terminal1.put(new Americano(2));
+        terminal2.put(new Latte(1));
+
+        // Then
+        assertThat(cafeKiosk.getSessionCount()).isEqualTo(2);
+        assertThat(cafeKiosk.openSession("terminal-1")).isSameAs(terminal1);
+        assertThat(terminal1.calculateTotalPrice()).isEqualTo(8000);
+        assertThat(terminal2.calculateTotalPrice()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("주문에는 생성 시점의 주문 목록이 담기고, 이후 세션의 주문 목록을 변경해도 주문은 변하지 않는다.")
+    void createOrder() {
+        // Given
+        ConcurrentCafeKiosk.KioskSession session = new ConcurrentCafeKiosk().openSession("terminal-1");
+        session.put(new Americano());
+
+        // When
+        Order order = session.createOrder(openDateTime);
+        session.clear();
+
+        // Then
+        assertThat(order.getBeverages()).containsOnlyKeys("아메리카노");
+        assertThat(order.getOrderDateTime()).isEqualTo(openDateTime);
+    }
+
+    @Test
+    @DisplayName("영업 시간 이전에는 주문을 생성할 수 없다.")
+    void createOrderOutsideOpenTime() {
+        // Given
+        ConcurrentCafeKiosk.KioskSession session = new ConcurrentCafeKiosk().openSession("terminal-1");
+        session.put(new Americano());
+
+        // When & Then
+        assertThatThrownBy(() -> session.createOrder(LocalDateTime.of(2023, 1, 17, 9, 59)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 시간이 아닙니다. 관리자에게 문의하세요.");
+    }
+
+    @Test
+    @DisplayName("여러 단말기가 동시에 음료를 담고 빼도 각 세션의 주문 목록과 총 금액은 정확하다.")
+    void concurrentSessions() throws Exception {
+        // Given
+        int terminalCount = 16;
+        int iterations = 10_000;
+        ConcurrentCafeKiosk cafeKiosk = new ConcurrentCafeKiosk();
+
+        // When
+        List<Integer> totalPrices = runConcurrently(terminalCount, terminal -> () -> {
+            ConcurrentCafeKiosk.KioskSession session = cafeKiosk.openSession("terminal-" + terminal);
+            for (int i = 0; i < iterations; i++) {
+                session.put(new Americano(1 + terminal));
+                session.put(new Latte(1));
+                session.remove(BeverageProduct.LATTE);
+                session.calculateTotalPrice();
+                session.createOrder(openDateTime);
+            }
+            return session.calculateTotalPrice();
+        });
+
+        // Then
+        assertThat(cafeKiosk.getSessionCount()).isEqualTo(terminalCount);
+        for (int terminal = 0; terminal < terminalCount; terminal++) {
+            assertThat(totalPrices.get(terminal)).isEqualTo(4000 * (1 + terminal));
+        }
+    }
+
+    @Test
+    @DisplayName("같은 세션에 여러 스레드가 동시에 음료를 담아도 담긴 음료가 유실되지 않는다.")
+    void concurrentPutsOnSameSession() throws Exception {
+        // Given
+        ConcurrentCafeKiosk.KioskSession session = new ConcurrentCafeKiosk().openSession("tablet");
+
+        // When
+        runConcurrently(2, thread -> () -> {
+            for (int i = 0; i < 10_000; i++) {
+                session.put(thread == 0 ? new Americano(1) : new Latte(1));
+                session.calculateTotalPrice();
+            }
+            return 0;
+        });
+
+        // Then
+        assertThat(session.getBeverageTypeName()).containsExactlyInAnyOrder("아메리카노", "라떼");
+        assertThat(session.calculateTotalPrice()).isEqualTo(9000);
+    }
+
+    private <T> List<T> runConcurrently(int threadCount, TaskFactory<T> taskFactory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int index = 0; index < threadCount; index++) {
+                Callable<T> task = taskFactory.create(index);
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return task.call();
+                }));
+            }
+
+            ready.await(10, TimeUnit.SECONDS);
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TaskFactory<T> {
+        Callable<T> create(int index);
+    }
+}
@@ -0,0 +1,349 @@
+package sample.cafekiosk.unit.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sample.cafekiosk.unit.CartSnapshot;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+import sample.cafekiosk.unit.order.Order;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.unit.drink.BeverageProduct.AMERICANO;
+import static sample.cafekiosk.unit.drink.BeverageProduct.LATTE;
+
+class OrderJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저널에 기록한 주문은 기록한 순서대로 주문 번호, 주문 일시, 음료 목록이 그대로 복원된다.")
+    void appendAndReplay() throws IOException {
+        // Given
+        List<Order> orders = List.of(
+                createOrder(2, 1),
+                createOrder(1, 0),
+                createOrder(0, 3)
+        );
+
+        // When
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orders.forEach(orderJournal::append);
+        }
+
+        // Then
+        List<Order> replayedOrders = replay();
+        assertThat(replayedOrders)
+                .extracting(Order::getUuid, Order::getOrderDateTime, Order::getCart, Order::getTotalPrice)
+                .containsExactly(
+                        tuple(orders.get(0).getUuid(), orders.get(0).getOrderDateTime(), orders.get(0).getCart(), 13000),
+                        tuple(orders.get(1).getUuid(), orders.get(1).getOrderDateTime(), orders.get(1).getCart(), 4000),
+                        tuple(orders.get(2).getUuid(), orders.get(2).getOrderDateTime(), orders.get(2).getCart(), 15000)
+                );
+        assertThat(replayedOrders.get(0).getBeverages()).containsOnlyKeys("아메리카노", "라떼");
+    }
+
+    @Test
+    @DisplayName("세그먼트 파일이 가득 차면 다음 세그먼트 파일에 이어서 기록하며, 복원 시 모든 세그먼트의 주문이 순서대로 복원된다.")
+    void rollover() throws IOException {
+        // Given
+        List<Order> orders = new ArrayList<>();
+        for (int index = 0; index < 200; index++) {
+            orders.add(createOrder(1 + index % 3, index % 2));
+        }
+
+        // When
+        try (OrderJournal orderJournal = OrderJournal.open(directory, segmentSizeOf(OrderJournal.MIN_SEGMENT_SIZE))) {
+            orders.forEach(orderJournal::append);
+        }
+
+        // Then
+        assertThat(JournalSegment.list(directory)).hasSizeGreaterThan(1);
+        assertThat(replay())
+                .extracting(Order::getUuid)
+                .containsExactlyElementsOf(orders.stream().map(Order::getUuid).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("저널을 다시 열면 마지막으로 기록된 주문 뒤부터 이어서 기록한다.")
+    void reopen() throws IOException {
+        // Given
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orderJournal.append(createOrder(1, 0));
+            orderJournal.append(createOrder(0, 1));
+        }
+
+        // When
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orderJournal.append(createOrder(2, 2));
+        }
+
+        // Then
+        assertThat(replay())
+                .extracting(Order::getTotalPrice)
+                .containsExactly(4000, 5000, 18000);
+        assertThat(JournalSegment.list(directory)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("마지막 주문 기록이 손상되면 손상된 주문 직전까지만 복원하고, 다시 열면 손상된 위치부터 이어서 기록한다.")
+    void corruptedRecord() throws IOException {
+        // Given
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orderJournal.append(createOrder(1, 0));
+            orderJournal.append(createOrder(0, 1));
+            orderJournal.append(createOrder(3, 0));
+        }
+        corruptLastWrittenByte(JournalSegment.list(directory).get(0));
+
+        // When
+        List<Order> replayedOrders = replay();
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orderJournal.append(createOrder(0, 2));
+        }
+
+        // Then
+        assertThat(replayedOrders)
+                .extracting(Order::getTotalPrice)
+                .containsExactly(4000, 5000);
+        assertThat(replay())
+                .extracting(Order::getTotalPrice)
+                .containsExactly(4000, 5000, 10000);
+    }
+
+    @Test
+    @DisplayName("디스크 반영 주기가 0이면 주문마다 디스크에 반영하며, 기록한 주문은 그대로 복원된다.")
+    void forceEveryAppend() throws IOException {
+        // Given
+        OrderJournalOptions options = OrderJournalOptions.builder()
+                .durabilityInterval(Duration.ZERO)
+                .segmentSize(OrderJournal.MIN_SEGMENT_SIZE)
+                .build();
+
+        // When
+        try (OrderJournal orderJournal = OrderJournal.open(directory, options)) {
+            for (int index = 0; index < 100; index++) {
+                orderJournal.append(createOrder(1, 1));
+            }
+        }
+
+        // Then
+        assertThat(replay()).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("닫힌 저널에는 주문을 기록할 수 없다.")
+    void appendAfterClose() throws IOException {
+        // Given
+        OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults());
+        orderJournal.close();
+
+        // When & Then
+        assertThatThrownBy(() -> orderJournal.append(createOrder(1, 0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("닫힌 주문 저널에는 기록할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("저널 디렉토리가 없으면 복원할 주문이 없다.")
+    void replayWithoutJournal() throws IOException {
+        // When
+        long orderCount = OrderJournal.replay(directory.resolve("empty"), order -> {
+        });
+
+        // Then
+        assertThat(orderCount).isZero();
+    }
+
+    @Test
+    @DisplayName("헤더를 기록하기 전에 비정상 종료되어 비어 있는 마지막 세그먼트는 복원 시 건너뛰고, 다시 열면 같은 번호의 세그먼트를 다시 만든다.")
+    void blankLastSegment() throws IOException {
+        // Given
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orderJournal.append(createOrder(1, 0));
+        }
+        Path blankSegmentPath = directory.resolve("orders-0000000002.journal");
+        Files.write(blankSegmentPath, new byte[OrderJournal.MIN_SEGMENT_SIZE]);
+
+        // When
+        List<Order> replayedOrders = replay();
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orderJournal.append(createOrder(0, 1));
+        }
+
+        // Then
+        assertThat(replayedOrders)
+                .extracting(Order::getTotalPrice)
+                .containsExactly(4000);
+        assertThat(JournalSegment.list(directory)).containsExactly(
+                directory.resolve("orders-0000000001.journal"),
+                blankSegmentPath
+        );
+        assertThat(replay())
+                .extracting(Order::getTotalPrice)
+                .containsExactly(4000, 5000);
+    }
+
+    @Test
+    @DisplayName("현재 판매하는 음료보다 많은 음료가 헤더에 기록된 세그먼트도 복원하며, 판매하지 않는 음료가 기록된 주문만 건너뛴다.")
+    void replayWithDiscontinuedProduct() throws IOException {
+        // Given
+        UUID firstUuid = UUID.randomUUID();
+        UUID discontinuedUuid = UUID.randomUUID();
+        UUID lastUuid = UUID.randomUUID();
+        writeSegment(directory.resolve("orders-0000000001.journal"), List.of("AMERICANO", "MOCHA", "LATTE"),
+                record(firstUuid, new byte[]{0, 2}, new int[]{1, 1}),
+                record(discontinuedUuid, new byte[]{0, 1, 2}, new int[]{1, 2, 1}),
+                record(lastUuid, new byte[]{2}, new int[]{2})
+        );
+
+        // When
+        List<Order> replayedOrders = replay();
+
+        // Then
+        assertThat(replayedOrders)
+                .extracting(Order::getUuid, Order::getTotalPrice)
+                .containsExactly(
+                        tuple(firstUuid, 9000),
+                        tuple(lastUuid, 10000)
+                );
+    }
+
+    @Test
+    @DisplayName("가격 정책이 적용된 주문은 주문 시점의 총 금액 그대로 복원된다.")
+    void appendAndReplayWithDiscountedTotalPrice() throws IOException {
+        // Given
+        Order order = new Order(UUID.randomUUID(), LocalDateTime.of(2023, 11, 18, 14, 30), CartSnapshot.of(Map.of(AMERICANO, 1, LATTE, 1)), 6500);
+
+        // When
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orderJournal.append(order);
+        }
+
+        // Then
+        assertThat(replay())
+                .extracting(Order::getUuid, Order::getTotalPrice)
+                .containsExactly(tuple(order.getUuid(), 6500));
+    }
+
+    @Test
+    @DisplayName("총 금액이 기록되지 않은 이전 버전 세그먼트는 정가 합계로 복원하며, 이어서 기록하지 않고 새 세그먼트에 기록한다.")
+    void appendAfterPreviousVersionSegment() throws IOException {
+        // Given
+        UUID previousUuid = UUID.randomUUID();
+        writeSegment(directory.resolve("orders-0000000001.journal"), List.of("AMERICANO", "LATTE"),
+                record(previousUuid, new byte[]{0, 1}, new int[]{1, 1})
+        );
+
+        // When
+        try (OrderJournal orderJournal = OrderJournal.open(directory, OrderJournalOptions.defaults())) {
+            orderJournal.append(createOrder(1, 0));
+        }
+
+        // Then
+        assertThat(JournalSegment.list(directory)).containsExactly(
+                directory.resolve("orders-0000000001.journal"),
+                directory.resolve("orders-0000000002.journal")
+        );
+        assertThat(replay())
+                .extracting(Order::getTotalPrice)
+                .containsExactly(9000, 4000);
+    }
+
+    private List<Order> replay() throws IOException {
+        List<Order> orders = new ArrayList<>();
+        OrderJournal.replay(directory, orders::add);
+        return orders;
+    }
+
+    private static Order createOrder(int americanoCount, int latteCount) {
+        Map<BeverageProduct, Integer> beverageCounts = new EnumMap<>(BeverageProduct.class);
+        if (americanoCount > 0) {
+            beverageCounts.put(AMERICANO, americanoCount);
+        }
+        if (latteCount > 0) {
+            beverageCounts.put(LATTE, latteCount);
+        }
+        return new Order(UUID.randomUUID(), LocalDateTime.of(2023, 11, 18, 14, 0, 0, 123_000_000), CartSnapshot.of(beverageCounts));
+    }
+
+    private static OrderJournalOptions segmentSizeOf(int segmentSize) {
+        return OrderJournalOptions.builder()
+                .segmentSize(segmentSize)
+                .build();
+    }
+
+    /**
+     * 기록된 마지막 byte(마지막 주문의 수량)를 변경하여, 비정상 종료로 기록이 손상된 상황을 만든다.
+     */
+    private static void corruptLastWrittenByte(Path segmentPath) throws IOException {
+        byte[] bytes = Files.readAllBytes(segmentPath);
+        int lastWrittenIndex = bytes.length - 1;
+        while (bytes[lastWrittenIndex] == 0) {
+            lastWrittenIndex--;
+        }
+        bytes[lastWrittenIndex] ^= (byte) 0xFF;
+        Files.write(segmentPath, bytes);
+    }
+
+    /**
+     * 세그먼트 헤더의 음료 목록을 지정하여 VERSION 1(총 금액이 없는 레코드) 세그먼트 파일을 만든다. (판매 음료가 달랐던 이전 버전의 세그먼트)
+     */
+    private static void writeSegment(Path segmentPath, List<String> productNames, ByteBuffer... records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(OrderJournal.MIN_SEGMENT_SIZE);
+        buffer.putInt(0x4B4A524E);
+        buffer.putInt(1);
+        buffer.putShort((short) productNames.size());
+        for (String productName : productNames) {
+            byte[] name = productName.getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+        }
+        for (ByteBuffer record : records) {
+            buffer.put(record);
+        }
+        Files.write(segmentPath, buffer.array());
+    }
+
+    /**
+     * VERSION 1 레코드 구조대로 헤더의 음료 번호와 수량을 기록한 레코드를 만든다.
+     */
+    private static ByteBuffer record(UUID uuid, byte[] productIndexes, int[] counts) {
+        ByteBuffer payload = ByteBuffer.allocate(Long.BYTES * 3 + Integer.BYTES + Byte.BYTES + (Byte.BYTES + Integer.BYTES) * productIndexes.length);
+        payload.putLong(uuid.getMostSignificantBits());
+        payload.putLong(uuid.getLeastSignificantBits());
+        payload.putLong(LocalDateTime.of(2023, 11, 18, 14, 0).toEpochSecond(ZoneOffset.UTC));
+        payload.putInt(0);
+        payload.put((byte) productIndexes.length);
+        for (int line = 0; line < productIndexes.length; line++) {
+            payload.put(productIndexes[line]);
+            payload.putInt(counts[line]);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload.array());
+
+        ByteBuffer record = ByteBuffer.allocate(OrderRecordCodec.RECORD_HEADER_SIZE + payload.capacity());
+        record.putInt(payload.capacity());
+        record.putInt((int) crc.getValue());
+        record.put(payload.array());
+        record.flip();
+        return record;
+    }
+}
@@ -0,0 +1,202 @@
+package sample.cafekiosk.unit.pricing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sample.cafekiosk.unit.drink.BeverageProduct;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static sample.cafekiosk.unit.drink.BeverageProduct.AMERICANO;
+import static sample.cafekiosk.unit.drink.BeverageProduct.LATTE;
+
+class PricingEngineTest {
+
+    private final int[] workspace = new int[BeverageProduct.values().length];
+
+    @Test
+    @DisplayName("규칙이 없으면 단가 x 수량의 합계로 총 금액을 계산한다.")
+    void listPrice() {
+        // When
+        int totalPrice = PricingEngine.listPrice().calculateTotalPrice(counts(2, 1), minuteOf(12, 0), workspace);
+
+        // Then
+        assertThat(totalPrice).isEqualTo(13000);
+    }
+
+    @Test
+    @DisplayName("해피아워 할인은 시작 시간 이상, 종료 시간 미만에만 음료 단가에 적용된다.")
+    void happyHour() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.happyHour(AMERICANO, LocalTime.of(14, 0), LocalTime.of(16, 0), 30)
+        ));
+
+        // When & Then
+        assertThat(pricingEngine.calculateTotalPrice(counts(2, 1), minuteOf(13, 59), workspace)).isEqualTo(13000);
+        assertThat(pricingEngine.calculateTotalPrice(counts(2, 1), minuteOf(14, 0), workspace)).isEqualTo(10600);
+        assertThat(pricingEngine.calculateTotalPrice(counts(2, 1), minuteOf(15, 59), workspace)).isEqualTo(10600);
+        assertThat(pricingEngine.calculateTotalPrice(counts(2, 1), minuteOf(16, 0), workspace)).isEqualTo(13000);
+    }
+
+    @Test
+    @DisplayName("종료 시간이 시작 시간보다 이른 해피아워는 자정을 넘기는 시간대로 적용된다.")
+    void happyHourOverMidnight() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.happyHour(LATTE, LocalTime.of(22, 0), LocalTime.of(2, 0), 50)
+        ));
+
+        // When & Then
+        assertThat(pricingEngine.calculateTotalPrice(counts(0, 1), minuteOf(23, 30), workspace)).isEqualTo(2500);
+        assertThat(pricingEngine.calculateTotalPrice(counts(0, 1), minuteOf(1, 0), workspace)).isEqualTo(2500);
+        assertThat(pricingEngine.calculateTotalPrice(counts(0, 1), minuteOf(2, 0), workspace)).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("해피아워 시간대가 겹치면 할인율이 가장 큰 할인만 적용된다.")
+    void overlappingHappyHours() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.happyHour(AMERICANO, LocalTime.of(14, 0), LocalTime.of(16, 0), 10),
+                PricingRule.happyHour(AMERICANO, LocalTime.of(15, 0), LocalTime.of(17, 0), 25)
+        ));
+
+        // When & Then
+        assertThat(pricingEngine.calculateTotalPrice(counts(1, 0), minuteOf(14, 30), workspace)).isEqualTo(3600);
+        assertThat(pricingEngine.calculateTotalPrice(counts(1, 0), minuteOf(15, 30), workspace)).isEqualTo(3000);
+    }
+
+    @Test
+    @DisplayName("묶음 할인은 할인 금액이 큰 묶음부터, 남은 수량으로 만들 수 있는 묶음 수만큼 적용된다.")
+    void bundle() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.bundle(Map.of(AMERICANO, 1, LATTE, 1), 1000),
+                PricingRule.bundle(Map.of(AMERICANO, 2, LATTE, 1), 2500)
+        ));
+
+        // When
+        int totalPrice = pricingEngine.calculateTotalPrice(counts(3, 2), minuteOf(12, 0), workspace);
+
+        // Then
+        // 정가 22000 - (아메리카노 2 + 라떼 1) 2500 - (아메리카노 1 + 라떼 1) 1000
+        assertThat(totalPrice).isEqualTo(18500);
+    }
+
+    @Test
+    @DisplayName("필요 수량이 같은 묶음 할인은 할인 금액이 가장 큰 묶음 하나로 컴파일된다.")
+    void duplicatedBundles() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.bundle(Map.of(AMERICANO, 1, LATTE, 1), 1000),
+                PricingRule.bundle(Map.of(LATTE, 1, AMERICANO, 1), 1500)
+        ));
+
+        // When
+        int totalPrice = pricingEngine.calculateTotalPrice(counts(1, 1), minuteOf(12, 0), workspace);
+
+        // Then
+        assertThat(pricingEngine.getRuleCount()).isEqualTo(2);
+        assertThat(pricingEngine.getBundleCount()).isEqualTo(1);
+        assertThat(totalPrice).isEqualTo(7500);
+    }
+
+    @Test
+    @DisplayName("음료별 금액은 상한 금액을 넘지 않으며, 상한 규칙이 겹치면 가장 낮은 상한이 적용된다.")
+    void lineCap() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.lineCap(AMERICANO, 12000),
+                PricingRule.lineCap(AMERICANO, 10000)
+        ));
+
+        // When
+        int totalPrice = pricingEngine.calculateTotalPrice(counts(4, 1), minuteOf(12, 0), workspace);
+
+        // Then
+        assertThat(totalPrice).isEqualTo(15000);
+    }
+
+    @Test
+    @DisplayName("상한이 적용된 음료는 묶음 할인에 포함되지 않는다.")
+    void lineCapWithBundle() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.lineCap(AMERICANO, 10000),
+                PricingRule.bundle(Map.of(AMERICANO, 1, LATTE, 1), 1000)
+        ));
+
+        // When
+        int cappedTotalPrice = pricingEngine.calculateTotalPrice(counts(4, 1), minuteOf(12, 0), workspace);
+        int uncappedTotalPrice = pricingEngine.calculateTotalPrice(counts(2, 1), minuteOf(12, 0), workspace);
+
+        // Then
+        // 아메리카노 16000 -> 상한 10000 + 라떼 5000 (묶음 할인 없음)
+        assertThat(cappedTotalPrice).isEqualTo(15000);
+        // 정가 13000 - (아메리카노 1 + 라떼 1) 1000
+        assertThat(uncappedTotalPrice).isEqualTo(12000);
+    }
+
+    @Test
+    @DisplayName("묶음 1개의 할인 금액은 묶음에 포함된 음료의 금액을 넘지 않는다.")
+    void bundleDiscountIsNotGreaterThanBundleAmount() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.bundle(Map.of(AMERICANO, 1), 10000)
+        ));
+
+        // When
+        int totalPrice = pricingEngine.calculateTotalPrice(counts(1, 1), minuteOf(12, 0), workspace);
+
+        // Then
+        // 정가 9000 - 아메리카노 금액 4000 (할인 금액 10000이 아닌 묶음 금액만큼 할인)
+        assertThat(totalPrice).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("총 금액이 int 범위를 넘으면 계산할 수 없다.")
+    void totalPriceOverflow() {
+        // When & Then
+        assertThatThrownBy(() -> PricingEngine.listPrice().calculateTotalPrice(counts(1_000_000, 0), minuteOf(12, 0), workspace))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("주문 금액이 허용 범위를 초과했습니다.");
+    }
+
+    @Test
+    @DisplayName("할인이 정가보다 커도 총 금액은 0원 미만이 되지 않는다.")
+    void totalPriceIsNotNegative() {
+        // Given
+        PricingEngine pricingEngine = PricingEngine.compile(List.of(
+                PricingRule.bundle(Map.of(AMERICANO, 1), 10000)
+        ));
+
+        // When
+        int totalPrice = pricingEngine.calculateTotalPrice(counts(1, 0), minuteOf(12, 0), workspace);
+
+        // Then
+        assertThat(totalPrice).isZero();
+    }
+
+    @Test
+    @DisplayName("해피아워 할인율은 1 이상 100 이하여야 한다.")
+    void invalidDiscountPercent() {
+        // When & Then
+        assertThatThrownBy(() -> PricingRule.happyHour(AMERICANO, LocalTime.of(14, 0), LocalTime.of(16, 0), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("할인율은 1 이상 100 이하여야 합니다.");
+    }
+
+    private static int[] counts(int americanoCount, int latteCount) {
+        int[] counts = new int[BeverageProduct.values().length];
+        counts[AMERICANO.ordinal()] = americanoCount;
+        counts[LATTE.ordinal()] = latteCount;
+        return counts;
+    }
+
+    private static int minuteOf(int hour, int minute) {
+        return hour * 60 + minute;
+    }
+}